@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Evaluates the policy statements of one policy context, trying the collections that grant most often first.
+ *
+ * <p>
+ * A permission is granted if it is not excluded, and it is unchecked or added to one of the roles of the caller.
+ * The excluded policy statements are always checked first, as they take precedence. The unchecked policy statements
+ * and those of the roles of the caller all grant the permission, so the order in which they are tried does not
+ * change the outcome, and this evaluator tries them in the order of how often each of them granted a permission
+ * recently. When most permissions are granted via one role, or are unchecked, most checks then end at the first
+ * collection tried.
+ *
+ * <p>
+ * The statistics are a counter of grants per collection, from which the order is recomputed after about every
+ * {@value #REORDER_INTERVAL} checks by whichever thread makes the check, halving the older counts each time so that the
+ * order follows changes in the traffic. Every collection is paired with a {@link PermissionFilter}, so that a
+ * collection that certainly does not imply a permission is skipped without being checked.
+ *
+ * <pre>{@code
+ *     AdaptivePolicyEvaluator evaluator = AdaptivePolicyEvaluator.of(policyConfiguration);
+ *
+ *     boolean granted = evaluator.implies(permission, principalMapper.getMappedRoles(subject));
+ * }
+ * </pre>
+ */
+public final class AdaptivePolicyEvaluator {
+
+    /**
+     * The average number of checks after which the order is recomputed.
+     */
+    public static final int REORDER_INTERVAL = 1024;
+
+    private static final String UNCHECKED = "";
+
+    private final Statements excluded;
+    private final Statements unchecked;
+    private final Map<String, Statements> roles = new HashMap<>();
+    private final Statements[] collections;
+
+    private final ReentrantLock reorderLock = new ReentrantLock();
+
+    /**
+     * Creates an evaluator of the given policy statements. The collections are not copied, and must not be changed
+     * while the evaluator is in use.
+     *
+     * @param excludedPermissions the excluded policy statements
+     * @param uncheckedPermissions the unchecked policy statements
+     * @param perRolePermissions the policy statements of each role
+     */
+    public AdaptivePolicyEvaluator(PermissionCollection excludedPermissions, PermissionCollection uncheckedPermissions, Map<String, PermissionCollection> perRolePermissions) {
+        excluded = new Statements(null, excludedPermissions == null ? new Permissions() : excludedPermissions);
+        unchecked = new Statements(UNCHECKED, uncheckedPermissions == null ? new Permissions() : uncheckedPermissions);
+
+        List<Statements> all = new ArrayList<>();
+        all.add(unchecked);
+        if (perRolePermissions != null) {
+            for (Map.Entry<String, PermissionCollection> rolePermissions : perRolePermissions.entrySet()) {
+                Statements role = new Statements(rolePermissions.getKey(), rolePermissions.getValue());
+                roles.put(rolePermissions.getKey(), role);
+                all.add(role);
+            }
+        }
+
+        collections = all.toArray(new Statements[0]);
+        for (int i = 0; i < collections.length; i++) {
+            collections[i].rank = i;
+        }
+    }
+
+    /**
+     * Creates an evaluator of the policy statements of the given policy configuration, which is typically in the
+     * "inService" state.
+     *
+     * @param policyConfiguration the policy configuration whose policy statements are evaluated
+     * @return an evaluator of the policy statements of the policy configuration
+     */
+    public static AdaptivePolicyEvaluator of(PolicyConfiguration policyConfiguration) {
+        return new AdaptivePolicyEvaluator(
+            policyConfiguration.getExcludedPermissions(),
+            policyConfiguration.getUncheckedPermissions(),
+            policyConfiguration.getPerRolePermissions());
+    }
+
+    /**
+     * Checks whether the given permission is granted to a caller in the given roles.
+     *
+     * @param permissionToBeChecked the permission to check
+     * @param roleNames the roles of the caller, for instance as mapped by a {@link PrincipalMapper}
+     * @return true if the permission is not excluded, and is unchecked or added to one of the roles, false otherwise
+     */
+    public boolean implies(Permission permissionToBeChecked, Set<String> roleNames) {
+        if (excluded.implies(permissionToBeChecked)) {
+            return false;
+        }
+
+        Statements[] candidates = new Statements[roleNames.size() + 1];
+        int count = 0;
+
+        candidates[count++] = unchecked;
+        for (String roleName : roleNames) {
+            Statements role = roles.get(roleName);
+            if (role != null) {
+                // Insertion sort by rank, which also places the unchecked statements, as a caller typically has few roles
+                int i = count++;
+                for (; i > 0 && candidates[i - 1].rank > role.rank; i--) {
+                    candidates[i] = candidates[i - 1];
+                }
+                candidates[i] = role;
+            }
+        }
+
+        boolean granted = false;
+        for (int i = 0; i < count; i++) {
+            if (candidates[i].implies(permissionToBeChecked)) {
+                candidates[i].grants.increment();
+                granted = true;
+                break;
+            }
+        }
+
+        if ((ThreadLocalRandom.current().nextInt() & (REORDER_INTERVAL - 1)) == 0) {
+            reorder();
+        }
+
+        return granted;
+    }
+
+    /**
+     * Returns the roles, and "" for the unchecked policy statements, in the order in which they are currently tried.
+     *
+     * @return the names of the roles and "" for the unchecked policy statements, in the current order
+     */
+    public List<String> getOrder() {
+        Statements[] ordered = collections.clone();
+        Arrays.sort(ordered, Comparator.comparingInt(statements -> statements.rank));
+
+        List<String> order = new ArrayList<>(ordered.length);
+        for (Statements statements : ordered) {
+            order.add(statements.name);
+        }
+
+        return order;
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private void reorder() {
+        if (!reorderLock.tryLock()) {
+            // Another thread is already reordering
+            return;
+        }
+
+        try {
+            for (Statements statements : collections) {
+                statements.score = statements.score / 2 + statements.grants.sumThenReset();
+            }
+
+            Statements[] ordered = collections.clone();
+            Arrays.sort(ordered, Comparator.comparingDouble((Statements statements) -> statements.score).reversed());
+
+            for (int i = 0; i < ordered.length; i++) {
+                ordered[i].rank = i;
+            }
+        } finally {
+            reorderLock.unlock();
+        }
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static final class Statements {
+
+        final String name;
+        final PermissionCollection permissions;
+        final PermissionFilter filter;
+        final LongAdder grants = new LongAdder();
+
+        // Only written while holding the reorder lock
+        double score;
+
+        // Read without the lock when ordering the candidates of a check, which only affects the order
+        volatile int rank;
+
+        Statements(String name, PermissionCollection permissions) {
+            this.name = name;
+            this.permissions = permissions;
+            this.filter = PermissionFilter.of(permissions);
+        }
+
+        boolean implies(Permission permission) {
+            return filter.mightImply(permission) && permissions.implies(permission);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Principal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import javax.security.auth.Subject;
+
+/**
+ * PolicyFactory that decorates the policies of the factory it wraps, such that the decisions of their implies
+ * methods are recorded in an {@link AuditTrail}.
+ *
+ * <pre>{@code
+ *     AuditTrail auditTrail = new AuditTrail(new FileAuditSink(Path.of("authorization-audit.log")));
+ *     PolicyFactory.setPolicyFactory(new AuditPolicyFactory(PolicyFactory.getPolicyFactory(), auditTrail));
+ * }
+ * </pre>
+ */
+public class AuditPolicyFactory extends DecoratingPolicyFactory<AuditPolicyFactory.AuditPolicy> {
+
+    private final AuditTrail auditTrail;
+
+    /**
+     * Creates a PolicyFactory that decorates the policies of the given factory.
+     *
+     * @param wrapped the PolicyFactory whose policies are decorated
+     * @param auditTrail the audit trail in which the decisions of the policies are recorded
+     */
+    public AuditPolicyFactory(PolicyFactory wrapped, AuditTrail auditTrail) {
+        super(wrapped, AuditPolicy.class);
+
+        if (wrapped == null || auditTrail == null) {
+            throw new IllegalArgumentException("wrapped and auditTrail must not be null");
+        }
+
+        this.auditTrail = auditTrail;
+    }
+
+    @Override
+    AuditPolicy decorate(String contextId, Policy policy) {
+        return new AuditPolicy(contextId, policy, auditTrail);
+    }
+
+    @Override
+    Policy undecorated(AuditPolicy decorator) {
+        return decorator.policy;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    static final class AuditPolicy implements Policy {
+
+        private final String contextID;
+        private final Policy policy;
+        private final AuditTrail auditTrail;
+
+        AuditPolicy(String contextID, Policy policy, AuditTrail auditTrail) {
+            this.contextID = contextID;
+            this.policy = policy;
+            this.auditTrail = auditTrail;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            boolean implied = policy.implies(permissionToBeChecked, subject);
+            auditTrail.record(contextID, permissionToBeChecked, subject, implied);
+
+            return implied;
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesAsync(Permission permissionToBeChecked, Subject subject) {
+            return policy.impliesAsync(permissionToBeChecked, subject).thenApply(implied -> {
+                auditTrail.record(contextID, permissionToBeChecked, subject, implied);
+
+                return implied;
+            });
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked) {
+            boolean implied = policy.implies(permissionToBeChecked);
+            auditTrail.record(contextID, permissionToBeChecked, (Subject) null, implied);
+
+            return implied;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Set<Principal> principals) {
+            boolean implied = policy.implies(permissionToBeChecked, principals);
+            auditTrail.record(contextID, permissionToBeChecked, principals, implied);
+
+            return implied;
+        }
+
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            BitSet implied = policy.implies(permissionsToBeChecked, subject);
+            for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+                auditTrail.record(contextID, permissionsToBeChecked.get(i), subject, implied.get(i));
+            }
+
+            return implied;
+        }
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            return policy.isExcluded(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            return policy.isUnchecked(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            return policy.impliesByRole(permissionToBeChecked, subject);
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesByRoleAsync(Permission permissionToBeChecked, Subject subject) {
+            return policy.impliesByRoleAsync(permissionToBeChecked, subject);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+            return policy.impliesByRole(permissionToBeChecked, principals);
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return policy.getPermissionCollection(subject);
+        }
+
+        @Override
+        public void refresh() {
+            policy.refresh();
+        }
+
+        @Override
+        public long getVersion() {
+            return policy.getVersion();
+        }
+    }
+
+}
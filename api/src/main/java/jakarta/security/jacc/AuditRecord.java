@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A recorded authorization decision, as passed to an {@link AuditSink}.
+ *
+ * <p>
+ * Records are created on the thread that made the decision, and only capture references, so that formatting is left
+ * to the background thread of the {@link AuditTrail}.
+ */
+public final class AuditRecord {
+
+    private final long timeMillis;
+    private final String contextID;
+    private final Permission permission;
+    private final Principal[] principals;
+    private final boolean granted;
+
+    AuditRecord(long timeMillis, String contextID, Permission permission, Principal[] principals, boolean granted) {
+        this.timeMillis = timeMillis;
+        this.contextID = contextID;
+        this.permission = permission;
+        this.principals = principals;
+        this.granted = granted;
+    }
+
+    /**
+     * @return the time at which the decision was made, in milliseconds since the epoch
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * @return the policy context identifier of the policy that made the decision, possibly null
+     */
+    public String getContextID() {
+        return contextID;
+    }
+
+    /**
+     * @return the checked permission
+     */
+    public Permission getPermission() {
+        return permission;
+    }
+
+    /**
+     * @return the principals of the caller at the time of the decision
+     */
+    public List<Principal> getPrincipals() {
+        return Collections.unmodifiableList(Arrays.asList(principals));
+    }
+
+    /**
+     * @return true if the permission was granted, false if it was denied
+     */
+    public boolean isGranted() {
+        return granted;
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the records of an {@link AuditTrail}.
+ *
+ * <p>
+ * The records are passed in batches, in the order in which they were recorded, from the single background thread of
+ * the audit trail. Implementations therefore need not be thread safe, and may block.
+ *
+ * @see FileAuditSink
+ */
+public interface AuditSink extends Closeable {
+
+    /**
+     * Writes a batch of records.
+     *
+     * @param records the records to write; the list is only valid during the call
+     * @throws IOException if the records could not be written
+     */
+    void write(List<AuditRecord> records) throws IOException;
+
+    /**
+     * Closes this sink. Called once by the background thread of the {@link AuditTrail}, after it has written the last
+     * batch of the closed audit trail.
+     *
+     * @throws IOException if the sink could not be closed
+     */
+    @Override
+    default void close() throws IOException {
+    }
+
+}
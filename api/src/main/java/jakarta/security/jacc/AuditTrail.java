@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+import java.io.IOException;
+import java.security.Permission;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import javax.security.auth.Subject;
+
+/**
+ * Asynchronous audit trail for authorization decisions.
+ *
+ * <p>
+ * Decisions are recorded into a bounded lock-free ring buffer, from which a background thread takes them in batches
+ * and passes them to an {@link AuditSink}. Recording a decision does not format or write anything, and does not take
+ * a lock. Grants and denies are sampled independently; by default all denies and no grants are recorded.
+ *
+ * <p>
+ * When the ring buffer is full, the {@link OverflowPolicy} decides whether the decision is dropped, and counted in
+ * {@link #getDroppedRecords()}, or whether the thread recording it waits until there is room.
+ *
+ * @see AuditPolicyFactory
+ */
+public final class AuditTrail implements AutoCloseable {
+
+    /**
+     * What to do with a record when the ring buffer of the audit trail is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Drop the record, and count it as dropped.
+         */
+        DROP,
+
+        /**
+         * Wait until the background thread has made room for the record.
+         */
+        BLOCK
+    }
+
+    private static final System.Logger LOGGER = System.getLogger(AuditTrail.class.getName());
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final long BLOCKED_PARK_NANOS = 10_000;
+    private static final Principal[] NO_PRINCIPALS = new Principal[0];
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final AuditSink sink;
+    private final double grantSamplingRate;
+    private final double denySamplingRate;
+    private final OverflowPolicy overflowPolicy;
+
+    // Bounded multi-producer ring buffer; each slot carries a sequence number that tells producers and the
+    // consumer whose turn it is, so that claiming a slot is a single CAS and publishing it a single volatile write.
+    private final int mask;
+    private final AuditRecord[] slots;
+    private final AtomicLongArray sequences;
+    // The next position to claim, and the CLOSED bit, so that no position can be claimed once the trail is closed
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // Only accessed by the writer thread
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final Thread writer;
+
+    // Set by the writer thread when the sink could not be closed, read by the thread that closed the audit trail
+    private volatile Exception closeFailure;
+
+    /**
+     * Creates an audit trail that records all denies and no grants, drops records when it is full, and writes to
+     * the given sink.
+     *
+     * @param sink the sink to which the records are written
+     */
+    public AuditTrail(AuditSink sink) {
+        this(sink, DEFAULT_CAPACITY, 0, 1, OverflowPolicy.DROP);
+    }
+
+    /**
+     * Creates an audit trail, and starts its background thread.
+     *
+     * @param sink the sink to which the records are written
+     * @param capacity the number of records the ring buffer can hold, rounded up to a power of two
+     * @param grantSamplingRate the fraction of grants that is recorded, between 0 and 1
+     * @param denySamplingRate the fraction of denies that is recorded, between 0 and 1
+     * @param overflowPolicy what to do with records when the ring buffer is full
+     */
+    public AuditTrail(AuditSink sink, int capacity, double grantSamplingRate, double denySamplingRate, OverflowPolicy overflowPolicy) {
+        if (sink == null || overflowPolicy == null) {
+            throw new IllegalArgumentException("sink and overflowPolicy must not be null");
+        }
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("illegal capacity: '" + capacity + "'");
+        }
+        if (!(grantSamplingRate >= 0 && grantSamplingRate <= 1) || !(denySamplingRate >= 0 && denySamplingRate <= 1)) {
+            throw new IllegalArgumentException("sampling rates must be between 0 and 1");
+        }
+
+        this.sink = sink;
+        this.grantSamplingRate = grantSamplingRate;
+        this.denySamplingRate = denySamplingRate;
+        this.overflowPolicy = overflowPolicy;
+
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        mask = size - 1;
+        slots = new AuditRecord[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+
+        writer = new Thread(this::writeRecords, "jakarta-authorization-audit");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Records a decision, subject to sampling.
+     *
+     * @param contextID the policy context identifier of the policy that made the decision
+     * @param permission the checked permission
+     * @param subject the subject holding the principals of the caller, possibly null
+     * @param granted true if the permission was granted, false if it was denied
+     */
+    public void record(String contextID, Permission permission, Subject subject, boolean granted) {
+        if (isSampled(granted)) {
+            offer(new AuditRecord(System.currentTimeMillis(), contextID, permission,
+                subject == null ? NO_PRINCIPALS : subject.getPrincipals().toArray(NO_PRINCIPALS), granted));
+        }
+    }
+
+    /**
+     * Records a decision, subject to sampling.
+     *
+     * @param contextID the policy context identifier of the policy that made the decision
+     * @param permission the checked permission
+     * @param principals the principals of the caller, possibly null
+     * @param granted true if the permission was granted, false if it was denied
+     */
+    public void record(String contextID, Permission permission, Set<Principal> principals, boolean granted) {
+        if (isSampled(granted)) {
+            offer(new AuditRecord(System.currentTimeMillis(), contextID, permission,
+                principals == null ? NO_PRINCIPALS : principals.toArray(NO_PRINCIPALS), granted));
+        }
+    }
+
+    /**
+     * @return the number of records that were dropped because the ring buffer was full or the audit trail closed
+     */
+    public long getDroppedRecords() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of records that could not be written because the sink threw an exception
+     */
+    public long getFailedRecords() {
+        return failed.sum();
+    }
+
+    /**
+     * Stops recording, and waits until the background thread has written all records that were recorded and closed
+     * the sink. Records offered after the audit trail was closed are dropped. Only the first call closes the audit
+     * trail; other calls return at once. If the calling thread is interrupted while waiting, this method returns, and
+     * the background thread still closes the sink once it has written the remaining records.
+     *
+     * @throws IOException if the sink could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if ((tail.getAndUpdate(position -> position | CLOSED) & CLOSED) != 0) {
+            return;
+        }
+
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Exception failure = closeFailure;
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private boolean isSampled(boolean granted) {
+        double rate = granted ? grantSamplingRate : denySamplingRate;
+
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void offer(AuditRecord record) {
+        while ((tail.get() & CLOSED) == 0) {
+            if (tryOffer(record)) {
+                return;
+            }
+
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                break;
+            }
+
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+
+        dropped.increment();
+    }
+
+    /**
+     * Claims a position and publishes the record in its slot, unless the ring buffer is full or closed. Claiming
+     * compares the whole tail, so a position can only be claimed while the CLOSED bit is not set.
+     */
+    private boolean tryOffer(AuditRecord record) {
+        long position = tail.get();
+        while (true) {
+            if ((position & CLOSED) != 0) {
+                return false;
+            }
+
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = record;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // Full
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private AuditRecord poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+
+        AuditRecord record = slots[index];
+        slots[index] = null;
+        sequences.set(index, head + mask + 1);
+        head++;
+
+        return record;
+    }
+
+    private void writeRecords() {
+        List<AuditRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (true) {
+            for (AuditRecord record; batch.size() < MAX_BATCH_SIZE && (record = poll()) != null;) {
+                batch.add(record);
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    sink.write(batch);
+                } catch (IOException | RuntimeException e) {
+                    failed.add(batch.size());
+                    LOGGER.log(WARNING, "Could not write " + batch.size() + " audit records", e);
+                }
+                batch.clear();
+            } else if (tail.get() == (head | CLOSED)) {
+                // Closed, and every claimed position was published and written
+                closeSink();
+                return;
+            } else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void closeSink() {
+        try {
+            sink.close();
+        } catch (IOException | RuntimeException e) {
+            closeFailure = e;
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.util.Optional;
+
+/**
+ * Entry point for the JDK Flight Recorder events of this API.
+ *
+ * <p>
+ * The jdk.jfr module is an optional dependency. This class does not refer to it, and only delegates to
+ * {@link FlightRecorderEvents} when that module is available. Each event is started by a begin method, which returns
+ * null when the event is not enabled in any recording, and is ended and possibly committed by the corresponding end
+ * method. When no recording is running, the cost is a check of a static final field and of the enabled state of
+ * the event type.
+ */
+final class AuthorizationEvents {
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    private AuthorizationEvents() {
+    }
+
+    static Object beginDecision() {
+        return AVAILABLE ? FlightRecorderEvents.beginDecision() : null;
+    }
+
+    static void endDecision(Object event, String check, Permission permission, boolean outcome) {
+        if (event != null) {
+            FlightRecorderEvents.endDecision(event, check, permission, outcome);
+        }
+    }
+
+    static Object beginCommit() {
+        return AVAILABLE ? FlightRecorderEvents.beginCommit() : null;
+    }
+
+    static void endCommit(Object event, PolicyConfiguration policyConfiguration) {
+        if (event != null) {
+            FlightRecorderEvents.endCommit(event, policyConfiguration);
+        }
+    }
+
+    static Object beginLink() {
+        return AVAILABLE ? FlightRecorderEvents.beginLink() : null;
+    }
+
+    static void endLink(Object event, PolicyConfiguration policyConfiguration, PolicyConfiguration link) {
+        if (event != null) {
+            FlightRecorderEvents.endLink(event, policyConfiguration, link);
+        }
+    }
+
+    static Object beginHandlerInvocation() {
+        return AVAILABLE ? FlightRecorderEvents.beginHandlerInvocation() : null;
+    }
+
+    static void endHandlerInvocation(Object event, String key, PolicyContextHandler handler) {
+        if (event != null) {
+            FlightRecorderEvents.endHandlerInvocation(event, key, handler);
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Optional<Module> flightRecorder = ModuleLayer.boot().findModule("jdk.jfr");
+            if (flightRecorder.isEmpty() || !AuthorizationEvents.class.getModule().canRead(flightRecorder.get())) {
+                return false;
+            }
+
+            // Fails when the jdk.jfr package is not visible, for instance when its optional OSGi import is not wired
+            return FlightRecorderEvents.initialize();
+        } catch (LinkageError | SecurityException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+
+/**
+ * Receiver of the statistics of the authorization decisions made by a {@link Policy}.
+ *
+ * <p>
+ * Implementations are called on the thread that makes the decision, for every decision, and must therefore be
+ * thread safe and cheap. They are installed by decorating the policies of a PolicyFactory with a
+ * {@link MetricsPolicyFactory}. {@link DefaultAuthorizationMetrics} is an implementation that aggregates the
+ * statistics in memory and exposes them via JMX.
+ *
+ * @see MetricsPolicyFactory
+ */
+public interface AuthorizationMetrics {
+
+    /**
+     * Records a decision made by {@link Policy#implies(Permission, javax.security.auth.Subject)} or one of the other
+     * implies methods.
+     *
+     * @param contextID the policy context identifier of the policy that made the decision, possibly null
+     * @param permissionType the class of the checked permission
+     * @param granted true if the permission was granted, false if it was denied
+     * @param nanos the time it took to make the decision, in nanoseconds
+     */
+    void recordDecision(String contextID, Class<? extends Permission> permissionType, boolean granted, long nanos);
+
+    /**
+     * Records a check of {@link Policy#isExcluded(Permission)}.
+     *
+     * @param contextID the policy context identifier of the policy that made the check, possibly null
+     * @param permissionType the class of the checked permission
+     * @param excluded true if the permission was excluded
+     */
+    default void recordExcludedCheck(String contextID, Class<? extends Permission> permissionType, boolean excluded) {
+    }
+
+    /**
+     * Records a check of {@link Policy#isUnchecked(Permission)}.
+     *
+     * @param contextID the policy context identifier of the policy that made the check, possibly null
+     * @param permissionType the class of the checked permission
+     * @param unchecked true if the permission was unchecked
+     */
+    default void recordUncheckedCheck(String contextID, Class<? extends Permission> permissionType, boolean unchecked) {
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.util.List;
+
+/**
+ * Management interface of {@link DefaultAuthorizationMetrics}, registered under the object name
+ * {@value #OBJECT_NAME}.
+ */
+public interface AuthorizationMetricsMXBean {
+
+    /**
+     * The object name under which {@link DefaultAuthorizationMetrics#registerMBean()} registers the metrics.
+     */
+    String OBJECT_NAME = "jakarta.security.jacc:type=AuthorizationMetrics";
+
+    /**
+     * Returns the policy context identifiers for which decisions were recorded. Decisions made without a policy
+     * context identifier are recorded under the empty String.
+     *
+     * @return the policy context identifiers for which decisions were recorded
+     */
+    List<String> getContextIDs();
+
+    /**
+     * Returns the statistics per policy context identifier and permission class, in descending order of the total
+     * time spent making decisions.
+     *
+     * @return the statistics of all recorded decisions
+     */
+    List<DecisionStatistics> getStatistics();
+
+    /**
+     * Returns the statistics per permission class of the given policy context, in descending order of the total time
+     * spent making decisions.
+     *
+     * @param contextID the policy context identifier
+     * @return the statistics of the decisions recorded for the policy context, or an empty list
+     */
+    List<DecisionStatistics> getStatistics(String contextID);
+
+    /**
+     * Returns the total time spent making decisions for the given policy context.
+     *
+     * @param contextID the policy context identifier
+     * @return the total time in nanoseconds, or 0 if no decisions were recorded for the policy context
+     */
+    long getTotalDecisionNanos(String contextID);
+
+    /**
+     * Discards all recorded statistics.
+     */
+    void reset();
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Principal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import javax.security.auth.Subject;
+
+/**
+ * The default implementation of {@link Policy#implies(List, Subject)}.
+ */
+final class BatchAuthorization {
+
+    private BatchAuthorization() {
+    }
+
+    static BitSet implies(Policy policy, List<? extends Permission> permissionsToBeChecked, Subject subject) {
+        DefaultImplies defaults = DefaultImplies.of(policy);
+
+        if (!defaults.subject) {
+            BitSet results = new BitSet(permissionsToBeChecked.size());
+            for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+                results.set(i, policy.implies(permissionsToBeChecked.get(i), subject));
+            }
+
+            return results;
+        }
+
+        return impliesByDefault(policy, defaults, permissionsToBeChecked, subject, true);
+    }
+
+    /**
+     * Runs the default algorithm with the isExcluded, isUnchecked, getPermissionCollection and impliesByRole methods of
+     * the given policy. The given default methods, of the policy or of the policy it decorates, tell whether the roles
+     * are checked with the principals rather than with the subject. When recordEvents is true, each decision and check
+     * is recorded as a Flight Recorder event, as the default {@link Policy#implies(Permission, Subject)} method
+     * records them.
+     */
+    static BitSet impliesByDefault(Policy policy, DefaultImplies defaults, List<? extends Permission> permissionsToBeChecked, Subject subject, boolean recordEvents) {
+        BitSet results = new BitSet(permissionsToBeChecked.size());
+
+        // Resolve the principals once for a policy that checks the roles of principals without a Subject
+        Set<Principal> principals = subject == null || defaults.principalsByRole ? null : Set.copyOf(subject.getPrincipals());
+
+        IndexedPermissions callerPermissions = null;
+        IndexedPermissions.Lookups lookups = null;
+        boolean perPermission = false;
+
+        for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+            Permission permission = permissionsToBeChecked.get(i);
+            Object decision = recordEvents ? AuthorizationEvents.beginDecision() : null;
+
+            boolean implied;
+            if (isExcluded(policy, permission, recordEvents)) {
+                implied = false;
+            } else if (isUnchecked(policy, permission, recordEvents)) {
+                implied = true;
+            } else {
+                if (callerPermissions == null && !perPermission) {
+                    // Obtain the permissions of the caller once for the whole batch
+                    PermissionCollection permissions = policy.getPermissionCollection(subject);
+                    if (permissions == null) {
+                        perPermission = true;
+                    } else {
+                        callerPermissions = new IndexedPermissions(permissions);
+                        lookups = IndexedPermissions.newLookups();
+                    }
+                }
+
+                // The collection may hold fewer permissions than impliesByRole grants, so it can only confirm a grant
+                implied =
+                    (!perPermission && callerPermissions.implies(permission, lookups)) ||
+                    impliesByRole(policy, permission, subject, principals, recordEvents);
+            }
+
+            AuthorizationEvents.endDecision(decision, "implies", permission, implied);
+            results.set(i, implied);
+        }
+
+        return results;
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static boolean isExcluded(Policy policy, Permission permission, boolean recordEvents) {
+        Object decision = recordEvents ? AuthorizationEvents.beginDecision() : null;
+        boolean excluded = policy.isExcluded(permission);
+        AuthorizationEvents.endDecision(decision, "isExcluded", permission, excluded);
+
+        return excluded;
+    }
+
+    private static boolean isUnchecked(Policy policy, Permission permission, boolean recordEvents) {
+        Object decision = recordEvents ? AuthorizationEvents.beginDecision() : null;
+        boolean unchecked = policy.isUnchecked(permission);
+        AuthorizationEvents.endDecision(decision, "isUnchecked", permission, unchecked);
+
+        return unchecked;
+    }
+
+    private static boolean impliesByRole(Policy policy, Permission permission, Subject subject, Set<Principal> principals, boolean recordEvents) {
+        Object decision = recordEvents ? AuthorizationEvents.beginDecision() : null;
+        boolean implied = principals == null ? policy.impliesByRole(permission, subject) : policy.impliesByRole(permission, principals);
+        AuthorizationEvents.endDecision(decision, "impliesByRole", permission, implied);
+
+        return implied;
+    }
+
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import javax.security.auth.Subject;
+
+/**
+ * PolicyFactory that decorates the policies of the factory it wraps with a small per-thread cache of their recent
+ * decisions.
+ *
+ * <p>
+ * Request threads tend to repeat the same checks, such as those for the static resources of a page requested by the
+ * same caller. Each thread keeps a small table of {@value #THREAD_CACHE_SIZE} entries per policy, in which a decision
+ * is stored under a single long combining the identifier of the permission, as given by a {@link PermissionInterner},
+ * and the identifier of the set of roles of the caller, as given by a {@link CachingPrincipalMapper}, together with
+ * the version of the policy at which it was made. A lookup is then a few array accesses without any synchronization,
+ * and a new version invalidates all tables of the policy at once.
+ *
+ * <p>
+ * The version is the highest of that returned by {@link Policy#getVersion()} of the decorated policy, and the
+ * {@link PolicyEpoch} of its policy context, which the {@link Policy#refresh()} method of the decorated policies
+ * and {@link #setPolicy(String, Policy)} advance, as do the commit, link and delete of its policy configuration.
+ * Changing the policy of one context thereby leaves the decisions cached for the others valid.
+ *
+ * <p>
+ * Optionally, decisions missing from the table of a thread are looked up in a {@link DecisionCache} shared by all
+ * threads, which bounds the number of decisions it keeps per policy context, and only then made by the decorated policy.
+ *
+ * <p>
+ * Containers can check web permissions with {@link #impliesWebResource(String, HttpServletRequest, Subject)} and
+ * {@link #impliesWebUserData(String, HttpServletRequest, Subject)}, which cache decisions under the request URI minus
+ * the context path, the HTTP method and whether the request is secure, so that the WebResourcePermission or
+ * WebUserDataPermission is only constructed when the decision is not cached.
+ *
+ * <p>
+ * As decisions are cached per set of roles, this factory must only be used for policies whose decisions depend on
+ * nothing but the permission and the roles of the caller. The roles of a caller are mapped by the PrincipalMapper of
+ * the policy context, as each module can map groups to roles differently. The factory obtains the
+ * {@link CachingPrincipalMapper} of a policy context when it decorates the policy of that context, and leaves the
+ * policy undecorated if there is none, for instance from a map that the container fills when it deploys a module:
+ *
+ * <pre>{@code
+ *     Map<String, CachingPrincipalMapper> principalMappers = new ConcurrentHashMap<>();
+ *     PolicyFactory.setPolicyFactory(new CachingPolicyFactory(PolicyFactory.getPolicyFactory(), principalMappers::get));
+ *
+ *     // When deploying the module of a policy context
+ *     principalMappers.put(contextId, new CachingPrincipalMapper(principalMapper));
+ * }
+ * </pre>
+ */
+public class CachingPolicyFactory extends DecoratingPolicyFactory<CachingPolicyFactory.CachingPolicy> {
+
+    /**
+     * The number of decisions each thread caches per policy.
+     */
+    public static final int THREAD_CACHE_SIZE = 64;
+
+    private final Function<String, ? extends CachingPrincipalMapper> principalMappers;
+    private final DecisionCache decisionCache;
+
+    /**
+     * Creates a PolicyFactory that decorates the policies of the given factory.
+     *
+     * @param wrapped the PolicyFactory whose policies are decorated
+     * @param principalMappers returns for a policy context identifier the PrincipalMapper by which the roles of
+     * callers in that policy context are identified, or null to leave the policy of that context undecorated
+     */
+    public CachingPolicyFactory(PolicyFactory wrapped, Function<String, ? extends CachingPrincipalMapper> principalMappers) {
+        this(wrapped, principalMappers, null);
+    }
+
+    /**
+     * Creates a PolicyFactory that decorates the policies of the given factory, and shares their decisions between
+     * threads in the given decision cache.
+     *
+     * @param wrapped the PolicyFactory whose policies are decorated
+     * @param principalMappers returns for a policy context identifier the PrincipalMapper by which the roles of
+     * callers in that policy context are identified, or null to leave the policy of that context undecorated
+     * @param decisionCache the cache in which decisions are shared between threads, or null to only cache per thread
+     */
+    public CachingPolicyFactory(PolicyFactory wrapped, Function<String, ? extends CachingPrincipalMapper> principalMappers, DecisionCache decisionCache) {
+        super(wrapped, CachingPolicy.class);
+
+        if (wrapped == null || principalMappers == null) {
+            throw new IllegalArgumentException("wrapped and principalMappers must not be null");
+        }
+
+        this.principalMappers = principalMappers;
+        this.decisionCache = decisionCache;
+    }
+
+    /**
+     * Returns the cache in which decisions are shared between threads.
+     *
+     * @return the decision cache of this factory, or null if decisions are only cached per thread
+     */
+    public DecisionCache getDecisionCache() {
+        return decisionCache;
+    }
+
+    /**
+     * Checks the WebResourcePermission for the given request, constructing it only if the decision is not cached.
+     *
+     * @param contextId the policy context identifier of the web module
+     * @param request the request for which the permission is checked
+     * @param subject the subject of the caller, or null for an unauthenticated caller
+     * @return true if the policy of the context grants the permission, false otherwise or if there is no such policy
+     */
+    public boolean impliesWebResource(String contextId, HttpServletRequest request, Subject subject) {
+        return impliesWebRequest(contextId, WebRequestKey.webResource(request), request, subject);
+    }
+
+    /**
+     * Checks the WebUserDataPermission for the given request, constructing it only if the decision is not cached.
+     *
+     * @param contextId the policy context identifier of the web module
+     * @param request the request for which the permission is checked
+     * @param subject the subject of the caller, or null for an unauthenticated caller
+     * @return true if the policy of the context grants the permission, false otherwise or if there is no such policy
+     */
+    public boolean impliesWebUserData(String contextId, HttpServletRequest request, Subject subject) {
+        return impliesWebRequest(contextId, WebRequestKey.webUserData(request), request, subject);
+    }
+
+    @Override
+    public void setPolicy(String contextId, Policy policy) {
+        super.setPolicy(contextId, policy);
+        PolicyEpoch.advance(contextId);
+    }
+
+    @Override
+    CachingPolicy decorate(String contextId, Policy policy) {
+        CachingPrincipalMapper principalMapper = principalMappers.apply(contextId);
+        if (principalMapper == null) {
+            return null;
+        }
+
+        return new CachingPolicy(contextId, policy, principalMapper, decisionCache);
+    }
+
+    @Override
+    Policy undecorated(CachingPolicy decorator) {
+        return decorator.policy;
+    }
+
+    @Override
+    void discarded(String contextId, CachingPolicy decorator) {
+        // The wrapped factory replaced or removed the policy, so decisions of the previous one must not be returned
+        PolicyEpoch.advance(contextId);
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private boolean impliesWebRequest(String contextId, WebRequestKey key, HttpServletRequest request, Subject subject) {
+        Policy policy = getPolicy(contextId);
+        if (policy == null) {
+            return false;
+        }
+
+        if (policy instanceof CachingPolicy) {
+            return ((CachingPolicy) policy).impliesWebRequest(key, request, subject);
+        }
+
+        return policy.implies(key.toPermission(request), subject);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    static final class CachingPolicy implements Policy {
+
+        private final String contextID;
+        private final Policy policy;
+        private final CachingPrincipalMapper principalMapper;
+        private final DecisionCache decisionCache;
+        private final PermissionInterner permissionInterner = new PermissionInterner();
+        private final ThreadLocal<DecisionTable> decisions = ThreadLocal.withInitial(DecisionTable::new);
+
+        CachingPolicy(String contextID, Policy policy, CachingPrincipalMapper principalMapper, DecisionCache decisionCache) {
+            this.contextID = contextID;
+            this.policy = policy;
+            this.principalMapper = principalMapper;
+            this.decisionCache = decisionCache;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            long epoch = getVersion();
+            long roleSetId = principalMapper.getRoleSetId(subject);
+            long decisionKey = decisionKey(permissionToBeChecked, roleSetId, epoch);
+
+            Boolean cached = cachedDecision(decisionKey, permissionToBeChecked, roleSetId, epoch);
+            if (cached != null) {
+                return cached;
+            }
+
+            boolean implied = policy.implies(permissionToBeChecked, subject);
+            cacheDecision(decisionKey, permissionToBeChecked, permissionToBeChecked, roleSetId, epoch, implied);
+
+            return implied;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked) {
+            long epoch = getVersion();
+            long roleSetId = principalMapper.getRoleSetId((Subject) null);
+            long decisionKey = decisionKey(permissionToBeChecked, roleSetId, epoch);
+
+            Boolean cached = cachedDecision(decisionKey, permissionToBeChecked, roleSetId, epoch);
+            if (cached != null) {
+                return cached;
+            }
+
+            boolean implied = policy.implies(permissionToBeChecked);
+            cacheDecision(decisionKey, permissionToBeChecked, permissionToBeChecked, roleSetId, epoch, implied);
+
+            return implied;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Set<Principal> principals) {
+            long epoch = getVersion();
+            long roleSetId = principalMapper.getRoleSetId(principals);
+            long decisionKey = decisionKey(permissionToBeChecked, roleSetId, epoch);
+
+            Boolean cached = cachedDecision(decisionKey, permissionToBeChecked, roleSetId, epoch);
+            if (cached != null) {
+                return cached;
+            }
+
+            boolean implied = policy.implies(permissionToBeChecked, principals);
+            cacheDecision(decisionKey, permissionToBeChecked, permissionToBeChecked, roleSetId, epoch, implied);
+
+            return implied;
+        }
+
+        /**
+         * Checks the permissions whose decisions are not cached with one batch check of the decorated policy.
+         */
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            long epoch = getVersion();
+            long roleSetId = principalMapper.getRoleSetId(subject);
+
+            BitSet implied = new BitSet(permissionsToBeChecked.size());
+            List<Permission> uncached = new ArrayList<>();
+            int[] uncachedIndexes = new int[permissionsToBeChecked.size()];
+            long[] uncachedDecisionKeys = new long[permissionsToBeChecked.size()];
+
+            for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+                Permission permissionToBeChecked = permissionsToBeChecked.get(i);
+                long decisionKey = decisionKey(permissionToBeChecked, roleSetId, epoch);
+
+                Boolean cached = cachedDecision(decisionKey, permissionToBeChecked, roleSetId, epoch);
+                if (cached != null) {
+                    implied.set(i, cached);
+                } else {
+                    uncachedIndexes[uncached.size()] = i;
+                    uncachedDecisionKeys[uncached.size()] = decisionKey;
+                    uncached.add(permissionToBeChecked);
+                }
+            }
+
+            if (uncached.isEmpty()) {
+                return implied;
+            }
+
+            BitSet decided = policy.implies(uncached, subject);
+            for (int j = 0; j < uncached.size(); j++) {
+                Permission permissionToBeChecked = uncached.get(j);
+                cacheDecision(uncachedDecisionKeys[j], permissionToBeChecked, permissionToBeChecked, roleSetId, epoch, decided.get(j));
+                implied.set(uncachedIndexes[j], decided.get(j));
+            }
+
+            return implied;
+        }
+
+        /**
+         * Completes at once when the decision is cached. Otherwise the decision of the decorated policy is cached when
+         * it completes, under the epoch read before the check, so that a decision made while the policy changes is not
+         * returned for the new epoch.
+         */
+        @Override
+        public CompletionStage<Boolean> impliesAsync(Permission permissionToBeChecked, Subject subject) {
+            long epoch = getVersion();
+            long roleSetId = principalMapper.getRoleSetId(subject);
+            long decisionKey = decisionKey(permissionToBeChecked, roleSetId, epoch);
+
+            Boolean cached = cachedDecision(decisionKey, permissionToBeChecked, roleSetId, epoch);
+            if (cached != null) {
+                return CompletableFuture.completedStage(cached);
+            }
+
+            return policy.impliesAsync(permissionToBeChecked, subject).thenApply(implied -> {
+                cacheDecision(decisionKey, permissionToBeChecked, permissionToBeChecked, roleSetId, epoch, implied);
+                return implied;
+            });
+        }
+
+        boolean impliesWebRequest(WebRequestKey key, HttpServletRequest request, Subject subject) {
+            long epoch = getVersion();
+            long roleSetId = principalMapper.getRoleSetId(subject);
+            long decisionKey = decisionKey(key, roleSetId, epoch);
+
+            Boolean cached = cachedDecision(decisionKey, key, roleSetId, epoch);
+            if (cached != null) {
+                return cached;
+            }
+
+            // Only now that the decision is not cached, construct the permission
+            Permission permissionToBeChecked = key.toPermission(request);
+            boolean implied = policy.implies(permissionToBeChecked, subject);
+            cacheDecision(decisionKey, key, permissionToBeChecked, roleSetId, epoch, implied);
+
+            return implied;
+        }
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            return policy.isExcluded(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            return policy.isUnchecked(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            return policy.impliesByRole(permissionToBeChecked, subject);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+            return policy.impliesByRole(permissionToBeChecked, principals);
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesByRoleAsync(Permission permissionToBeChecked, Subject subject) {
+            return policy.impliesByRoleAsync(permissionToBeChecked, subject);
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return policy.getPermissionCollection(subject);
+        }
+
+        @Override
+        public void refresh() {
+            policy.refresh();
+            PolicyEpoch.advance(contextID);
+        }
+
+        /**
+         * Returns the highest of the version of the decorated policy and the epoch of its policy context, so that
+         * the decisions of a policy that keeps its own version are invalidated by a new epoch of its context as well.
+         */
+        @Override
+        public long getVersion() {
+            return Math.max(policy.getVersion(), PolicyEpoch.current(contextID));
+        }
+
+        /**
+         * Returns the key of the decision in the table of a thread, or 0 if the permission got no identifier, in which
+         * case the decision is not cached in the table.
+         */
+        private long decisionKey(Object permissionOrRequestKey, long roleSetId, long epoch) {
+            return PermissionInterner.decisionKey(permissionInterner.getId(permissionOrRequestKey, epoch), roleSetId);
+        }
+
+        private Boolean cachedDecision(long decisionKey, Object permissionOrRequestKey, long roleSetId, long epoch) {
+            DecisionTable table = decisions.get();
+            if (decisionKey != 0) {
+                int slot = table.find(decisionKey, epoch);
+                if (slot >= 0) {
+                    return table.decisions[slot];
+                }
+            }
+
+            if (decisionCache == null) {
+                return null;
+            }
+
+            Boolean shared = decisionCache.get(contextID, permissionOrRequestKey, roleSetId, epoch);
+            if (shared != null && decisionKey != 0) {
+                table.put(decisionKey, epoch, shared);
+            }
+
+            return shared;
+        }
+
+        private void cacheDecision(long decisionKey, Object permissionOrRequestKey, Permission permission, long roleSetId, long epoch, boolean implied) {
+            if (decisionKey != 0) {
+                decisions.get().put(decisionKey, epoch, implied);
+            }
+            if (decisionCache != null) {
+                decisionCache.put(contextID, permissionOrRequestKey, permission, roleSetId, epoch, implied);
+            }
+        }
+    }
+
+    /**
+     * Open-addressing table of decisions keyed by {@link PermissionInterner#decisionKey(int, long)}, only accessed by
+     * the thread that owns it. A key is looked for in a few consecutive slots from its home slot; when none of them is
+     * free, or holds the key or a decision of an earlier epoch, the decision in the home slot is replaced.
+     */
+    private static final class DecisionTable {
+
+        static final int PROBES = 4;
+        static final int MASK = THREAD_CACHE_SIZE - 1;
+
+        // A key of 0 marks a free slot, as permission identifiers start at 1
+        final long[] keys = new long[THREAD_CACHE_SIZE];
+        final long[] epochs = new long[THREAD_CACHE_SIZE];
+        final boolean[] decisions = new boolean[THREAD_CACHE_SIZE];
+
+        int find(long key, long epoch) {
+            int home = home(key);
+            for (int probe = 0; probe < PROBES; probe++) {
+                int slot = (home + probe) & MASK;
+                if (keys[slot] == key) {
+                    return epochs[slot] == epoch ? slot : -1;
+                }
+                if (keys[slot] == 0) {
+                    return -1;
+                }
+            }
+
+            return -1;
+        }
+
+        void put(long key, long epoch, boolean decision) {
+            int home = home(key);
+            int target = home;
+            for (int probe = 0; probe < PROBES; probe++) {
+                int slot = (home + probe) & MASK;
+                if (keys[slot] == key || keys[slot] == 0 || epochs[slot] != epoch) {
+                    target = slot;
+                    break;
+                }
+            }
+
+            keys[target] = key;
+            epochs[target] = epoch;
+            decisions[target] = decision;
+        }
+
+        private static int home(long key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & MASK;
+        }
+    }
+
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.unmodifiableSet;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.Principal;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.security.auth.Subject;
+
+/**
+ * PrincipalMapper that decorates another PrincipalMapper, such that the roles it maps for a Subject, or for a set of
+ * principals, are computed once and then reused for as long as the principals stay the same.
+ *
+ * <p>
+ * Mapped roles are cached per Subject or principal set instance, which is only weakly held, together with a
+ * snapshot of its principals. The principals are compared with the snapshot on every call, which costs a copy of the
+ * principal set and a pass over its elements, and when they are no longer equal, for instance because a principal was
+ * added to or replaced in the Subject, the roles are mapped again. The returned role sets are immutable.
+ *
+ * <p>
+ * When constructed with a list of role names, the mapped roles are also kept as a bitmask in which bit <i>i</i>
+ * represents the role at index <i>i</i> of that list, so that a Policy can check them against the roles required by
+ * a permission with {@link #hasAnyMappedRole(Subject, BitSet)}, without going through the role names.
+ *
+ * <p>
+ * Every distinct set of mapped roles is also given a numeric identifier, which is the same for all Subjects mapped to
+ * equal sets of roles that are either all authenticated or all not, and by which decisions that only depend on the
+ * roles of a caller can be cached.
+ *
+ * <pre>{@code
+ *     PrincipalMapper principalMapper = new CachingPrincipalMapper(PolicyContext.getContext(PolicyContext.PRINCIPAL_MAPPER));
+ * }
+ * </pre>
+ */
+public class CachingPrincipalMapper implements PrincipalMapper {
+
+    private static final Object[] NO_PRINCIPALS = {};
+
+    private final PrincipalMapper principalMapper;
+    private final Map<String, Integer> roleIndexes;
+
+    private final Map<IdentityKey, MappedRoles> mappedRoles = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Long> roleSetIds = new ConcurrentHashMap<>();
+    private final AtomicLong lastRoleSetId = new AtomicLong();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Creates a caching PrincipalMapper that decorates the given PrincipalMapper.
+     *
+     * @param principalMapper the PrincipalMapper that maps the roles
+     */
+    public CachingPrincipalMapper(PrincipalMapper principalMapper) {
+        this(principalMapper, List.of());
+    }
+
+    /**
+     * Creates a caching PrincipalMapper that decorates the given PrincipalMapper, and that keeps the mapped roles
+     * that appear in the given list as a bitmask as well.
+     *
+     * @param principalMapper the PrincipalMapper that maps the roles
+     * @param roleNames the roles to keep as a bitmask, where the index of a role in the list is its bit
+     */
+    public CachingPrincipalMapper(PrincipalMapper principalMapper, List<String> roleNames) {
+        if (principalMapper == null) {
+            throw new IllegalArgumentException("principalMapper must not be null");
+        }
+        if (roleNames == null) {
+            throw new IllegalArgumentException("roleNames must not be null");
+        }
+
+        this.principalMapper = principalMapper;
+
+        roleIndexes = new HashMap<>();
+        for (int i = 0; i < roleNames.size(); i++) {
+            roleIndexes.putIfAbsent(roleNames.get(i), i);
+        }
+    }
+
+    @Override
+    public Principal getCallerPrincipal(Subject subject) {
+        return principalMapper.getCallerPrincipal(subject);
+    }
+
+    @Override
+    public Set<String> getMappedRoles(Subject subject) {
+        if (subject == null) {
+            return principalMapper.getMappedRoles(subject);
+        }
+
+        return mappedRolesOf(subject).roles;
+    }
+
+    @Override
+    public Principal getCallerPrincipal(Set<Principal> principals) {
+        return principalMapper.getCallerPrincipal(principals);
+    }
+
+    @Override
+    public Set<String> getMappedRoles(Set<Principal> principals) {
+        if (principals == null) {
+            return principalMapper.getMappedRoles(principals);
+        }
+
+        return mappedRolesOf(principals).roles;
+    }
+
+    @Override
+    public boolean isAnyAuthenticatedUserRoleMapped() {
+        return principalMapper.isAnyAuthenticatedUserRoleMapped();
+    }
+
+    /**
+     * Returns the bitmask of the roles mapped for the given Subject, restricted to the role names this mapper was
+     * constructed with.
+     *
+     * @param subject the subject from which the roles are to be retrieved, or null for an unauthenticated caller
+     * @return a new BitSet in which the bit of each mapped role is set
+     */
+    public BitSet getMappedRoleMask(Subject subject) {
+        return (BitSet) mappedRolesOf(subject).mask.clone();
+    }
+
+    /**
+     * Checks whether any of the given roles is mapped for the given Subject, without copying the cached bitmask.
+     *
+     * @param subject the subject from which the roles are to be retrieved, or null for an unauthenticated caller
+     * @param roleMask a bitmask of roles, using the indexes of the role names this mapper was constructed with
+     * @return true if at least one of the roles in the mask is mapped for the Subject, false otherwise
+     */
+    public boolean hasAnyMappedRole(Subject subject, BitSet roleMask) {
+        return mappedRolesOf(subject).mask.intersects(roleMask);
+    }
+
+    /**
+     * Returns the identifier of the set of roles mapped for the given Subject. Subjects mapped to equal sets of roles,
+     * and of which either both or neither have a caller principal, have the same identifier. Identifiers are assigned
+     * from 1 upwards, so that they can be combined with a permission identifier by
+     * {@link PermissionInterner#decisionKey(int, long)}.
+     *
+     * @param subject the subject from which the roles are to be retrieved, or null for an unauthenticated caller
+     * @return the identifier of the set of roles mapped for the Subject, which is never 0
+     */
+    public long getRoleSetId(Subject subject) {
+        return mappedRolesOf(subject).roleSetId;
+    }
+
+    /**
+     * Returns the identifier of the set of roles mapped for the given principals. Principal sets mapped to equal sets
+     * of roles, and of which either both or neither contain a caller principal, have the same identifier.
+     *
+     * @param principals the set of principals from which the roles are to be retrieved, or null for an
+     * unauthenticated caller
+     * @return the identifier of the set of roles mapped for the principals, which is never 0
+     */
+    public long getRoleSetId(Set<Principal> principals) {
+        return mappedRolesOf(principals).roleSetId;
+    }
+
+    /**
+     * Discards all cached roles and role set identifiers, for instance after the group-to-role mapping of the
+     * decorated PrincipalMapper changed. Role sets are given new identifiers afterwards, and identifiers are never
+     * reused, so that decisions cached by a previous identifier are not returned for another set of roles.
+     */
+    public void clear() {
+        mappedRoles.clear();
+        roleSetIds.clear();
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private MappedRoles mappedRolesOf(Subject subject) {
+        if (subject == null) {
+            return unauthenticatedRoles();
+        }
+
+        // The principal set of a Subject is a synchronized set, which copies itself while holding its own lock, so
+        // that it does not have to be locked here while the principals are compared
+        Object[] snapshot = subject.getPrincipals().toArray();
+
+        MappedRoles roles = mappedRoles.get(new IdentityKey(subject));
+        if (roles == null || !roles.isMappedFor(snapshot)) {
+            roles = newMappedRoles(snapshot, principalMapper.getMappedRoles(subject), principalMapper.getCallerPrincipal(subject) != null);
+            cache(subject, roles);
+        }
+
+        return roles;
+    }
+
+    private MappedRoles mappedRolesOf(Set<Principal> principals) {
+        if (principals == null) {
+            return unauthenticatedRoles();
+        }
+
+        Object[] snapshot = principals.toArray();
+
+        MappedRoles roles = mappedRoles.get(new IdentityKey(principals));
+        if (roles == null || !roles.isMappedFor(snapshot)) {
+            roles = newMappedRoles(snapshot, principalMapper.getMappedRoles(principals), principalMapper.getCallerPrincipal(principals) != null);
+            cache(principals, roles);
+        }
+
+        return roles;
+    }
+
+    private MappedRoles unauthenticatedRoles() {
+        // Not cached, as there is no instance to key the roles by
+        return newMappedRoles(NO_PRINCIPALS, principalMapper.getMappedRoles((Subject) null), false);
+    }
+
+    private MappedRoles newMappedRoles(Object[] principals, Set<String> roles, boolean authenticated) {
+        Set<String> immutableRoles = unmodifiableSet(new LinkedHashSet<>(nonNull(roles)));
+
+        return new MappedRoles(principals, immutableRoles, roleSetIdOf(immutableRoles, authenticated), roleIndexes);
+    }
+
+    private long roleSetIdOf(Set<String> immutableRoles, boolean authenticated) {
+        // Roles such as "**" are granted to any authenticated caller, which is therefore part of the identity
+        return roleSetIds.computeIfAbsent(List.of(immutableRoles, authenticated), e -> lastRoleSetId.incrementAndGet());
+    }
+
+    private static Set<String> nonNull(Set<String> roles) {
+        return roles == null ? Set.of() : roles;
+    }
+
+    private void cache(Object subjectOrPrincipals, MappedRoles roles) {
+        for (Object key; (key = collected.poll()) != null;) {
+            mappedRoles.remove(key);
+        }
+
+        mappedRoles.put(new IdentityKey(subjectOrPrincipals, collected), roles);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static final class MappedRoles {
+
+        final Object[] principals;
+        final Set<String> roles;
+        final long roleSetId;
+        final BitSet mask = new BitSet();
+
+        MappedRoles(Object[] principals, Set<String> roles, long roleSetId, Map<String, Integer> roleIndexes) {
+            this.principals = principals;
+            this.roles = roles;
+            this.roleSetId = roleSetId;
+
+            for (String role : this.roles) {
+                Integer index = roleIndexes.get(role);
+                if (index != null) {
+                    mask.set(index);
+                }
+            }
+        }
+
+        /**
+         * Returns whether the roles were mapped for principals equal to the given ones, in the same order. As a set
+         * that is not modified iterates in the same order, a different order is only seen after the set changed, in
+         * which case mapping the roles again is merely redundant.
+         */
+        boolean isMappedFor(Object[] snapshot) {
+            if (snapshot.length != principals.length) {
+                return false;
+            }
+
+            for (int i = 0; i < snapshot.length; i++) {
+                if (snapshot[i] != principals[i] && !snapshot[i].equals(principals[i])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Weak reference to a Subject or principal set that is equal to another one only if it refers to the same
+     * instance, as Subject and Set implement equality by content.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityKey(Object referent) {
+            super(referent);
+            hash = System.identityHashCode(referent);
+        }
+
+        IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) other).get();
+        }
+    }
+
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded, concurrent cache of authorization decisions, partitioned by policy context.
+ *
+ * <p>
+ * A decision is cached under the permission, the identifier of the set of roles of the caller, as given by
+ * {@link CachingPrincipalMapper#getRoleSetId(javax.security.auth.Subject)}, and the version of the policy at which it
+ * was made, such as its {@link PolicyEpoch}; a decision made at another version than the one asked for is never
+ * returned. Every policy context has its own partition with its
+ * own maximum weight, so that the decisions of one application can not evict those of another.
+ *
+ * <p>
+ * Each partition uses a W-TinyLFU eviction policy: new decisions enter a small LRU window, of about 1% of the weight.
+ * A decision leaving the window is only admitted to the main SLRU area if it was requested more often than the
+ * decision it would replace there, according to a {@link FrequencySketch} of recent requests, which includes misses.
+ * Decisions requested only once, such as those of a crawler visiting every URL, therefore do not evict decisions that
+ * are requested repeatedly. The weight of a decision is given by a weigher, which by default accounts for the length of
+ * the name of the permission.
+ *
+ * <p>
+ * Hits are recorded in the eviction policy only when the lock of the partition is not contended, so under high
+ * concurrency the frequencies and recency order are approximate. This never affects which decision is returned.
+ *
+ * @see CachingPolicyFactory
+ */
+public final class DecisionCache {
+
+    private final long maximumWeightPerContext;
+    private final ToIntFunction<? super Permission> weigher;
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a decision cache that weighs decisions by the length of the name of their permission.
+     *
+     * @param maximumWeightPerContext the maximum total weight of the decisions cached for each policy context
+     */
+    public DecisionCache(long maximumWeightPerContext) {
+        this(maximumWeightPerContext, permission -> 1 + permission.getName().length() / 32);
+    }
+
+    /**
+     * Creates a decision cache that weighs decisions with the given weigher.
+     *
+     * @param maximumWeightPerContext the maximum total weight of the decisions cached for each policy context
+     * @param weigher gives the weight of the decision for a permission, which must not be negative
+     */
+    public DecisionCache(long maximumWeightPerContext, ToIntFunction<? super Permission> weigher) {
+        if (maximumWeightPerContext <= 0) {
+            throw new IllegalArgumentException("maximumWeightPerContext must be positive");
+        }
+        if (weigher == null) {
+            throw new IllegalArgumentException("weigher must not be null");
+        }
+
+        this.maximumWeightPerContext = maximumWeightPerContext;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the cached decision for the given permission and set of roles, if it was made at the current
+     * {@link PolicyEpoch#current(String) epoch} of the policy context.
+     *
+     * @param contextID the policy context identifier of the policy that made the decision
+     * @param permission the checked permission
+     * @param roleSetId the identifier of the set of roles of the caller
+     * @return the cached decision, or null if no decision made at the current epoch is cached
+     */
+    public Boolean get(String contextID, Permission permission, long roleSetId) {
+        return get(contextID, permission, roleSetId, PolicyEpoch.current(contextID));
+    }
+
+    /**
+     * Returns the cached decision for the given permission and set of roles, if it was made at the given version of
+     * the policy.
+     *
+     * @param contextID the policy context identifier of the policy that made the decision
+     * @param permission the checked permission
+     * @param roleSetId the identifier of the set of roles of the caller
+     * @param version the current version of the policy, such as given by {@link Policy#getVersion()}
+     * @return the cached decision, or null if no decision made at the given version is cached
+     */
+    public Boolean get(String contextID, Permission permission, long roleSetId, long version) {
+        return get(contextID, (Object) permission, roleSetId, version);
+    }
+
+    /**
+     * Caches a decision for the given permission and set of roles.
+     *
+     * @param contextID the policy context identifier of the policy that made the decision
+     * @param permission the checked permission
+     * @param roleSetId the identifier of the set of roles of the caller
+     * @param epoch the version of the policy, or the policy epoch, read before the decision was made
+     * @param decision the decision
+     */
+    public void put(String contextID, Permission permission, long roleSetId, long epoch, boolean decision) {
+        put(contextID, permission, permission, roleSetId, epoch, decision);
+    }
+
+    /**
+     * Removes all cached decisions of the given policy context, but not its statistics.
+     *
+     * @param contextID the policy context identifier
+     */
+    public void invalidate(String contextID) {
+        Partition partition = partitions.get(key(contextID));
+        if (partition != null) {
+            partition.clear();
+        }
+    }
+
+    /**
+     * Returns the statistics of the given policy context.
+     *
+     * @param contextID the policy context identifier
+     * @return a snapshot of the statistics of the partition of the policy context
+     */
+    public DecisionCacheStatistics getStatistics(String contextID) {
+        return partition(contextID).statistics(contextID);
+    }
+
+    /**
+     * Returns the statistics of all policy contexts for which decisions were cached.
+     *
+     * @return a snapshot of the statistics of each partition
+     */
+    public List<DecisionCacheStatistics> getStatistics() {
+        List<DecisionCacheStatistics> statistics = new ArrayList<>();
+        partitions.forEach((contextID, partition) -> statistics.add(partition.statistics(contextID)));
+
+        return statistics;
+    }
+
+
+    /**
+     * Returns the cached decision under the given key, which is either a permission or a {@link WebRequestKey}.
+     */
+    Boolean get(String contextID, Object key, long roleSetId, long epoch) {
+        return partition(contextID).get(new Key(key, roleSetId), epoch);
+    }
+
+    /**
+     * Caches a decision under the given key, weighed by the permission the key stands for.
+     */
+    void put(String contextID, Object key, Permission permission, long roleSetId, long epoch, boolean decision) {
+        int weight = weigher.applyAsInt(permission);
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight must not be negative");
+        }
+
+        partition(contextID).put(new Key(key, roleSetId), epoch, decision, weight);
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private Partition partition(String contextID) {
+        String key = key(contextID);
+
+        Partition partition = partitions.get(key);
+        if (partition == null) {
+            partition = partitions.computeIfAbsent(key, e -> new Partition(maximumWeightPerContext));
+        }
+
+        return partition;
+    }
+
+    private static String key(String contextID) {
+        return contextID == null ? "" : contextID;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static final class Key {
+
+        final Object request;
+        final long roleSetId;
+        final int hash;
+
+        Key(Object request, long roleSetId) {
+            this.request = request;
+            this.roleSetId = roleSetId;
+            this.hash = request.hashCode() ^ Long.hashCode(roleSetId * 0x9E3779B97F4A7C15L);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key that = (Key) other;
+            return roleSetId == that.roleSetId && request.equals(that.request);
+        }
+    }
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static final class Node {
+
+        final Key key;
+        final long epoch;
+        final boolean decision;
+        final int weight;
+
+        // Guarded by the lock of the partition
+        int queue;
+        Node previous;
+        Node next;
+
+        Node(Key key, long epoch, boolean decision, int weight) {
+            this.key = key;
+            this.epoch = epoch;
+            this.decision = decision;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Doubly linked list of nodes, from least to most recently used.
+     */
+    private static final class AccessOrder {
+
+        Node first;
+        Node last;
+        long weight;
+
+        void addLast(Node node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            weight += node.weight;
+        }
+
+        void remove(Node node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+
+        void moveToLast(Node node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    private static final class Partition {
+
+        final Map<Key, Node> nodes = new ConcurrentHashMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+
+        final long maximumWeight;
+        final long maximumWindowWeight;
+        final long maximumProtectedWeight;
+
+        final FrequencySketch sketch;
+        final AccessOrder window = new AccessOrder();
+        final AccessOrder probation = new AccessOrder();
+        final AccessOrder protectedOrder = new AccessOrder();
+
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+        final LongAdder rejections = new LongAdder();
+
+        Partition(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+            this.maximumWindowWeight = Math.max(1, maximumWeight / 100);
+            this.maximumProtectedWeight = (maximumWeight - maximumWindowWeight) * 4 / 5;
+            this.sketch = new FrequencySketch(maximumWeight);
+        }
+
+        Boolean get(Key key, long epoch) {
+            Node node = nodes.get(key);
+
+            if (node == null || node.epoch != epoch) {
+                misses.increment();
+                // The miss is recorded in the sketch when the decision is put
+                return null;
+            }
+
+            hits.increment();
+
+            if (lock.tryLock()) {
+                try {
+                    if (nodes.get(key) == node) {
+                        sketch.increment(key.hash);
+                        onAccess(node);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            return node.decision;
+        }
+
+        void put(Key key, long epoch, boolean decision, int weight) {
+            lock.lock();
+            try {
+                sketch.increment(key.hash);
+
+                Node existing = nodes.get(key);
+                if (existing != null) {
+                    if (existing.epoch > epoch) {
+                        // A decision made at a later epoch is already cached
+                        return;
+                    }
+                    unlink(existing);
+                    nodes.remove(key);
+                }
+
+                if (weight > maximumWeight) {
+                    rejections.increment();
+                    return;
+                }
+
+                Node node = new Node(key, epoch, decision, weight);
+                node.queue = WINDOW;
+                window.addLast(node);
+                nodes.put(key, node);
+
+                evict();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                nodes.clear();
+                for (AccessOrder order : new AccessOrder[] { window, probation, protectedOrder }) {
+                    order.first = null;
+                    order.last = null;
+                    order.weight = 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        DecisionCacheStatistics statistics(String contextID) {
+            lock.lock();
+            try {
+                return new DecisionCacheStatistics(contextID, hits.sum(), misses.sum(), evictions.sum(), rejections.sum(),
+                    nodes.size(), window.weight + probation.weight + protectedOrder.weight, maximumWeight);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+
+        // ----------------- Private Methods ---------------------
+
+        private void onAccess(Node node) {
+            switch (node.queue) {
+                case WINDOW:
+                    window.moveToLast(node);
+                    break;
+                case PROBATION:
+                    probation.remove(node);
+                    node.queue = PROTECTED;
+                    protectedOrder.addLast(node);
+                    while (protectedOrder.weight > maximumProtectedWeight && protectedOrder.first != null) {
+                        Node demoted = protectedOrder.first;
+                        protectedOrder.remove(demoted);
+                        demoted.queue = PROBATION;
+                        probation.addLast(demoted);
+                    }
+                    break;
+                default:
+                    protectedOrder.moveToLast(node);
+            }
+        }
+
+        /**
+         * Moves the decisions that overflow the window to probation, and while the partition is too heavy lets each of
+         * them compete with the least recently used decision on probation; the one requested less often is evicted.
+         */
+        private void evict() {
+            Node candidate = null;
+            while (window.weight > maximumWindowWeight && window.first != null) {
+                Node node = window.first;
+                window.remove(node);
+                node.queue = PROBATION;
+                probation.addLast(node);
+                if (candidate == null) {
+                    candidate = node;
+                }
+            }
+
+            Node victim = probation.first;
+            while (window.weight + probation.weight + protectedOrder.weight > maximumWeight) {
+                if (candidate == null || victim == null || victim == candidate) {
+                    // No decisions left to compete, so evict the least recently used one
+                    remove(probation.first != null ? probation.first : protectedOrder.first != null ? protectedOrder.first : window.first);
+                    candidate = null;
+                    victim = probation.first;
+                } else if (sketch.frequency(candidate.key.hash) > sketch.frequency(victim.key.hash)) {
+                    Node next = victim.next;
+                    remove(victim);
+                    victim = next;
+                } else {
+                    Node next = candidate.next;
+                    remove(candidate);
+                    candidate = next;
+                }
+            }
+        }
+
+        private void remove(Node node) {
+            unlink(node);
+            nodes.remove(node.key, node);
+            evictions.increment();
+        }
+
+        private void unlink(Node node) {
+            switch (node.queue) {
+                case WINDOW:
+                    window.remove(node);
+                    break;
+                case PROBATION:
+                    probation.remove(node);
+                    break;
+                default:
+                    protectedOrder.remove(node);
+            }
+        }
+    }
+
+}
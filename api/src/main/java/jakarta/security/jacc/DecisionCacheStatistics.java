@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+/**
+ * Snapshot of the statistics of the {@link DecisionCache} partition of one policy context.
+ */
+public final class DecisionCacheStatistics {
+
+    private final String contextID;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long rejections;
+    private final long entries;
+    private final long weightedSize;
+    private final long maximumWeight;
+
+    DecisionCacheStatistics(String contextID, long hits, long misses, long evictions, long rejections, long entries, long weightedSize, long maximumWeight) {
+        this.contextID = contextID;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.rejections = rejections;
+        this.entries = entries;
+        this.weightedSize = weightedSize;
+        this.maximumWeight = maximumWeight;
+    }
+
+    public String getContextID() {
+        return contextID;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Returns the number of entries removed to make room for other entries, including new entries that were not
+     * admitted because they were used less frequently than the entry they would have replaced.
+     *
+     * @return the number of evicted entries
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of decisions that were not cached because their weight exceeds the maximum weight.
+     *
+     * @return the number of rejected decisions
+     */
+    public long getRejections() {
+        return rejections;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public long getWeightedSize() {
+        return weightedSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: hits=%d misses=%d hitRatio=%.3f evictions=%d rejections=%d entries=%d weight=%d/%d",
+            contextID, hits, misses, getHitRatio(), evictions, rejections, entries, weightedSize, maximumWeight);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+/**
+ * Snapshot of the statistics of the authorization decisions made for one permission class within one policy
+ * context, as collected by {@link DefaultAuthorizationMetrics}. Latencies are in nanoseconds.
+ */
+public final class DecisionStatistics {
+
+    private final String contextID;
+    private final String permissionType;
+    private final long decisions;
+    private final long granted;
+    private final long excludedChecks;
+    private final long excludedHits;
+    private final long uncheckedChecks;
+    private final long uncheckedHits;
+    private final long totalNanos;
+    private final long medianNanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    DecisionStatistics(String contextID, String permissionType, long decisions, long granted, long excludedChecks, long excludedHits,
+            long uncheckedChecks, long uncheckedHits, long totalNanos, LatencyHistogram latencies) {
+        this.contextID = contextID;
+        this.permissionType = permissionType;
+        this.decisions = decisions;
+        this.granted = granted;
+        this.excludedChecks = excludedChecks;
+        this.excludedHits = excludedHits;
+        this.uncheckedChecks = uncheckedChecks;
+        this.uncheckedHits = uncheckedHits;
+        this.totalNanos = totalNanos;
+        this.medianNanos = latencies.getValueAtPercentile(50);
+        this.p90Nanos = latencies.getValueAtPercentile(90);
+        this.p99Nanos = latencies.getValueAtPercentile(99);
+        this.p999Nanos = latencies.getValueAtPercentile(99.9);
+        this.maxNanos = latencies.getMaxValue();
+    }
+
+    public String getContextID() {
+        return contextID;
+    }
+
+    public String getPermissionType() {
+        return permissionType;
+    }
+
+    public long getDecisions() {
+        return decisions;
+    }
+
+    public long getGranted() {
+        return granted;
+    }
+
+    public long getDenied() {
+        return decisions - granted;
+    }
+
+    public double getGrantRatio() {
+        return ratio(granted, decisions);
+    }
+
+    public double getDenyRatio() {
+        return ratio(decisions - granted, decisions);
+    }
+
+    public long getExcludedChecks() {
+        return excludedChecks;
+    }
+
+    public double getExcludedHitRate() {
+        return ratio(excludedHits, excludedChecks);
+    }
+
+    public long getUncheckedChecks() {
+        return uncheckedChecks;
+    }
+
+    public double getUncheckedHitRate() {
+        return ratio(uncheckedHits, uncheckedChecks);
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMeanNanos() {
+        return decisions == 0 ? 0 : totalNanos / decisions;
+    }
+
+    public long getMedianNanos() {
+        return medianNanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return contextID + " " + permissionType + ": " + decisions + " decisions, " + granted + " granted, mean " + getMeanNanos() +
+            " ns, p99 " + p99Nanos + " ns";
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static double ratio(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class of the PolicyFactories that decorate the policies of the factory they wrap.
+ *
+ * <p>
+ * The decorator of a policy context is created when its policy is first obtained, and returned for as long as the
+ * wrapped factory returns the same policy for that context. It is replaced when the wrapped factory returns another
+ * policy, and dropped when the wrapped factory no longer returns a policy for the context, so that the decorators of
+ * removed policy contexts are not kept. Decorators passed to {@link #setPolicy(String, Policy)} are unwrapped before
+ * they are set in the wrapped factory. A factory can leave the policy of a context undecorated by not creating a
+ * decorator for it.
+ *
+ * @param <D> the type of the decorators
+ */
+abstract class DecoratingPolicyFactory<D extends Policy> extends PolicyFactory {
+
+    private final Class<D> decoratorType;
+    private final Map<String, D> policies = new ConcurrentHashMap<>();
+
+    DecoratingPolicyFactory(PolicyFactory wrapped, Class<D> decoratorType) {
+        super(wrapped);
+        this.decoratorType = decoratorType;
+    }
+
+    @Override
+    public Policy getPolicy(String contextId) {
+        Policy policy = getWrapped().getPolicy(contextId);
+        if (contextId == null) {
+            return policy;
+        }
+
+        if (policy == null) {
+            D removed = policies.remove(contextId);
+            if (removed != null) {
+                discarded(contextId, removed);
+            }
+
+            return null;
+        }
+
+        // Return the same decorator for as long as the wrapped factory returns the same policy
+        D decorator = policies.get(contextId);
+        if (decorator != null && undecorated(decorator) == policy) {
+            return decorator;
+        }
+
+        decorator = policies.compute(contextId,
+            (id, existing) -> {
+                if (existing != null && undecorated(existing) == policy) {
+                    return existing;
+                }
+                if (existing != null) {
+                    discarded(id, existing);
+                }
+
+                return decorate(id, policy);
+            });
+
+        return decorator != null ? decorator : policy;
+    }
+
+    @Override
+    public void setPolicy(String contextId, Policy policy) {
+        if (decoratorType.isInstance(policy)) {
+            policy = undecorated(decoratorType.cast(policy));
+        }
+
+        getWrapped().setPolicy(contextId, policy);
+    }
+
+    /**
+     * Creates the decorator of the given policy.
+     *
+     * @param contextId the policy context identifier of the policy
+     * @param policy the policy returned by the wrapped factory
+     * @return the decorator of the policy, or null to return the policy undecorated
+     */
+    abstract D decorate(String contextId, Policy policy);
+
+    /**
+     * Returns the policy decorated by the given decorator.
+     *
+     * @param decorator a decorator created by this factory
+     * @return the policy it decorates
+     */
+    abstract Policy undecorated(D decorator);
+
+    /**
+     * Called when the decorator of a policy context is replaced or dropped, because the wrapped factory returned
+     * another policy or no policy for the context. Does nothing by default.
+     *
+     * @param contextId the policy context identifier of the decorated policy
+     * @param decorator the decorator that is no longer returned
+     */
+    void discarded(String contextId, D decorator) {
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Comparator.comparingLong;
+
+import java.lang.management.ManagementFactory;
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * AuthorizationMetrics implementation that aggregates the statistics in memory, per policy context identifier and
+ * per permission class, and exposes them as an MXBean.
+ *
+ * <p>
+ * Counters are {@link LongAdder LongAdders}, and latencies are recorded in a log-linear histogram, so recording does
+ * not contend between threads and does not allocate once a policy context and permission class have been seen.
+ * Permission classes are tracked by name, so that the statistics do not retain the class loaders of applications.
+ *
+ * <pre>{@code
+ *     DefaultAuthorizationMetrics metrics = new DefaultAuthorizationMetrics();
+ *     metrics.registerMBean();
+ *     PolicyFactory.setPolicyFactory(new MetricsPolicyFactory(PolicyFactory.getPolicyFactory(), metrics));
+ * }
+ * </pre>
+ */
+public class DefaultAuthorizationMetrics implements AuthorizationMetrics, AuthorizationMetricsMXBean {
+
+    private static final String NO_CONTEXT = "";
+
+    private final Map<String, Map<String, Counters>> contexts = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordDecision(String contextID, Class<? extends Permission> permissionType, boolean granted, long nanos) {
+        Counters counters = getCounters(contextID, permissionType);
+
+        counters.decisions.increment();
+        if (granted) {
+            counters.granted.increment();
+        }
+        counters.totalNanos.add(nanos);
+        counters.latencies.record(nanos);
+    }
+
+    @Override
+    public void recordExcludedCheck(String contextID, Class<? extends Permission> permissionType, boolean excluded) {
+        Counters counters = getCounters(contextID, permissionType);
+
+        counters.excludedChecks.increment();
+        if (excluded) {
+            counters.excludedHits.increment();
+        }
+    }
+
+    @Override
+    public void recordUncheckedCheck(String contextID, Class<? extends Permission> permissionType, boolean unchecked) {
+        Counters counters = getCounters(contextID, permissionType);
+
+        counters.uncheckedChecks.increment();
+        if (unchecked) {
+            counters.uncheckedHits.increment();
+        }
+    }
+
+    @Override
+    public List<String> getContextIDs() {
+        return new ArrayList<>(contexts.keySet());
+    }
+
+    @Override
+    public List<DecisionStatistics> getStatistics() {
+        List<DecisionStatistics> statistics = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Counters>> context : contexts.entrySet()) {
+            addStatistics(context.getKey(), context.getValue(), statistics);
+        }
+
+        statistics.sort(comparingLong(DecisionStatistics::getTotalNanos).reversed());
+
+        return statistics;
+    }
+
+    @Override
+    public List<DecisionStatistics> getStatistics(String contextID) {
+        List<DecisionStatistics> statistics = new ArrayList<>();
+
+        String contextKey = contextID == null ? NO_CONTEXT : contextID;
+        Map<String, Counters> context = contexts.get(contextKey);
+        if (context != null) {
+            addStatistics(contextKey, context, statistics);
+        }
+
+        statistics.sort(comparingLong(DecisionStatistics::getTotalNanos).reversed());
+
+        return statistics;
+    }
+
+    @Override
+    public long getTotalDecisionNanos(String contextID) {
+        Map<String, Counters> context = contexts.get(contextID == null ? NO_CONTEXT : contextID);
+        if (context == null) {
+            return 0;
+        }
+
+        long totalNanos = 0;
+        for (Counters counters : context.values()) {
+            totalNanos += counters.totalNanos.sum();
+        }
+
+        return totalNanos;
+    }
+
+    @Override
+    public void reset() {
+        contexts.clear();
+    }
+
+    /**
+     * Registers these metrics with the platform MBeanServer under the object name {@value #OBJECT_NAME}.
+     *
+     * @throws JMException if the metrics could not be registered, for instance because other metrics are already
+     * registered under the same name
+     */
+    public void registerMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Unregisters the metrics registered under the object name {@value #OBJECT_NAME}, if any.
+     *
+     * @throws JMException if the metrics could not be unregistered
+     */
+    public void unregisterMBean() throws JMException {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(OBJECT_NAME);
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private Counters getCounters(String contextID, Class<? extends Permission> permissionType) {
+        Map<String, Counters> context = contexts.get(contextID == null ? NO_CONTEXT : contextID);
+        if (context == null) {
+            context = contexts.computeIfAbsent(contextID == null ? NO_CONTEXT : contextID, e -> new ConcurrentHashMap<>());
+        }
+
+        String permissionTypeName = permissionType.getName();
+        Counters counters = context.get(permissionTypeName);
+        if (counters == null) {
+            counters = context.computeIfAbsent(permissionTypeName, e -> new Counters());
+        }
+
+        return counters;
+    }
+
+    private static void addStatistics(String contextID, Map<String, Counters> context, List<DecisionStatistics> statistics) {
+        for (Map.Entry<String, Counters> permissionType : context.entrySet()) {
+            Counters counters = permissionType.getValue();
+
+            statistics.add(new DecisionStatistics(
+                contextID,
+                permissionType.getKey(),
+                counters.decisions.sum(),
+                counters.granted.sum(),
+                counters.excludedChecks.sum(),
+                counters.excludedHits.sum(),
+                counters.uncheckedChecks.sum(),
+                counters.uncheckedHits.sum(),
+                counters.totalNanos.sum(),
+                counters.latencies));
+        }
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static final class Counters {
+        final LongAdder decisions = new LongAdder();
+        final LongAdder granted = new LongAdder();
+        final LongAdder excludedChecks = new LongAdder();
+        final LongAdder excludedHits = new LongAdder();
+        final LongAdder uncheckedChecks = new LongAdder();
+        final LongAdder uncheckedHits = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LatencyHistogram latencies = new LatencyHistogram();
+    }
+
+}
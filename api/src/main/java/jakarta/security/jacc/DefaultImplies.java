@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.util.List;
+import java.util.Set;
+import javax.security.auth.Subject;
+
+/**
+ * Which of the implies and impliesByRole methods of a Policy class are the default methods of {@link Policy}, and so
+ * rely on its other methods. This is determined once per class.
+ */
+final class DefaultImplies {
+
+    private static final ClassValue<DefaultImplies> DEFAULT_IMPLIES = new ClassValue<DefaultImplies>() {
+        @Override
+        protected DefaultImplies computeValue(Class<?> type) {
+            return new DefaultImplies(type);
+        }
+    };
+
+    /**
+     * Whether {@link Policy#implies(Permission, Subject)} is the default method, which makes the decision from
+     * isExcluded, isUnchecked and impliesByRole.
+     */
+    final boolean subject;
+
+    /**
+     * Whether {@link Policy#implies(Permission)} is the default method, which calls implies with an empty set of
+     * principals.
+     */
+    final boolean anonymous;
+
+    /**
+     * Whether {@link Policy#implies(Permission, Set)} is the default method, which makes the decision from
+     * isExcluded, isUnchecked and impliesByRole if {@link #subject} is true, and otherwise calls implies with a
+     * Subject.
+     */
+    final boolean principals;
+
+    /**
+     * Whether {@link Policy#implies(List, Subject)} is the default method, which makes the decisions from isExcluded,
+     * isUnchecked, getPermissionCollection and impliesByRole if {@link #subject} is true, and otherwise calls implies
+     * for each permission.
+     */
+    final boolean batch;
+
+    /**
+     * Whether {@link Policy#impliesByRole(Permission, Set)} is the default method, which calls impliesByRole with a
+     * Subject constructed for the principals.
+     */
+    final boolean principalsByRole;
+
+    private DefaultImplies(Class<?> type) {
+        subject = isDefault(type, "implies", Permission.class, Subject.class);
+        anonymous = isDefault(type, "implies", Permission.class);
+        principals = isDefault(type, "implies", Permission.class, Set.class);
+        batch = isDefault(type, "implies", List.class, Subject.class);
+        principalsByRole = isDefault(type, "impliesByRole", Permission.class, Set.class);
+    }
+
+    static DefaultImplies of(Policy policy) {
+        return DEFAULT_IMPLIES.get(policy.getClass());
+    }
+
+    /**
+     * Returns whether the given policy relies on the default implementation of
+     * {@link Policy#implies(Permission, Subject)}, and so on its isExcluded, isUnchecked and impliesByRole methods.
+     */
+    static boolean usesDefaultImplies(Policy policy) {
+        return of(policy).subject;
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static boolean isDefault(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes).isDefault();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
+}
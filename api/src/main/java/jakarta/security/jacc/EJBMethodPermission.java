@@ -187,6 +187,23 @@ public final class EJBMethodPermission extends Permission {
         setMethodSpec(methodInterface, method);
     }
 
+    /**
+     * Creates a new EJBMethodPermission from already parsed method spec components, as returned by the package
+     * level accessors of another EJBMethodPermission.
+     */
+    EJBMethodPermission(String EJBName, String methodName, int methodInterface, String otherMethodInterface, String methodParams) {
+        super(EJBName);
+
+        if (methodInterface < -2 || methodInterface >= interfaceKeys.length || (methodInterface == -2 && otherMethodInterface == null)) {
+            throw new IllegalArgumentException("illegal methodInterface");
+        }
+
+        this.methodName = methodName;
+        this.methodInterface = methodInterface;
+        this.otherMethodInterface = methodInterface == -2 ? otherMethodInterface : null;
+        this.methodParams = methodParams;
+    }
+
     /**
      * Checks two EJBMethodPermission objects for equality. EJBMethodPermission objects are equivalent if they have case
      * sensitive equivalent name and actions values.
@@ -406,6 +423,24 @@ public final class EJBMethodPermission extends Permission {
         return true;
     }
 
+    // ----------------- Package Methods ---------------------
+
+    String getMethodName() {
+        return methodName;
+    }
+
+    int getMethodInterface() {
+        return methodInterface;
+    }
+
+    String getOtherMethodInterface() {
+        return otherMethodInterface;
+    }
+
+    String getMethodParams() {
+        return methodParams;
+    }
+
     // ----------------- Private Methods ---------------------
 
     /**
@@ -432,7 +467,7 @@ public final class EJBMethodPermission extends Permission {
      * @throws IOException If an I/O error occurs while writing to the underlying stream
      * 
      */
-    private synchronized void writeObject(ObjectOutputStream outputStream) throws IOException {
+    private void writeObject(ObjectOutputStream outputStream) throws IOException {
         outputStream.putFields().put("actions", this.getActions());
         outputStream.writeFields();
     }
@@ -179,7 +179,7 @@ public final class EJBRoleRefPermission extends Permission {
      * 
      * @throws IOException If an I/O error occurs while writing to the underlying stream
      */
-    private synchronized void writeObject(ObjectOutputStream outputStream) throws IOException {
+    private void writeObject(ObjectOutputStream outputStream) throws IOException {
         outputStream.defaultWriteObject();
     }
 
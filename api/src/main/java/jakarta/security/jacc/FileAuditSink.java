@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Permission;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * AuditSink that appends records to a local file, one line per record, and flushes the file after each batch. A line
+ * has the form:
+ *
+ * <pre>
+ * 2026-01-31T12:00:00.123Z DENY contextID jakarta.security.jacc.WebResourcePermission "/admin/*" "GET" ["alice", "users"]
+ * </pre>
+ *
+ * <p>
+ * Quotes, backslashes and control characters in the policy context identifier, the permission name and actions and the
+ * principal names are escaped as in a Java string literal, so that a record always occupies exactly one line and
+ * cannot be mistaken for another record.
+ */
+public class FileAuditSink implements AuditSink {
+
+    private final BufferedWriter writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * Creates a sink that appends to the given file, which is created if it does not exist.
+     *
+     * @param file the file to append to
+     * @throws IOException if the file could not be opened
+     */
+    public FileAuditSink(Path file) throws IOException {
+        writer = Files.newBufferedWriter(file, UTF_8, CREATE, WRITE, APPEND);
+    }
+
+    @Override
+    public void write(List<AuditRecord> records) throws IOException {
+        for (AuditRecord record : records) {
+            line.setLength(0);
+            format(record, line);
+            writer.append(line).append('\n');
+        }
+
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Formats a record as a single line, without the line terminator.
+     *
+     * @param record the record to format
+     * @param line the builder to which the record is appended
+     */
+    protected void format(AuditRecord record, StringBuilder line) {
+        Permission permission = record.getPermission();
+
+        line.append(Instant.ofEpochMilli(record.getTimeMillis()))
+            .append(record.isGranted() ? " GRANT " : " DENY ");
+        appendEscaped(record.getContextID(), line);
+        line.append(' ')
+            .append(permission.getClass().getName())
+            .append(" \"");
+        appendEscaped(permission.getName(), line);
+        line.append("\" \"");
+        appendEscaped(permission.getActions(), line);
+        line.append("\" [");
+
+        List<Principal> principals = record.getPrincipals();
+        for (int i = 0; i < principals.size(); i++) {
+            if (i > 0) {
+                line.append(", ");
+            }
+            line.append('"');
+            appendEscaped(principals.get(i).getName(), line);
+            line.append('"');
+        }
+
+        line.append(']');
+    }
+
+    /**
+     * Appends the given value to a line, escaping quotes, backslashes and control characters.
+     *
+     * @param value the value to append, or null
+     * @param line the builder to which the value is appended
+     */
+    protected static void appendEscaped(String value, StringBuilder line) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (Character.isISOControl(c) || c == '\u2028' || c == '\u2029') {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+    }
+
+}
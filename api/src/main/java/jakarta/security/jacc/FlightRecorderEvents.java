@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The JDK Flight Recorder events of this API. Only used via {@link AuthorizationEvents}, which checks that the
+ * jdk.jfr module is available before this class is loaded.
+ *
+ * <p>
+ * Decisions and handler invocations are frequent, and by default only recorded when they take at least 20
+ * microseconds. The threshold, like the other settings of these events, can be changed in the recording settings,
+ * e.g. <code>jakarta.authorization.Decision#threshold=0 ms</code>.
+ */
+final class FlightRecorderEvents {
+
+    private static final EventType DECISION = EventType.getEventType(DecisionEvent.class);
+    private static final EventType COMMIT = EventType.getEventType(CommitEvent.class);
+    private static final EventType LINK = EventType.getEventType(LinkEvent.class);
+    private static final EventType HANDLER_INVOCATION = EventType.getEventType(HandlerInvocationEvent.class);
+
+    private FlightRecorderEvents() {
+    }
+
+    static boolean initialize() {
+        return DECISION != null;
+    }
+
+    static Object beginDecision() {
+        return DECISION.isEnabled() ? begin(new DecisionEvent()) : null;
+    }
+
+    static void endDecision(Object object, String check, Permission permission, boolean outcome) {
+        DecisionEvent event = (DecisionEvent) object;
+        event.end();
+        if (event.shouldCommit()) {
+            event.contextID = PolicyContext.getContextID();
+            event.check = check;
+            event.permissionType = permission == null ? null : permission.getClass().getName();
+            event.permissionName = permission == null ? null : permission.getName();
+            event.actions = permission == null ? null : permission.getActions();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    static Object beginCommit() {
+        return COMMIT.isEnabled() ? begin(new CommitEvent()) : null;
+    }
+
+    static void endCommit(Object object, PolicyConfiguration policyConfiguration) {
+        CommitEvent event = (CommitEvent) object;
+        event.end();
+        if (event.shouldCommit()) {
+            event.contextID = getContextID(policyConfiguration);
+            event.commit();
+        }
+    }
+
+    static Object beginLink() {
+        return LINK.isEnabled() ? begin(new LinkEvent()) : null;
+    }
+
+    static void endLink(Object object, PolicyConfiguration policyConfiguration, PolicyConfiguration link) {
+        LinkEvent event = (LinkEvent) object;
+        event.end();
+        if (event.shouldCommit()) {
+            event.contextID = getContextID(policyConfiguration);
+            event.linkedContextID = getContextID(link);
+            event.commit();
+        }
+    }
+
+    static Object beginHandlerInvocation() {
+        return HANDLER_INVOCATION.isEnabled() ? begin(new HandlerInvocationEvent()) : null;
+    }
+
+    static void endHandlerInvocation(Object object, String key, PolicyContextHandler handler) {
+        HandlerInvocationEvent event = (HandlerInvocationEvent) object;
+        event.end();
+        if (event.shouldCommit()) {
+            event.key = key;
+            event.handlerType = handler.getClass().getName();
+            event.commit();
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static Event begin(Event event) {
+        event.begin();
+        return event;
+    }
+
+    private static String getContextID(PolicyConfiguration policyConfiguration) {
+        try {
+            return policyConfiguration == null ? null : policyConfiguration.getContextID();
+        } catch (PolicyContextException e) {
+            return null;
+        }
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    @Name("jakarta.authorization.Decision")
+    @Label("Authorization Decision")
+    @Description("Check of a permission by a Policy")
+    @Category({ "Jakarta EE", "Authorization" })
+    @Threshold("20 us")
+    @StackTrace(false)
+    static final class DecisionEvent extends Event {
+
+        @Label("Context ID")
+        String contextID;
+
+        @Label("Check")
+        @Description("The Policy method that made the decision: implies, impliesAsync, isExcluded, isUnchecked, " +
+                     "impliesByRole or impliesByRoleAsync")
+        String check;
+
+        @Label("Permission Type")
+        String permissionType;
+
+        @Label("Permission Name")
+        String permissionName;
+
+        @Label("Actions")
+        String actions;
+
+        @Label("Outcome")
+        boolean outcome;
+    }
+
+    @Name("jakarta.authorization.PolicyConfigurationCommit")
+    @Label("Policy Configuration Commit")
+    @Category({ "Jakarta EE", "Authorization" })
+    static final class CommitEvent extends Event {
+
+        @Label("Context ID")
+        String contextID;
+    }
+
+    @Name("jakarta.authorization.PolicyConfigurationLink")
+    @Label("Policy Configuration Link")
+    @Category({ "Jakarta EE", "Authorization" })
+    static final class LinkEvent extends Event {
+
+        @Label("Context ID")
+        String contextID;
+
+        @Label("Linked Context ID")
+        String linkedContextID;
+    }
+
+    @Name("jakarta.authorization.PolicyContextHandler")
+    @Label("Policy Context Handler Invocation")
+    @Description("Invocation of a PolicyContextHandler to obtain a context object")
+    @Category({ "Jakarta EE", "Authorization" })
+    @Threshold("20 us")
+    @StackTrace(false)
+    static final class HandlerInvocationEvent extends Event {
+
+        @Label("Key")
+        String key;
+
+        @Label("Handler Type")
+        String handlerType;
+    }
+
+}
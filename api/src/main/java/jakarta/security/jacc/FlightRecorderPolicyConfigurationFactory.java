@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PolicyConfigurationFactory that decorates the policy configurations of the factory it wraps, such that their
+ * commit and linkConfiguration methods are recorded as <code>jakarta.authorization.PolicyConfigurationCommit</code>
+ * and <code>jakarta.authorization.PolicyConfigurationLink</code> JDK Flight Recorder events. It can be installed as
+ * follows:
+ *
+ * <pre>{@code
+ *     PolicyConfigurationFactory.setPolicyConfigurationFactory(
+ *         new FlightRecorderPolicyConfigurationFactory(PolicyConfigurationFactory.get()));
+ * }
+ * </pre>
+ *
+ * When the jdk.jfr module is not available, or no recording is running, the decorated policy configurations
+ * delegate without recording anything.
+ *
+ * <p>
+ * As {@link PolicyConfiguration#linkConfiguration(PolicyConfiguration)} and {@link PolicyConfiguration#delete()}
+ * have no default implementation, the decorated policy configurations also advance the {@link PolicyEpoch} of their
+ * policy contexts when they are linked or deleted, so that decisions cached for them are invalidated.
+ *
+ * @see FlightRecorderPolicyFactory
+ */
+public class FlightRecorderPolicyConfigurationFactory extends PolicyConfigurationFactory {
+
+    /**
+     * Creates a PolicyConfigurationFactory that decorates the policy configurations of the given factory.
+     *
+     * @param wrapped the PolicyConfigurationFactory whose policy configurations are decorated
+     */
+    public FlightRecorderPolicyConfigurationFactory(PolicyConfigurationFactory wrapped) {
+        super(wrapped);
+
+        if (wrapped == null) {
+            throw new IllegalArgumentException("wrapped must not be null");
+        }
+    }
+
+    @Override
+    public PolicyConfiguration getPolicyConfiguration(String contextID, boolean remove) throws PolicyContextException {
+        return decorate(getWrapped().getPolicyConfiguration(contextID, remove));
+    }
+
+    @Override
+    public PolicyConfiguration getPolicyConfiguration(String contextID) {
+        return decorate(getWrapped().getPolicyConfiguration(contextID));
+    }
+
+    @Override
+    public PolicyConfiguration getPolicyConfiguration() {
+        return decorate(getWrapped().getPolicyConfiguration());
+    }
+
+    @Override
+    public boolean inService(String contextID) throws PolicyContextException {
+        return getWrapped().inService(contextID);
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static PolicyConfiguration decorate(PolicyConfiguration policyConfiguration) {
+        return policyConfiguration == null ? null : new RecordingPolicyConfiguration(policyConfiguration);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static final class RecordingPolicyConfiguration implements PolicyConfiguration {
+
+        private final PolicyConfiguration policyConfiguration;
+
+        RecordingPolicyConfiguration(PolicyConfiguration policyConfiguration) {
+            this.policyConfiguration = policyConfiguration;
+        }
+
+        @Override
+        public String getContextID() throws PolicyContextException {
+            return policyConfiguration.getContextID();
+        }
+
+        @Override
+        public void addToRole(String roleName, PermissionCollection permissions) throws PolicyContextException {
+            policyConfiguration.addToRole(roleName, permissions);
+        }
+
+        @Override
+        public void addToRole(String roleName, Permission permission) throws PolicyContextException {
+            policyConfiguration.addToRole(roleName, permission);
+        }
+
+        @Override
+        public void addInheritedRole(String roleName, String inheritedRoleName) throws PolicyContextException {
+            policyConfiguration.addInheritedRole(roleName, inheritedRoleName);
+        }
+
+        @Override
+        public void addToUncheckedPolicy(PermissionCollection permissions) throws PolicyContextException {
+            policyConfiguration.addToUncheckedPolicy(permissions);
+        }
+
+        @Override
+        public void addToUncheckedPolicy(Permission permission) throws PolicyContextException {
+            policyConfiguration.addToUncheckedPolicy(permission);
+        }
+
+        @Override
+        public void addToExcludedPolicy(PermissionCollection permissions) throws PolicyContextException {
+            policyConfiguration.addToExcludedPolicy(permissions);
+        }
+
+        @Override
+        public void addToExcludedPolicy(Permission permission) throws PolicyContextException {
+            policyConfiguration.addToExcludedPolicy(permission);
+        }
+
+        @Override
+        public Map<String, PermissionCollection> getPerRolePermissions() {
+            return policyConfiguration.getPerRolePermissions();
+        }
+
+        @Override
+        public Map<String, Set<String>> getInheritedRoles() {
+            return policyConfiguration.getInheritedRoles();
+        }
+
+        @Override
+        public PermissionCollection getUncheckedPermissions() {
+            return policyConfiguration.getUncheckedPermissions();
+        }
+
+        @Override
+        public PermissionCollection getExcludedPermissions() {
+            return policyConfiguration.getExcludedPermissions();
+        }
+
+        @Override
+        public void removeRole(String roleName) throws PolicyContextException {
+            policyConfiguration.removeRole(roleName);
+        }
+
+        @Override
+        public void removeUncheckedPolicy() throws PolicyContextException {
+            policyConfiguration.removeUncheckedPolicy();
+        }
+
+        @Override
+        public void removeExcludedPolicy() throws PolicyContextException {
+            policyConfiguration.removeExcludedPolicy();
+        }
+
+        @Override
+        public void linkConfiguration(PolicyConfiguration link) throws PolicyContextException {
+            // Providers typically expect their own implementation as the link
+            PolicyConfiguration unwrappedLink = link instanceof RecordingPolicyConfiguration ?
+                ((RecordingPolicyConfiguration) link).policyConfiguration : link;
+
+            Object event = AuthorizationEvents.beginLink();
+            policyConfiguration.linkConfiguration(unwrappedLink);
+            AuthorizationEvents.endLink(event, policyConfiguration, unwrappedLink);
+
+            // linkConfiguration has no default implementation that could advance the versions
+            PolicyEpoch.advance(policyConfiguration.getContextID());
+            if (unwrappedLink != null) {
+                PolicyEpoch.advance(unwrappedLink.getContextID());
+            }
+        }
+
+        @Override
+        public void delete() throws PolicyContextException {
+            policyConfiguration.delete();
+            PolicyEpoch.advance(policyConfiguration.getContextID());
+        }
+
+        @Override
+        public void commit() throws PolicyContextException {
+            Object event = AuthorizationEvents.beginCommit();
+            policyConfiguration.commit();
+            AuthorizationEvents.endCommit(event, policyConfiguration);
+        }
+
+        @Override
+        public boolean inService() throws PolicyContextException {
+            return policyConfiguration.inService();
+        }
+
+        @Override
+        public long getVersion() throws PolicyContextException {
+            return policyConfiguration.getVersion();
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Principal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import javax.security.auth.Subject;
+
+/**
+ * PolicyFactory that decorates the policies of the factory it wraps, such that every decision they make is recorded
+ * as a <code>jakarta.authorization.Decision</code> JDK Flight Recorder event.
+ *
+ * <p>
+ * Policies that rely on the default {@link Policy#implies(Permission, Subject)} method already record their
+ * decisions, so the decorators only record the decisions of the implies methods that the decorated policy overrides,
+ * and every decision is recorded once. This factory is intended for policies that override implies, and for the
+ * policies of decorating factories such as {@link MetricsPolicyFactory}. It can be installed as follows:
+ *
+ * <pre>{@code
+ *     PolicyFactory.setPolicyFactory(new FlightRecorderPolicyFactory(PolicyFactory.getPolicyFactory()));
+ * }
+ * </pre>
+ *
+ * When the jdk.jfr module is not available, or no recording is running, the decorated policies delegate without
+ * recording anything.
+ *
+ * @see FlightRecorderPolicyConfigurationFactory
+ */
+public class FlightRecorderPolicyFactory extends DecoratingPolicyFactory<FlightRecorderPolicyFactory.RecordingPolicy> {
+
+    /**
+     * Creates a PolicyFactory that decorates the policies of the given factory.
+     *
+     * @param wrapped the PolicyFactory whose policies are decorated
+     */
+    public FlightRecorderPolicyFactory(PolicyFactory wrapped) {
+        super(wrapped, RecordingPolicy.class);
+
+        if (wrapped == null) {
+            throw new IllegalArgumentException("wrapped must not be null");
+        }
+    }
+
+    @Override
+    RecordingPolicy decorate(String contextId, Policy policy) {
+        return new RecordingPolicy(policy);
+    }
+
+    @Override
+    Policy undecorated(RecordingPolicy decorator) {
+        return decorator.policy;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    static final class RecordingPolicy implements Policy {
+
+        private final Policy policy;
+
+        // Whether the implies methods of the decorated policy record their decisions themselves
+        private final boolean recordsImplies;
+        private final boolean recordsAnonymousImplies;
+        private final boolean recordsPrincipalsImplies;
+        private final boolean recordsBatchImplies;
+        private final boolean defaultBatchImplies;
+
+        RecordingPolicy(Policy policy) {
+            this.policy = policy;
+
+            DefaultImplies defaults = DefaultImplies.of(policy);
+            recordsImplies = defaults.subject;
+            recordsPrincipalsImplies = defaults.principals && recordsImplies;
+            recordsAnonymousImplies = defaults.anonymous && recordsPrincipalsImplies;
+            recordsBatchImplies = defaults.batch && recordsImplies;
+            defaultBatchImplies = defaults.batch;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            if (recordsImplies) {
+                return policy.implies(permissionToBeChecked, subject);
+            }
+
+            Object decision = AuthorizationEvents.beginDecision();
+            boolean implied = policy.implies(permissionToBeChecked, subject);
+            AuthorizationEvents.endDecision(decision, "implies", permissionToBeChecked, implied);
+
+            return implied;
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesAsync(Permission permissionToBeChecked, Subject subject) {
+            Object decision = AuthorizationEvents.beginDecision();
+
+            return policy.impliesAsync(permissionToBeChecked, subject).thenApply(implied -> {
+                AuthorizationEvents.endDecision(decision, "impliesAsync", permissionToBeChecked, implied);
+
+                return implied;
+            });
+        }
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            Object decision = AuthorizationEvents.beginDecision();
+            boolean excluded = policy.isExcluded(permissionToBeChecked);
+            AuthorizationEvents.endDecision(decision, "isExcluded", permissionToBeChecked, excluded);
+
+            return excluded;
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            Object decision = AuthorizationEvents.beginDecision();
+            boolean unchecked = policy.isUnchecked(permissionToBeChecked);
+            AuthorizationEvents.endDecision(decision, "isUnchecked", permissionToBeChecked, unchecked);
+
+            return unchecked;
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            Object decision = AuthorizationEvents.beginDecision();
+            boolean implied = policy.impliesByRole(permissionToBeChecked, subject);
+            AuthorizationEvents.endDecision(decision, "impliesByRole", permissionToBeChecked, implied);
+
+            return implied;
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesByRoleAsync(Permission permissionToBeChecked, Subject subject) {
+            Object decision = AuthorizationEvents.beginDecision();
+
+            return policy.impliesByRoleAsync(permissionToBeChecked, subject).thenApply(implied -> {
+                AuthorizationEvents.endDecision(decision, "impliesByRoleAsync", permissionToBeChecked, implied);
+
+                return implied;
+            });
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+            Object decision = AuthorizationEvents.beginDecision();
+            boolean implied = policy.impliesByRole(permissionToBeChecked, principals);
+            AuthorizationEvents.endDecision(decision, "impliesByRole", permissionToBeChecked, implied);
+
+            return implied;
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return policy.getPermissionCollection(subject);
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked) {
+            if (recordsAnonymousImplies) {
+                return policy.implies(permissionToBeChecked);
+            }
+
+            Object decision = AuthorizationEvents.beginDecision();
+            boolean implied = policy.implies(permissionToBeChecked);
+            AuthorizationEvents.endDecision(decision, "implies", permissionToBeChecked, implied);
+
+            return implied;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Set<Principal> principals) {
+            if (recordsPrincipalsImplies) {
+                return policy.implies(permissionToBeChecked, principals);
+            }
+
+            Object decision = AuthorizationEvents.beginDecision();
+            boolean implied = policy.implies(permissionToBeChecked, principals);
+            AuthorizationEvents.endDecision(decision, "implies", permissionToBeChecked, implied);
+
+            return implied;
+        }
+
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            if (recordsBatchImplies) {
+                return policy.implies(permissionsToBeChecked, subject);
+            }
+
+            if (defaultBatchImplies) {
+                // Calls implies(Permission, Subject) of this decorator for each permission, as the decorated policy would
+                return Policy.super.implies(permissionsToBeChecked, subject);
+            }
+
+            // The decorated policy checks the permissions together, so each decision is recorded for the whole batch
+            Object[] decisions = new Object[permissionsToBeChecked.size()];
+            for (int i = 0; i < decisions.length; i++) {
+                decisions[i] = AuthorizationEvents.beginDecision();
+            }
+
+            BitSet implied = policy.implies(permissionsToBeChecked, subject);
+            for (int i = 0; i < decisions.length; i++) {
+                AuthorizationEvents.endDecision(decisions[i], "implies", permissionsToBeChecked.get(i), implied.get(i));
+            }
+
+            return implied;
+        }
+
+        @Override
+        public void refresh() {
+            policy.refresh();
+        }
+
+        @Override
+        public long getVersion() {
+            return policy.getVersion();
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+/**
+ * Count-Min sketch of 4 bit counters that estimates how often a hash was recorded, as used by the admission policy of
+ * {@link DecisionCache}.
+ *
+ * <p>
+ * Each hash is counted in 4 counters, one in each of 4 rows, and its estimate is the smallest of them. When the number
+ * of recorded hashes reaches 10 times the capacity, all counters are halved, so that the estimates reflect recent
+ * rather than all time frequency. Counters saturate at 15.
+ *
+ * <p>
+ * Not thread-safe; {@link DecisionCache} only uses a sketch while holding the lock of its partition.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(long capacity) {
+        int counters = Math.max(64, Integer.highestOneBit((int) Math.min(capacity, 1 << 20) * 4 - 1) << 1);
+
+        table = new long[counters >>> 4];
+        tableMask = table.length - 1;
+        sampleSize = (int) Math.min(Integer.MAX_VALUE, Math.max(capacity, 16) * 10);
+    }
+
+    int frequency(long hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < 4; row++) {
+            frequency = Math.min(frequency, counter(hash, row));
+        }
+
+        return frequency;
+    }
+
+    void increment(long hash) {
+        boolean added = false;
+        for (int row = 0; row < 4; row++) {
+            long rowHash = rehash(hash, row);
+            int index = (int) (rowHash >>> 40) & tableMask;
+            int shift = ((int) rowHash & 15) << 2;
+
+            if (((table[index] >>> shift) & 15) != 15) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+
+        if (added && ++size >= sampleSize) {
+            halve();
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private int counter(long hash, int row) {
+        long rowHash = rehash(hash, row);
+        int index = (int) (rowHash >>> 40) & tableMask;
+        int shift = ((int) rowHash & 15) << 2;
+
+        return (int) ((table[index] >>> shift) & 15);
+    }
+
+    private void halve() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        size /= 2;
+    }
+
+    private static long rehash(long hash, int row) {
+        long rowHash = (hash + SEEDS[row]) * 0x9E3779B97F4A7C15L;
+        return rowHash ^ (rowHash >>> 29);
+    }
+
+}
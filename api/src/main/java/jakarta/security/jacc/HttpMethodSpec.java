@@ -17,10 +17,13 @@
 package jakarta.security.jacc;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This class is used ...
@@ -72,13 +75,19 @@ final class HttpMethodSpec {
     }
 
     private static HttpMethodSpec allSpec = new HttpMethodSpec(false, 0);
-    private static List<String> extensionMethods = new ArrayList<String>();
+
+    // Extension methods are registered once and looked up on every permission construction. Lookups are lock-free;
+    // registrations take the lock and publish a copy of the method array before the bit position, so that the
+    // method of any bit position that can be observed is present in the array.
+    private static final ConcurrentHashMap<String, Integer> extensionBits = new ConcurrentHashMap<String, Integer>();
+    private static final ReentrantLock extensionLock = new ReentrantLock();
+    private static volatile String[] extensionMethods = new String[0];
 
     HttpMethodSpec standardSpec;
     boolean exceptionList;
     int standardMap;
     BitSet extensionSet;
-    String actions;
+    volatile String actions;
 
     static HttpMethodSpec getSpec(String actions) {
         HttpMethodSpec spec;
@@ -128,26 +137,59 @@ final class HttpMethodSpec {
     }
     
     
+    static HttpMethodSpec getSpec(boolean isExceptionList, int map, List<String> extensionMethods) {
+        if (map < 0 || map > allSet) {
+            throw new IllegalArgumentException("illegal HTTP method map: '" + map + "'");
+        }
+
+        HttpMethodSpec spec = isExceptionList ? exceptionSpecArray[map] : specArray[map];
+
+        if (extensionMethods.isEmpty()) {
+            return !isExceptionList && map == 0 ? allSpec : spec;
+        }
+
+        BitSet set = new BitSet();
+        for (String method : extensionMethods) {
+            setExtensionBit(method, set);
+        }
+
+        return new HttpMethodSpec(spec, set);
+    }
+
+
     // ### Package level methods
 
+    List<String> getExtensionMethods() {
+        if (extensionSet == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> methods = new ArrayList<String>();
+        for (int i = extensionSet.nextSetBit(0); i >= 0; i = extensionSet.nextSetBit(i + 1)) {
+            methods.add(getExtensionMethod(i));
+        }
+
+        return methods;
+    }
+
     String getActions() {
         if (standardMap == 0 && extensionSet == null) {
             return null;
         }
 
-        synchronized (this) {
-            if (actions != null) {
-                return actions;
-            }
-
+        // Racy but idempotent: concurrent callers compute equal Strings, and any of them may be published
+        String result = actions;
+        if (result == null) {
             if (standardSpec != null) {
-                actions = getExtensionActions(standardSpec.getActions(), standardMap, extensionSet);
+                result = getExtensionActions(standardSpec.getActions(), standardMap, extensionSet);
             } else {
-                actions = getStandardActions(exceptionList, standardMap);
+                result = getStandardActions(exceptionList, standardMap);
             }
+
+            actions = result;
         }
 
-        return actions;
+        return result;
     }
 
     boolean implies(HttpMethodSpec that) {
@@ -219,6 +261,60 @@ final class HttpMethodSpec {
         return doesImplies;
     }
     
+    /**
+     * Returns a spec of the methods in this spec or in the argument spec, such that the result implies both.
+     */
+    HttpMethodSpec union(HttpMethodSpec that) {
+        if ((this.standardMap == 0 && this.extensionSet == null) || (that.standardMap == 0 && that.extensionSet == null)) {
+            return allSpec;
+        }
+
+        int map;
+        BitSet set = new BitSet();
+
+        if (this.exceptionList && that.exceptionList) {
+
+            // Only the methods excepted by both are still excepted
+
+            map = this.standardMap & that.standardMap;
+            if (this.extensionSet != null && that.extensionSet != null) {
+                set.or(this.extensionSet);
+                set.and(that.extensionSet);
+            }
+        } else if (this.exceptionList || that.exceptionList) {
+
+            // The methods excepted by one, minus the methods listed by the other
+
+            HttpMethodSpec exceptions = this.exceptionList ? this : that;
+            HttpMethodSpec methods = this.exceptionList ? that : this;
+
+            map = exceptions.standardMap & ~methods.standardMap;
+            if (exceptions.extensionSet != null) {
+                set.or(exceptions.extensionSet);
+                if (methods.extensionSet != null) {
+                    set.andNot(methods.extensionSet);
+                }
+            }
+        } else {
+            map = this.standardMap | that.standardMap;
+            if (this.extensionSet != null) {
+                set.or(this.extensionSet);
+            }
+            if (that.extensionSet != null) {
+                set.or(that.extensionSet);
+            }
+        }
+
+        boolean isExceptionList = this.exceptionList || that.exceptionList;
+        if (isExceptionList && map == 0 && set.isEmpty()) {
+            return allSpec;
+        }
+
+        HttpMethodSpec spec = isExceptionList ? exceptionSpecArray[map] : specArray[map];
+
+        return set.isEmpty() ? spec : new HttpMethodSpec(spec, set);
+    }
+
     @Override
     public String toString() {
         return getActions();
@@ -264,25 +360,35 @@ final class HttpMethodSpec {
     }
 
     private static void setExtensionBit(String method, BitSet set) {
-        int bitPos;
-        synchronized (extensionMethods) {
-            bitPos = extensionMethods.indexOf(method);
-            if (bitPos < 0) {
-                bitPos = extensionMethods.size();
-                // *** should ensure method is syntactically legal
-                extensionMethods.add(method);
+        Integer bitPos = extensionBits.get(method);
+        if (bitPos == null) {
+            extensionLock.lock();
+            try {
+                bitPos = extensionBits.get(method);
+                if (bitPos == null) {
+                    String[] methods = extensionMethods;
+                    bitPos = methods.length;
+
+                    // *** should ensure method is syntactically legal
+                    String[] newMethods = Arrays.copyOf(methods, methods.length + 1);
+                    newMethods[methods.length] = method;
+                    extensionMethods = newMethods;
+
+                    extensionBits.put(method, bitPos);
+                }
+            } finally {
+                extensionLock.unlock();
             }
         }
         set.set(bitPos);
     }
 
     private static String getExtensionMethod(int bitPos) {
-        synchronized (extensionMethods) {
-            if (bitPos >= 0 && bitPos < extensionMethods.size()) {
-                return (String) extensionMethods.get(bitPos);
-            } else {
-                throw new RuntimeException("invalid (extensionMethods) bit position: '" + bitPos + "' size: '" + extensionMethods.size() + " '");
-            }
+        String[] methods = extensionMethods;
+        if (bitPos >= 0 && bitPos < methods.length) {
+            return methods[bitPos];
+        } else {
+            throw new RuntimeException("invalid (extensionMethods) bit position: '" + bitPos + "' size: '" + methods.length + " '");
         }
     }
 
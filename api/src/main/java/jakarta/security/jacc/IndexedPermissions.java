@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptyList;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of a PermissionCollection that indexes its WebResourcePermissions and WebUserDataPermissions by the
+ * first URLPattern of their URLPatternSpec.
+ *
+ * <p>
+ * java.security.Permissions checks such permissions by calling implies on every permission of the same class. When
+ * the checked permission has an exact, unqualified name, as permissions constructed from a request have, only the
+ * permissions whose first pattern matches that name can imply it. These are found by looking up the name itself, the
+ * path prefixes of the name, the extensions of its last segment and the default pattern. Other permissions are
+ * checked by the wrapped collection.
+ *
+ * <p>
+ * The path prefix lookups of a directory are the same for all names in that directory. {@link #newLookups()} returns
+ * a cache for these, which can be shared by the checks of a batch of permissions.
+ */
+final class IndexedPermissions {
+
+    private final PermissionCollection permissions;
+    private final Index resourceIndex = new Index();
+    private final Index userDataIndex = new Index();
+
+    IndexedPermissions(PermissionCollection permissions) {
+        this.permissions = permissions;
+
+        for (Permission permission : Collections.list(permissions.elements())) {
+            if (permission instanceof WebResourcePermission) {
+                resourceIndex.add(((WebResourcePermission) permission).getURLPatternSpec(), permission);
+            } else if (permission instanceof WebUserDataPermission) {
+                userDataIndex.add(((WebUserDataPermission) permission).getURLPatternSpec(), permission);
+            }
+        }
+    }
+
+    /**
+     * Creates a cache for the path prefix lookups of a batch of checks.
+     */
+    static Lookups newLookups() {
+        return new Lookups();
+    }
+
+    boolean implies(Permission permission, Lookups lookups) {
+        Index index;
+        Map<String, List<Permission>> indexLookups;
+        if (permission.getClass() == WebResourcePermission.class) {
+            index = resourceIndex;
+            indexLookups = lookups.resource;
+        } else if (permission.getClass() == WebUserDataPermission.class) {
+            index = userDataIndex;
+            indexLookups = lookups.userData;
+        } else {
+            return permissions.implies(permission);
+        }
+
+        String name = permission.getName();
+        if (name.indexOf(':') >= 0 || new URLPattern(name).patternType() != URLPattern.PT_EXACT) {
+            // A pattern rather than a request path, which may be implied by any pattern
+            return permissions.implies(permission);
+        }
+
+        return index.implies(permission, name, indexLookups);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    static final class Lookups {
+        private final Map<String, List<Permission>> resource = new HashMap<>();
+        private final Map<String, List<Permission>> userData = new HashMap<>();
+    }
+
+    private static final class Index {
+
+        private final Map<String, List<Permission>> exact = new HashMap<>();
+        private final Map<String, List<Permission>> prefix = new HashMap<>();  // Keyed by the pattern without "/*"
+        private final Map<String, List<Permission>> extension = new HashMap<>(); // Keyed by the pattern without "*"
+        private final List<Permission> defaults = new ArrayList<>();
+
+        void add(URLPatternSpec urlPatternSpec, Permission permission) {
+            String pattern = urlPatternSpec.getURLPattern();
+
+            switch (urlPatternSpec.patternType()) {
+                case URLPattern.PT_EXACT:
+                    exact.computeIfAbsent(pattern, e -> new ArrayList<>(1)).add(permission);
+                    break;
+                case URLPattern.PT_PREFIX:
+                    prefix.computeIfAbsent(pattern.substring(0, pattern.length() - 2), e -> new ArrayList<>(1)).add(permission);
+                    break;
+                case URLPattern.PT_EXTENSION:
+                    extension.computeIfAbsent(pattern.substring(1), e -> new ArrayList<>(1)).add(permission);
+                    break;
+                default:
+                    defaults.add(permission);
+            }
+        }
+
+        boolean implies(Permission permission, String path, Map<String, List<Permission>> lookups) {
+            if (anyImplies(exact.get(path), permission) || anyImplies(prefix.get(path), permission)) {
+                return true;
+            }
+
+            int slash = path.lastIndexOf('/');
+            if (slash >= 0) {
+                // "*.ext" matches when a period follows the last slash and the path ends with ".ext"
+                for (int period = path.indexOf('.', slash); period >= 0; period = path.indexOf('.', period + 1)) {
+                    if (anyImplies(extension.get(path.substring(period)), permission)) {
+                        return true;
+                    }
+                }
+            }
+
+            return anyImplies(prefixesOf(path.substring(0, Math.max(slash, 0)), lookups), permission) ||
+                   anyImplies(defaults, permission);
+        }
+
+        /**
+         * Returns the prefix patterns that match every path in the given directory, from the most specific one.
+         */
+        private List<Permission> prefixesOf(String directory, Map<String, List<Permission>> lookups) {
+            List<Permission> prefixes = lookups.get(directory);
+            if (prefixes != null) {
+                return prefixes;
+            }
+
+            List<Permission> own = prefix.get(directory);
+            List<Permission> parents = directory.isEmpty() ? emptyList() : prefixesOf(parentOf(directory), lookups);
+
+            if (own == null) {
+                prefixes = parents;
+            } else if (parents.isEmpty()) {
+                prefixes = own;
+            } else {
+                prefixes = new ArrayList<>(own.size() + parents.size());
+                prefixes.addAll(own);
+                prefixes.addAll(parents);
+            }
+
+            lookups.put(directory, prefixes);
+
+            return prefixes;
+        }
+
+        private static String parentOf(String directory) {
+            // A relative directory without a slash, as of the name "a/b", falls back to the root of "/*"
+            return directory.substring(0, Math.max(directory.lastIndexOf('/'), 0));
+        }
+
+        private static boolean anyImplies(List<Permission> candidates, Permission permission) {
+            if (candidates != null) {
+                for (int i = 0; i < candidates.size(); i++) {
+                    if (candidates.get(i).implies(permission)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Principal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.security.auth.Subject;
+
+/**
+ * PolicyFactory that decorates the policies of the factory it wraps, such that their decisions are reported to an
+ * {@link AuthorizationMetrics} instance.
+ *
+ * <p>
+ * Every decision is timed and reported with the policy context identifier of the policy and the class of the checked
+ * permission. When a policy relies on the default {@link Policy#implies(Permission, Subject)} algorithm, the
+ * decorator runs that algorithm itself, so that the outcome of the isExcluded and isUnchecked checks it is made of
+ * are reported as well. Otherwise only the outcome of isExcluded and isUnchecked calls made by the caller are.
+ *
+ * <p>
+ * The decorated policies do not record JDK Flight Recorder events. As they run the default implies algorithm
+ * themselves, the decisions of a policy that relies on it are only recorded as such events when this factory is
+ * wrapped by a {@link FlightRecorderPolicyFactory}.
+ *
+ * @see DefaultAuthorizationMetrics
+ */
+public class MetricsPolicyFactory extends DecoratingPolicyFactory<MetricsPolicyFactory.MetricsPolicy> {
+
+    private final AuthorizationMetrics metrics;
+
+    /**
+     * Creates a PolicyFactory that decorates the policies of the given factory.
+     *
+     * @param wrapped the PolicyFactory whose policies are decorated
+     * @param metrics the metrics to which the decisions of the policies are reported
+     */
+    public MetricsPolicyFactory(PolicyFactory wrapped, AuthorizationMetrics metrics) {
+        super(wrapped, MetricsPolicy.class);
+
+        if (wrapped == null || metrics == null) {
+            throw new IllegalArgumentException("wrapped and metrics must not be null");
+        }
+
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics to which the decisions of the policies of this factory are reported.
+     *
+     * @return the metrics of this factory
+     */
+    public AuthorizationMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    MetricsPolicy decorate(String contextId, Policy policy) {
+        return new MetricsPolicy(contextId, policy, metrics);
+    }
+
+    @Override
+    Policy undecorated(MetricsPolicy decorator) {
+        return decorator.policy;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    static final class MetricsPolicy implements Policy {
+
+        private final String contextID;
+        private final Policy policy;
+        private final AuthorizationMetrics metrics;
+
+        private final boolean defaultImplies;
+        private final boolean defaultAnonymousImplies;
+        private final boolean defaultPrincipalsImplies;
+        private final boolean defaultBatchImplies;
+        private final DefaultImplies defaults;
+
+        MetricsPolicy(String contextID, Policy policy, AuthorizationMetrics metrics) {
+            this.contextID = contextID;
+            this.policy = policy;
+            this.metrics = metrics;
+
+            defaults = DefaultImplies.of(policy);
+            defaultImplies = defaults.subject;
+            defaultAnonymousImplies = defaults.anonymous;
+            defaultPrincipalsImplies = defaults.principals;
+            defaultBatchImplies = defaults.batch && defaultImplies;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            if (defaultImplies) {
+                return defaultImplies(permissionToBeChecked, subject, null);
+            }
+
+            long start = System.nanoTime();
+            boolean implied = policy.implies(permissionToBeChecked, subject);
+            metrics.recordDecision(contextID, permissionToBeChecked.getClass(), implied, System.nanoTime() - start);
+
+            return implied;
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesAsync(Permission permissionToBeChecked, Subject subject) {
+            long start = System.nanoTime();
+
+            CompletionStage<Boolean> implied;
+            if (defaultImplies) {
+                // As for implies, run the default algorithm here so that its isExcluded and isUnchecked checks are reported
+                try {
+                    if (isExcluded(permissionToBeChecked)) {
+                        implied = CompletableFuture.completedStage(false);
+                    } else if (isUnchecked(permissionToBeChecked)) {
+                        implied = CompletableFuture.completedStage(true);
+                    } else {
+                        implied = policy.impliesByRoleAsync(permissionToBeChecked, subject);
+                    }
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedStage(e);
+                }
+            } else {
+                implied = policy.impliesAsync(permissionToBeChecked, subject);
+            }
+
+            return implied.thenApply(granted -> {
+                metrics.recordDecision(contextID, permissionToBeChecked.getClass(), granted, System.nanoTime() - start);
+
+                return granted;
+            });
+        }
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            boolean excluded = policy.isExcluded(permissionToBeChecked);
+            metrics.recordExcludedCheck(contextID, permissionToBeChecked.getClass(), excluded);
+
+            return excluded;
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            boolean unchecked = policy.isUnchecked(permissionToBeChecked);
+            metrics.recordUncheckedCheck(contextID, permissionToBeChecked.getClass(), unchecked);
+
+            return unchecked;
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            return policy.impliesByRole(permissionToBeChecked, subject);
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesByRoleAsync(Permission permissionToBeChecked, Subject subject) {
+            return policy.impliesByRoleAsync(permissionToBeChecked, subject);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+            return policy.impliesByRole(permissionToBeChecked, principals);
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return policy.getPermissionCollection(subject);
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked) {
+            if (defaultAnonymousImplies) {
+                // Ends up in implies(Permission, Subject) of this decorator
+                return Policy.super.implies(permissionToBeChecked);
+            }
+
+            long start = System.nanoTime();
+            boolean implied = policy.implies(permissionToBeChecked);
+            metrics.recordDecision(contextID, permissionToBeChecked.getClass(), implied, System.nanoTime() - start);
+
+            return implied;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Set<Principal> principals) {
+            if (defaultPrincipalsImplies) {
+                if (defaultImplies) {
+                    return defaultImplies(permissionToBeChecked, null, principals);
+                }
+
+                // Ends up in implies(Permission, Subject) of this decorator
+                return Policy.super.implies(permissionToBeChecked, principals);
+            }
+
+            long start = System.nanoTime();
+            boolean implied = policy.implies(permissionToBeChecked, principals);
+            metrics.recordDecision(contextID, permissionToBeChecked.getClass(), implied, System.nanoTime() - start);
+
+            return implied;
+        }
+
+        /**
+         * Reports a decision for each permission, timed as an equal share of the time taken by the whole batch.
+         */
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            long start = System.nanoTime();
+
+            BitSet implied;
+            if (defaultBatchImplies) {
+                // As for implies, run the default algorithm here so that its isExcluded and isUnchecked checks are reported
+                implied = BatchAuthorization.impliesByDefault(this, defaults, permissionsToBeChecked, subject, false);
+            } else {
+                implied = policy.implies(permissionsToBeChecked, subject);
+            }
+
+            if (!permissionsToBeChecked.isEmpty()) {
+                long duration = (System.nanoTime() - start) / permissionsToBeChecked.size();
+                for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+                    Permission permission = permissionsToBeChecked.get(i);
+                    metrics.recordDecision(contextID, permission.getClass(), implied.get(i), duration);
+                }
+            }
+
+            return implied;
+        }
+
+        @Override
+        public void refresh() {
+            policy.refresh();
+        }
+
+        @Override
+        public long getVersion() {
+            return policy.getVersion();
+        }
+
+        /**
+         * Runs the default implies algorithm here, so that its isExcluded and isUnchecked checks are reported. The
+         * role check is made with the principals if given, and otherwise with the subject.
+         */
+        private boolean defaultImplies(Permission permissionToBeChecked, Subject subject, Set<Principal> principals) {
+            long start = System.nanoTime();
+
+            boolean implied =
+                !isExcluded(permissionToBeChecked) &&
+                (isUnchecked(permissionToBeChecked) ||
+                    (principals == null ?
+                        policy.impliesByRole(permissionToBeChecked, subject) :
+                        policy.impliesByRole(permissionToBeChecked, principals)));
+
+            metrics.recordDecision(contextID, permissionToBeChecked.getClass(), implied, System.nanoTime() - start);
+
+            return implied;
+        }
+    }
+
+}
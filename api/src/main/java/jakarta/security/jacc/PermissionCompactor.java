@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.list;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compacts the policy statements of a {@link PolicyConfiguration}, typically when it is committed, such that the
+ * resulting collections imply the same request permissions with fewer elements.
+ *
+ * <p>
+ * Request permissions are the permissions a container checks for a request: permissions of other types, and web
+ * permissions with the request path as name and a single HTTP method. A web permission for more than one method may
+ * be implied by a compacted collection when it was not implied by the original one. For instance, the permissions
+ * for GET and for POST on "/a" are merged into one for "GET,POST" on "/a", which also implies the permission for
+ * "GET,POST" on "/a" that neither of them implied on its own.
+ *
+ * <p>
+ * Compaction merges the WebResourcePermissions with equal URLPatternSpecs into a single permission whose HTTP methods
+ * are the union of theirs, and likewise the WebUserDataPermissions with equal URLPatternSpecs and transport types.
+ * It then drops every permission that is implied by another permission of the same collection, such as an exact
+ * pattern permission implied by a path prefix permission with a superset of its methods. Permissions are only
+ * compared to permissions of the same class, and web permissions only to those whose first pattern is not an exact
+ * pattern, as only such permissions can imply a permission with a different name.
+ *
+ * <pre>{@code
+ *     PermissionCollection compacted = PermissionCompactor.compact(policyConfiguration.getUncheckedPermissions());
+ * }
+ * </pre>
+ */
+public final class PermissionCompactor {
+
+    private PermissionCompactor() {
+    }
+
+    /**
+     * Returns a compacted copy of the given permissions.
+     *
+     * @param permissions the permissions to compact
+     * @return a new collection that implies the same request permissions as the given collection
+     */
+    public static Permissions compact(PermissionCollection permissions) {
+        Map<Object, Permission> merged = new LinkedHashMap<>();
+        Map<Class<?>, List<Permission>> others = new LinkedHashMap<>();
+
+        for (Permission permission : list(permissions.elements())) {
+            if (permission instanceof WebResourcePermission) {
+                merged.merge(((WebResourcePermission) permission).getURLPatternSpec(), permission, PermissionCompactor::mergeResourcePermissions);
+            } else if (permission instanceof WebUserDataPermission) {
+                WebUserDataPermission userDataPermission = (WebUserDataPermission) permission;
+                merged.merge(
+                    List.of(userDataPermission.getURLPatternSpec(), userDataPermission.getTransportType()),
+                    permission, PermissionCompactor::mergeUserDataPermissions);
+            } else {
+                others.computeIfAbsent(permission.getClass(), e -> new ArrayList<>()).add(permission);
+            }
+        }
+
+        Permissions compacted = new Permissions();
+
+        List<Permission> resourcePermissions = new ArrayList<>();
+        List<Permission> userDataPermissions = new ArrayList<>();
+        for (Permission permission : merged.values()) {
+            (permission instanceof WebResourcePermission ? resourcePermissions : userDataPermissions).add(permission);
+        }
+
+        addUnimplied(resourcePermissions, compacted);
+        addUnimplied(userDataPermissions, compacted);
+
+        for (List<Permission> permissionsOfClass : others.values()) {
+            for (Permission permission : prune(permissionsOfClass)) {
+                compacted.add(permission);
+            }
+        }
+
+        return compacted;
+    }
+
+    /**
+     * Adds compacted copies of the excluded, unchecked and per role policy statements of the given policy
+     * configuration to the target policy configuration.
+     *
+     * @param policyConfiguration the policy configuration whose policy statements are compacted
+     * @param target the policy configuration, in the "open" state, to which the compacted policy statements are added
+     *
+     * @throws PolicyContextException if either policy configuration throws a PolicyContextException
+     */
+    public static void compact(PolicyConfiguration policyConfiguration, PolicyConfiguration target) throws PolicyContextException {
+        target.addToExcludedPolicy(compact(policyConfiguration.getExcludedPermissions()));
+        target.addToUncheckedPolicy(compact(policyConfiguration.getUncheckedPermissions()));
+
+        for (Map.Entry<String, PermissionCollection> rolePermissions : policyConfiguration.getPerRolePermissions().entrySet()) {
+            target.addToRole(rolePermissions.getKey(), compact(rolePermissions.getValue()));
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static Permission mergeResourcePermissions(Permission one, Permission other) {
+        WebResourcePermission first = (WebResourcePermission) one;
+        WebResourcePermission second = (WebResourcePermission) other;
+
+        return new WebResourcePermission(
+            first.getName(), first.getURLPatternSpec(), first.getMethodSpec().union(second.getMethodSpec()));
+    }
+
+    private static Permission mergeUserDataPermissions(Permission one, Permission other) {
+        WebUserDataPermission first = (WebUserDataPermission) one;
+        WebUserDataPermission second = (WebUserDataPermission) other;
+
+        return new WebUserDataPermission(
+            first.getName(), first.getURLPatternSpec(), first.getMethodSpec().union(second.getMethodSpec()), first.getTransportType());
+    }
+
+    /**
+     * Adds the web permissions that are not implied by another one. A permission with an exact first pattern can only
+     * imply permissions with the same name, which were merged into it, so only the others have to be tried.
+     */
+    private static void addUnimplied(List<Permission> webPermissions, Permissions compacted) {
+        List<Permission> exact = new ArrayList<>();
+        List<Permission> patterns = new ArrayList<>();
+        for (Permission permission : webPermissions) {
+            (urlPatternSpecOf(permission).patternType() == URLPattern.PT_EXACT ? exact : patterns).add(permission);
+        }
+
+        List<Permission> keptPatterns = prune(patterns);
+
+        for (Permission permission : keptPatterns) {
+            compacted.add(permission);
+        }
+
+        for (Permission permission : exact) {
+            if (!anyImplies(keptPatterns, permission)) {
+                compacted.add(permission);
+            }
+        }
+    }
+
+    /**
+     * Returns the permissions that are not implied by another one of the given permissions. Of permissions that imply
+     * each other, the first is kept.
+     */
+    private static List<Permission> prune(List<Permission> permissions) {
+        List<Permission> kept = new ArrayList<>();
+
+        for (Permission permission : permissions) {
+            if (!anyImplies(kept, permission)) {
+                kept.removeIf(permission::implies);
+                kept.add(permission);
+            }
+        }
+
+        return kept;
+    }
+
+    private static boolean anyImplies(List<Permission> permissions, Permission permission) {
+        for (Permission candidate : permissions) {
+            if (candidate.implies(permission)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static URLPatternSpec urlPatternSpecOf(Permission permission) {
+        if (permission instanceof WebResourcePermission) {
+            return ((WebResourcePermission) permission).getURLPatternSpec();
+        }
+
+        return ((WebUserDataPermission) permission).getURLPatternSpec();
+    }
+
+}
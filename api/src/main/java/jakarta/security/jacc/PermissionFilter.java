@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.list;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact probabilistic pre-check for a PermissionCollection, such as the excluded, unchecked or per role policy
+ * statements of a committed {@link PolicyConfiguration}.
+ *
+ * <p>
+ * The filter records whether the collection is empty, which permission classes it contains, and, in a Bloom
+ * filter, the first URL patterns of its WebResourcePermissions and WebUserDataPermissions: exact patterns, path
+ * prefix patterns without their trailing "/*", and extension patterns without their leading "*". For a web
+ * permission with an exact, unqualified name, as permissions constructed from a request have,
+ * {@link #mightImply(Permission)} probes the name, its path prefixes and its extensions, and only when one of these
+ * might be present does the collection itself have to be checked. Permissions with the default pattern "/" are kept
+ * aside and checked directly. A false result is definite; a true result means the collection has to be checked.
+ *
+ * <p>
+ * A filter describes the collection as it was when the filter was created, and has to be recreated when the
+ * collection changes.
+ *
+ * <pre>{@code
+ *     PermissionFilter excludedFilter = PermissionFilter.of(policyConfiguration.getExcludedPermissions());
+ *
+ *     boolean excluded = excludedFilter.mightImply(permission) && excludedPermissions.implies(permission);
+ * }
+ * </pre>
+ */
+public final class PermissionFilter {
+
+    private static final int BITS_PER_KEY = 10;
+
+    // Seeds that separate the kinds of keys, and the permission classes, in the one Bloom filter
+    private static final int EXACT = 0x9E3779B9;
+    private static final int PREFIX = 0x7F4A7C15;
+    private static final int EXTENSION = 0x2545F491;
+    private static final int USER_DATA = 0x61C88647;
+
+    // Permissions of other classes, such as java.security.AllPermission, might imply permissions of any class
+    private static final Set<Class<?>> KNOWN_CLASSES = Set.of(EJBMethodPermission.class, EJBRoleRefPermission.class, WebRoleRefPermission.class);
+
+    private final boolean empty;
+    private final boolean hasResourcePermissions;
+    private final boolean hasUserDataPermissions;
+    private final Set<Class<?>> otherClasses = new HashSet<>();
+    private final boolean hasUnknownPermissions;
+    private final List<Permission> defaultPatternPermissions = new ArrayList<>();
+    private final long[] bits;
+
+    private PermissionFilter(PermissionCollection permissions) {
+        List<Permission> elements = list(permissions.elements());
+
+        List<Permission> webPermissions = new ArrayList<>();
+        boolean resourcePermissions = false;
+        boolean userDataPermissions = false;
+        for (Permission permission : elements) {
+            if (permission instanceof WebResourcePermission) {
+                resourcePermissions = true;
+                webPermissions.add(permission);
+            } else if (permission instanceof WebUserDataPermission) {
+                userDataPermissions = true;
+                webPermissions.add(permission);
+            } else {
+                otherClasses.add(permission.getClass());
+            }
+        }
+
+        empty = elements.isEmpty();
+        hasUnknownPermissions = !KNOWN_CLASSES.containsAll(otherClasses);
+        hasResourcePermissions = resourcePermissions;
+        hasUserDataPermissions = userDataPermissions;
+        bits = new long[Math.max(1, (webPermissions.size() * BITS_PER_KEY + 63) >>> 6)];
+
+        for (Permission permission : webPermissions) {
+            int seed = permission instanceof WebUserDataPermission ? USER_DATA : 0;
+            URLPatternSpec urlPatternSpec = permission instanceof WebResourcePermission ?
+                ((WebResourcePermission) permission).getURLPatternSpec() :
+                ((WebUserDataPermission) permission).getURLPatternSpec();
+            String pattern = urlPatternSpec.getURLPattern();
+
+            switch (urlPatternSpec.patternType()) {
+                case URLPattern.PT_EXACT:
+                    add(mix(pattern.hashCode(), seed ^ EXACT));
+                    break;
+                case URLPattern.PT_PREFIX:
+                    add(mix(hash(pattern, 0, pattern.length() - 2), seed ^ PREFIX));
+                    break;
+                case URLPattern.PT_EXTENSION:
+                    add(mix(hash(pattern, 1, pattern.length()), seed ^ EXTENSION));
+                    break;
+                default:
+                    defaultPatternPermissions.add(permission);
+            }
+        }
+    }
+
+    /**
+     * Creates a filter for the given permissions.
+     *
+     * @param permissions the permissions to create a filter for
+     * @return a filter describing the given permissions
+     */
+    public static PermissionFilter of(PermissionCollection permissions) {
+        return new PermissionFilter(permissions);
+    }
+
+    /**
+     * Returns whether the collection of this filter was empty.
+     *
+     * @return true if the collection contained no permissions, false otherwise
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Checks whether the collection of this filter might imply the given permission.
+     *
+     * @param permission the permission to check
+     * @return false if the collection does not imply the permission, true if it might
+     */
+    public boolean mightImply(Permission permission) {
+        if (empty) {
+            return false;
+        }
+
+        if (hasUnknownPermissions) {
+            return true;
+        }
+
+        int seed;
+        if (permission instanceof WebResourcePermission) {
+            if (!hasResourcePermissions) {
+                return false;
+            }
+            seed = 0;
+        } else if (permission instanceof WebUserDataPermission) {
+            if (!hasUserDataPermissions) {
+                return false;
+            }
+            seed = USER_DATA;
+        } else {
+            return otherClasses.contains(permission.getClass());
+        }
+
+        for (Permission defaultPatternPermission : defaultPatternPermissions) {
+            if (defaultPatternPermission.implies(permission)) {
+                return true;
+            }
+        }
+
+        String name = permission.getName();
+        if (name.indexOf(':') >= 0 || new URLPattern(name).patternType() != URLPattern.PT_EXACT) {
+            // A pattern rather than a request path, which may be implied by any pattern
+            return true;
+        }
+
+        return mightContainPath(name, seed);
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Probes the exact, path prefix and extension keys that could match the given path. The hashes of the path
+     * prefixes are computed while scanning the path, so that no substrings are created.
+     */
+    private boolean mightContainPath(String path, int seed) {
+        if (mightContain(mix(path.hashCode(), seed ^ EXACT))) {
+            return true;
+        }
+
+        // "/*" has the empty key and matches every path, also one that does not start with a '/'
+        if (mightContain(mix(0, seed ^ PREFIX))) {
+            return true;
+        }
+
+        // "/a/*" matches "/a" and everything below it
+        int hash = 0;
+        int lastSlash = -1;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/') {
+                if (i > 0 && mightContain(mix(hash, seed ^ PREFIX))) {
+                    return true;
+                }
+                lastSlash = i;
+            }
+            hash = 31 * hash + c;
+        }
+
+        if (mightContain(mix(hash, seed ^ PREFIX))) {
+            return true;
+        }
+
+        for (int period = path.indexOf('.', lastSlash + 1); period >= 0; period = path.indexOf('.', period + 1)) {
+            if (mightContain(mix(hash(path, period, path.length()), seed ^ EXTENSION))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void add(long hash) {
+        int length = bits.length << 6;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < 3; i++) {
+            int bit = Math.floorMod(h1 + i * h2, length);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(long hash) {
+        int length = bits.length << 6;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < 3; i++) {
+            int bit = Math.floorMod(h1 + i * h2, length);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Same as the hash code of the substring from begin to end.
+     */
+    private static int hash(String string, int begin, int end) {
+        int hash = 0;
+        for (int i = begin; i < end; i++) {
+            hash = 31 * hash + string.charAt(i);
+        }
+
+        return hash;
+    }
+
+    private static long mix(int hash, int seed) {
+        long mixed = (hash ^ seed) * 0x9E3779B97F4A7C15L;
+        mixed ^= mixed >>> 32;
+        mixed *= 0xD6E8FEB86659FD93L;
+        return mixed ^ (mixed >>> 32);
+    }
+
+}
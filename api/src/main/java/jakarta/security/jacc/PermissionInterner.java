@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Assigns dense int identifiers to distinct permissions, so that a decision can be cached under a single long, as
+ * given by {@link #decisionKey(int, long)}, instead of under the permission and the set of roles of the caller.
+ *
+ * <p>
+ * Equal permissions get the same identifier, and identifiers are assigned from 1 upwards. Identifiers are only valid
+ * for the epoch, such as a {@link PolicyEpoch} or {@link Policy#getVersion() policy version}, at which they were
+ * assigned: once identifiers are asked for at a later epoch, the interner starts over, so that permissions that are
+ * no longer checked do not accumulate. To bound its memory when permissions are derived
+ * from requests, an interner assigns at most a maximum number of identifiers per epoch, after which permissions that
+ * were not seen before get no identifier.
+ *
+ * @see CachingPrincipalMapper#getRoleSetId(javax.security.auth.Subject)
+ */
+public final class PermissionInterner {
+
+    /**
+     * The maximum number of identifiers assigned per epoch by an interner created with the default constructor.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1 << 16;
+
+    private final int maximumSize;
+    private final AtomicReference<Identifiers> identifiers = new AtomicReference<>(new Identifiers(0));
+
+    /**
+     * Creates an interner that assigns at most {@value #DEFAULT_MAXIMUM_SIZE} identifiers per epoch.
+     */
+    public PermissionInterner() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates an interner that assigns at most the given number of identifiers per epoch.
+     *
+     * @param maximumSize the maximum number of identifiers assigned per epoch
+     */
+    public PermissionInterner(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the identifier of the given permission at the given epoch.
+     *
+     * <p>
+     * The epoch should be read once, before the decision that is to be cached under the identifier is made, and the
+     * decision should be cached together with it.
+     *
+     * @param permission the permission to be identified
+     * @param epoch the policy epoch at which the identifier is to be valid
+     * @return the identifier of the permission, which is never negative, or 0 if the permission was not seen before
+     * at the given epoch and no more identifiers can be assigned, or identifiers were already assigned at a later epoch
+     */
+    public int getId(Permission permission, long epoch) {
+        if (permission == null) {
+            throw new IllegalArgumentException("permission must not be null");
+        }
+
+        return getId((Object) permission, epoch);
+    }
+
+    /**
+     * Returns the number of identifiers assigned at the latest epoch at which identifiers were asked for.
+     *
+     * @return the number of interned permissions
+     */
+    public int size() {
+        return identifiers.get().ids.size();
+    }
+
+    /**
+     * Combines a permission identifier and a role set identifier into the key under which a decision is cached.
+     *
+     * @param permissionId the identifier of the permission, as given by {@link #getId(Permission, long)}
+     * @param roleSetId the identifier of the set of roles of the caller, as given by a {@link CachingPrincipalMapper}
+     * @return the decision key, which is 0 if and only if the permission identifier is 0
+     */
+    public static long decisionKey(int permissionId, long roleSetId) {
+        if (roleSetId >>> 32 != 0) {
+            throw new IllegalArgumentException("roleSetId must fit in 32 bits");
+        }
+        if (permissionId == 0) {
+            return 0;
+        }
+
+        return (long) permissionId << 32 | roleSetId;
+    }
+
+    /**
+     * Returns the identifier of the given permission or {@link WebRequestKey}.
+     */
+    int getId(Object permission, long epoch) {
+        Identifiers current = identifiers.get();
+
+        while (current.epoch != epoch) {
+            if (current.epoch > epoch) {
+                // The caller read the epoch before it was advanced, so its decision will not be valid anyway
+                return 0;
+            }
+
+            Identifiers next = new Identifiers(epoch);
+            if (identifiers.compareAndSet(current, next)) {
+                current = next;
+            } else {
+                current = identifiers.get();
+            }
+        }
+
+        return current.getId(permission, maximumSize);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    /**
+     * The identifiers assigned at one epoch.
+     */
+    private static final class Identifiers {
+
+        final long epoch;
+        final Map<Object, Integer> ids = new ConcurrentHashMap<>();
+        final AtomicInteger lastId = new AtomicInteger();
+
+        Identifiers(long epoch) {
+            this.epoch = epoch;
+        }
+
+        int getId(Object permission, int maximumSize) {
+            Integer id = ids.get(permission);
+            if (id != null) {
+                return id;
+            }
+
+            if (ids.size() >= maximumSize) {
+                return 0;
+            }
+
+            return ids.computeIfAbsent(permission, e -> lastId.incrementAndGet());
+        }
+    }
+
+}
@@ -20,7 +20,11 @@ import static java.util.Collections.emptySet;
 import java.security.Permission;
 import java.security.PermissionCollection;
 import java.security.Principal;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import javax.security.auth.Subject;
 
 /**
@@ -45,20 +49,95 @@ public interface Policy {
      * This method checks whether the permission represented by the @{permissionToBeChecked} parameter is granted to
      * the caller principal within the @{subject} parameter.
      *
+     * <p>
+     * The default implementation records the decision, and each of the checks it is made of, as a
+     * <code>jakarta.authorization.Decision</code> JDK Flight Recorder event when such events are enabled.
+     *
      * @param permissionToBeChecked the permission this policy is going to check
      * @param subject holder of the (obscured) caller principal
      * @return true if the caller principal has the requested permission, false otherwise
      */
     default boolean implies(Permission permissionToBeChecked, Subject subject) {
-        if (isExcluded(permissionToBeChecked)) {
-            return false;
-        }
+        Object decision = AuthorizationEvents.beginDecision();
 
-        if (isUnchecked(permissionToBeChecked)) {
-            return true;
-        }
+        boolean implied =
+            !recordIsExcluded(permissionToBeChecked) &&
+            (recordIsUnchecked(permissionToBeChecked) || recordImpliesByRole(permissionToBeChecked, subject));
+
+        AuthorizationEvents.endDecision(decision, "implies", permissionToBeChecked, implied);
 
-        return impliesByRole(permissionToBeChecked, subject);
+        return implied;
+    }
+
+    /**
+     * This method checks for each of the permissions in the @{permissionsToBeChecked} parameter whether it is
+     * granted to the caller principal within the @{subject} parameter, as {@link #implies(Permission, Subject)}
+     * would.
+     *
+     * <p>
+     * When this policy does not override {@link #implies(Permission, Subject)}, the default implementation checks
+     * {@link #isExcluded(Permission)} and {@link #isUnchecked(Permission)} per permission, but obtains
+     * {@link #getPermissionCollection(Subject)} only once for the whole batch, and grants the remaining permissions
+     * that it implies without calling {@link #impliesByRole(Permission, Subject)}. Since that collection may not hold
+     * all permissions of the caller, the permissions it does not imply are checked by impliesByRole. When this policy
+     * overrides {@link #impliesByRole(Permission, Set)}, the principals of the subject are obtained once for the whole
+     * batch, and those permissions are checked by that method instead. Web permissions in that collection are indexed
+     * by URL pattern, and lookups for URL paths with a common prefix are shared. Each decision and check is recorded as
+     * a Flight Recorder event, as by {@link #implies(Permission, Subject)}. When this policy does override
+     * {@link #implies(Permission, Subject)}, the default implementation calls it for each permission.
+     *
+     * @param permissionsToBeChecked the permissions this policy is going to check
+     * @param subject holder of the (obscured) caller principal
+     * @return a BitSet in which the bit at the index of each permission is set if the caller principal has that
+     * permission
+     */
+    default BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+        return BatchAuthorization.implies(this, permissionsToBeChecked, subject);
+    }
+
+    /**
+     * This method checks whether the permission represented by the @{permissionToBeChecked} parameter is granted to
+     * the caller principal within the @{subject} parameter, without requiring the calling thread to wait for a
+     * policy that consults an external system.
+     *
+     * <p>
+     * When this policy does not override {@link #implies(Permission, Subject)}, the default implementation checks
+     * {@link #isExcluded(Permission)} and then {@link #isUnchecked(Permission)} on the calling thread, and only when
+     * the permission is neither excluded nor unchecked returns the stage of
+     * {@link #impliesByRoleAsync(Permission, Subject)}. A policy that consults an external system for the roles of
+     * the caller therefore only needs to override that method, and keeps the precedence of excluded over unchecked
+     * over role based permissions. When this policy does override {@link #implies(Permission, Subject)}, the default
+     * implementation returns a completed stage with its result.
+     *
+     * <p>
+     * A Servlet container that receives a stage which is not yet completed can put the request in asynchronous mode
+     * using {@code ServletRequest.startAsync()}, and dispatch or reject the request from the completion of the
+     * stage, instead of blocking the request thread. The stage may be completed on a thread other than the calling
+     * thread, on which the {@link PolicyContext} of the calling thread is not available.
+     *
+     * @param permissionToBeChecked the permission this policy is going to check
+     * @param subject holder of the (obscured) caller principal
+     * @return a stage that completes with true if the caller principal has the requested permission, and with false
+     * otherwise, or that completes exceptionally if the permission could not be checked
+     */
+    default CompletionStage<Boolean> impliesAsync(Permission permissionToBeChecked, Subject subject) {
+        try {
+            if (!DefaultImplies.usesDefaultImplies(this)) {
+                return CompletableFuture.completedStage(implies(permissionToBeChecked, subject));
+            }
+
+            if (recordIsExcluded(permissionToBeChecked)) {
+                return CompletableFuture.completedStage(false);
+            }
+
+            if (recordIsUnchecked(permissionToBeChecked)) {
+                return CompletableFuture.completedStage(true);
+            }
+
+            return impliesByRoleAsync(permissionToBeChecked, subject);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedStage(e);
+        }
     }
 
     /**
@@ -97,6 +176,28 @@ public interface Policy {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * This method checks whether the permission represented by the @{permissionToBeChecked} parameter is granted to
+     * the caller principal within the @{subject} parameter based on one or more roles associated with that
+     * caller principal, without requiring the calling thread to wait for a policy that consults an external system.
+     *
+     * <p>
+     * The default implementation returns a completed stage with the result of
+     * {@link #impliesByRole(Permission, Subject)}.
+     *
+     * @param permissionToBeChecked the permission this policy is going to check
+     * @param subject holder of the (obscured) caller principal
+     * @return a stage that completes with true if the caller principal has the requested permission, and with false
+     * otherwise, or that completes exceptionally if the permission could not be checked
+     */
+    default CompletionStage<Boolean> impliesByRoleAsync(Permission permissionToBeChecked, Subject subject) {
+        try {
+            return CompletableFuture.completedStage(recordImpliesByRole(permissionToBeChecked, subject));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedStage(e);
+        }
+    }
+
     /**
      * Returns a collection of at least all declared permissions associated with the caller principal
      * contained in the @{subject} parameter.
@@ -135,20 +236,124 @@ public interface Policy {
      * are the permissions transformed from the Jakarta Servlet security constraints expression in @{web.xml}, via annotations
      * or programmatically using the Jakarta Servlet API.
      *
+     * <p>
+     * When this policy does not override {@link #implies(Permission, Subject)}, the default implementation runs the
+     * same algorithm on the principals directly, calling {@link #impliesByRole(Permission, Set)} for the role check,
+     * such that no Subject has to be constructed by a policy that overrides that method as well. Otherwise it calls
+     * {@link #implies(Permission, Subject)} with a read-only Subject holding the principals, which, unless the set of
+     * principals is empty, is constructed and given a copy of the principals on every call.
+     *
      * @param permissionToBeChecked the permission this policy is going to check
      * @param principals collection containing the (obscured) caller principal
      * @return a collection of permissions associated with the caller principal
      */
     default boolean implies(Permission permissionToBeChecked, Set<Principal> principals) {
-        Subject subject = new Subject();
-        subject.getPrincipals().addAll(principals);
+        if (!DefaultImplies.usesDefaultImplies(this)) {
+            return implies(permissionToBeChecked, SubjectViews.of(principals));
+        }
+
+        Object decision = AuthorizationEvents.beginDecision();
+
+        boolean implied =
+            !recordIsExcluded(permissionToBeChecked) &&
+            (recordIsUnchecked(permissionToBeChecked) || recordImpliesByRole(permissionToBeChecked, principals));
+
+        AuthorizationEvents.endDecision(decision, "implies", permissionToBeChecked, implied);
+
+        return implied;
+    }
 
-        return implies(permissionToBeChecked, subject);
+    /**
+     * This method checks whether the permission represented by the @{permissionToBeChecked} parameter is granted to
+     * the caller principal within the @{principals} parameter based on one or more roles associated with that
+     * caller principal.
+     *
+     * <p>
+     * The default implementation calls {@link #impliesByRole(Permission, Subject)} with a read-only Subject holding
+     * the principals, which, unless the set of principals is empty, is constructed and given a copy of the principals
+     * on every call. Policies that can check the principals directly, for instance using
+     * {@link PrincipalMapper#getMappedRoles(Set)}, can override this method to avoid constructing that Subject.
+     *
+     * <p>
+     * As this method overloads {@link #impliesByRole(Permission, Subject)}, a call that passes an untyped
+     * <code>null</code> is ambiguous, and has to cast it to either <code>Subject</code> or <code>Set</code>.
+     *
+     * @param permissionToBeChecked the permission this policy is going to check
+     * @param principals collection containing the (obscured) caller principal
+     * @return true if the caller principal has the requested permission, false otherwise
+     */
+    default boolean impliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+        return impliesByRole(permissionToBeChecked, SubjectViews.of(principals));
     }
 
     /**
      * Optional method; TODO: needed?
+     *
+     * <p>
+     * Policies that override this method should advance their version, see {@link #getVersion()}. The default
+     * implementation advances the epoch of all policy contexts with {@link PolicyEpoch#advance()}, as it cannot tell
+     * which policy context it belongs to.
      */
-    default void refresh() { }
+    default void refresh() {
+        PolicyEpoch.advance();
+    }
+
+    /**
+     * Returns the version of this policy, which increases whenever the decisions of this policy may have changed, for
+     * instance when its policy configuration was committed, linked or deleted, or the policy was refreshed. Caches of
+     * the decisions of this policy can validate an entry by comparing the version at which it was made with the
+     * current one, instead of being flushed.
+     *
+     * <p>
+     * Policies that override this method should obtain their versions from {@link PolicyEpoch#advance(String)}, so
+     * that versions also increase when a policy replaces another for the same policy context, and should return the
+     * version with a single volatile read. The default implementation returns {@link PolicyEpoch#currentGlobal()},
+     * which increases whenever all policies may have changed, such as when a policy is refreshed by the default
+     * {@link #refresh()} method. Caches should therefore also validate decisions against
+     * {@link PolicyEpoch#current(String)} for the policy context of the policy, which increases when its policy
+     * configuration is committed, linked or deleted.
+     *
+     * @return the current version of this policy
+     */
+    default long getVersion() {
+        return PolicyEpoch.currentGlobal();
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    // The checks made by the default implies method, each recorded as a Flight Recorder event when enabled
+
+    private boolean recordIsExcluded(Permission permissionToBeChecked) {
+        Object decision = AuthorizationEvents.beginDecision();
+        boolean excluded = isExcluded(permissionToBeChecked);
+        AuthorizationEvents.endDecision(decision, "isExcluded", permissionToBeChecked, excluded);
+
+        return excluded;
+    }
+
+    private boolean recordIsUnchecked(Permission permissionToBeChecked) {
+        Object decision = AuthorizationEvents.beginDecision();
+        boolean unchecked = isUnchecked(permissionToBeChecked);
+        AuthorizationEvents.endDecision(decision, "isUnchecked", permissionToBeChecked, unchecked);
+
+        return unchecked;
+    }
+
+    private boolean recordImpliesByRole(Permission permissionToBeChecked, Subject subject) {
+        Object decision = AuthorizationEvents.beginDecision();
+        boolean implied = impliesByRole(permissionToBeChecked, subject);
+        AuthorizationEvents.endDecision(decision, "impliesByRole", permissionToBeChecked, implied);
+
+        return implied;
+    }
+
+    private boolean recordImpliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+        Object decision = AuthorizationEvents.beginDecision();
+        boolean implied = impliesByRole(permissionToBeChecked, principals);
+        AuthorizationEvents.endDecision(decision, "impliesByRole", permissionToBeChecked, implied);
+
+        return implied;
+    }
 
 }
@@ -0,0 +1,569 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.list;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact, versioned binary codec for the Jakarta Authorization permission types and for the contents of a
+ * {@link PolicyConfiguration}.
+ *
+ * <p>
+ * The encoded form starts with a header consisting of a magic number, a format version and the kind of content
+ * (a collection of permissions or the contents of a policy configuration). The header is followed by a table
+ * containing every distinct String used by the encoded permissions, and the permissions themselves. Permissions
+ * refer to Strings by their index in the table, and all numbers are written as variable length integers.
+ *
+ * <p>
+ * The permission types defined in this package are encoded in their parsed form; URL pattern types, the canonical
+ * URLPatternList and the HTTP method sets are written as they are held by the permission. Decoding therefore restores
+ * the permissions without parsing or canonicalizing their names and actions again. Other permission types are
+ * encoded by class name, name and actions and are restored via their <code>(String, String)</code> or
+ * <code>(String)</code> constructor; a class named in the encoded form is only initialized once it is known to be a
+ * Permission.
+ *
+ * <p>
+ * This codec is intended for replicating and persisting policy statements between processes running the same
+ * version of this API, and is not a replacement for Java serialization of individual permissions.
+ */
+public final class PolicyCodec {
+
+    /**
+     * The version of the encoded format written by this codec. Version 2 added the role inheritance of a policy
+     * configuration. Encoded forms of earlier versions can still be decoded.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The name of the class path resource holding policy statements that were translated at build time, encoded by
+     * {@link #encode(PolicyConfiguration)}. A provider may decode this resource into the policy configuration of a
+     * module, via {@link #decode(ByteBuffer, PolicyConfiguration)}, instead of translating the security constraints of
+     * that module at deployment time.
+     */
+    public static final String PRECOMPILED_POLICY = "META-INF/jakarta-authorization/policy.jacc";
+
+    private static final int MAGIC = 0x4A414343; // "JACC"
+
+    private static final byte KIND_PERMISSIONS = 1;
+    private static final byte KIND_POLICY = 2;
+
+    private static final byte TAG_OTHER = 0;
+    private static final byte TAG_WEB_RESOURCE = 1;
+    private static final byte TAG_WEB_USER_DATA = 2;
+    private static final byte TAG_WEB_ROLE_REF = 3;
+    private static final byte TAG_EJB_METHOD = 4;
+    private static final byte TAG_EJB_ROLE_REF = 5;
+
+    private PolicyCodec() {
+    }
+
+    /**
+     * Encodes the permissions contained in the given collection.
+     *
+     * @param permissions the collection of permissions to encode; the collection may be either a homogeneous or
+     * heterogeneous collection.
+     * @return the encoded permissions
+     */
+    public static byte[] encode(PermissionCollection permissions) {
+        Writer writer = new Writer();
+        writer.writePermissions(permissions);
+
+        return writer.toByteArray(KIND_PERMISSIONS);
+    }
+
+    /**
+     * Encodes the policy statements of the given policy configuration; its policy context identifier, excluded
+     * and unchecked policy statements, the per role policy statements and the role inheritance.
+     *
+     * @param policyConfiguration the policy configuration whose policy statements are to be encoded
+     * @return the encoded policy statements
+     *
+     * @throws PolicyContextException if the policy context identifier could not be obtained from the policy
+     * configuration
+     */
+    public static byte[] encode(PolicyConfiguration policyConfiguration) throws PolicyContextException {
+        Writer writer = new Writer();
+
+        writer.writeString(policyConfiguration.getContextID());
+        writer.writePermissions(policyConfiguration.getExcludedPermissions());
+        writer.writePermissions(policyConfiguration.getUncheckedPermissions());
+
+        Map<String, PermissionCollection> perRolePermissions = policyConfiguration.getPerRolePermissions();
+        writer.writeVarInt(perRolePermissions.size());
+        for (Map.Entry<String, PermissionCollection> rolePermissions : perRolePermissions.entrySet()) {
+            writer.writeString(rolePermissions.getKey());
+            writer.writePermissions(rolePermissions.getValue());
+        }
+
+        Map<String, Set<String>> inheritedRoles = policyConfiguration.getInheritedRoles();
+        writer.writeVarInt(inheritedRoles.size());
+        for (Map.Entry<String, Set<String>> roleInheritance : inheritedRoles.entrySet()) {
+            writer.writeString(roleInheritance.getKey());
+            writer.writeVarInt(roleInheritance.getValue().size());
+            for (String inheritedRoleName : roleInheritance.getValue()) {
+                writer.writeString(inheritedRoleName);
+            }
+        }
+
+        return writer.toByteArray(KIND_POLICY);
+    }
+
+    /**
+     * Decodes permissions previously encoded by {@link #encode(PermissionCollection)}.
+     *
+     * @param encoded the encoded permissions
+     * @return a heterogeneous collection containing the decoded permissions
+     *
+     * @throws IllegalArgumentException if the encoded form is malformed or of an unsupported version
+     */
+    public static PermissionCollection decodePermissions(byte[] encoded) {
+        return decodePermissions(ByteBuffer.wrap(encoded));
+    }
+
+    /**
+     * Decodes permissions previously encoded by {@link #encode(PermissionCollection)}, starting at the current
+     * position of the given buffer. After this method returns, the position of the buffer is just past the
+     * encoded permissions.
+     *
+     * @param encoded a buffer containing the encoded permissions
+     * @return a heterogeneous collection containing the decoded permissions
+     *
+     * @throws IllegalArgumentException if the encoded form is malformed or of an unsupported version
+     */
+    public static PermissionCollection decodePermissions(ByteBuffer encoded) {
+        try {
+            Reader reader = new Reader(encoded, KIND_PERMISSIONS);
+
+            Permissions permissions = new Permissions();
+            for (Permission permission : reader.readPermissions()) {
+                permissions.add(permission);
+            }
+
+            return permissions;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("truncated encoded permissions", e);
+        }
+    }
+
+    /**
+     * Decodes policy statements previously encoded by {@link #encode(PolicyConfiguration)}, and adds them to the
+     * given policy configuration, starting at the current position of the given buffer. After this method returns,
+     * the position of the buffer is just past the encoded policy statements.
+     *
+     * <p>
+     * The policy statements are added to the target via its <code>addInheritedRole</code>,
+     * <code>addToExcludedPolicy</code>, <code>addToUncheckedPolicy</code> and <code>addToRole</code> methods, so the
+     * target must be in the "open" state. Existing policy statements of the target are not removed. The role
+     * inheritance is added first, so that a target which does not support role inheritance throws before any
+     * policy statement has been added to it.
+     *
+     * @param encoded a buffer containing the encoded policy statements
+     * @param target the policy configuration to which the decoded policy statements are to be added
+     * @return the policy context identifier of the policy configuration from which the policy statements were encoded
+     *
+     * @throws IllegalArgumentException if the encoded form is malformed or of an unsupported version
+     * @throws UnsupportedOperationException if the encoded form declares role inheritance, and the target policy
+     * configuration does not support role inheritance
+     * @throws PolicyContextException if the target policy configuration throws a PolicyContextException
+     */
+    public static String decode(ByteBuffer encoded, PolicyConfiguration target) throws PolicyContextException {
+        String contextID;
+        List<Permission> excludedPermissions;
+        List<Permission> uncheckedPermissions;
+        Map<String, List<Permission>> perRolePermissions = new LinkedHashMap<>();
+        Map<String, List<String>> inheritedRoles = new LinkedHashMap<>();
+
+        try {
+            Reader reader = new Reader(encoded, KIND_POLICY);
+
+            contextID = reader.readString();
+            excludedPermissions = reader.readPermissions();
+            uncheckedPermissions = reader.readPermissions();
+
+            int roleCount = reader.readVarInt();
+            for (int i = 0; i < roleCount; i++) {
+                String roleName = reader.readString();
+                perRolePermissions.computeIfAbsent(roleName, e -> new ArrayList<>()).addAll(reader.readPermissions());
+            }
+
+            if (reader.version >= 2) {
+                int inheritingRoleCount = reader.readVarInt();
+                for (int i = 0; i < inheritingRoleCount; i++) {
+                    String roleName = reader.readString();
+                    int inheritedRoleCount = reader.readVarInt();
+                    for (int j = 0; j < inheritedRoleCount; j++) {
+                        inheritedRoles.computeIfAbsent(roleName, e -> new ArrayList<>()).add(reader.readString());
+                    }
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("truncated encoded policy", e);
+        }
+
+        for (Map.Entry<String, List<String>> roleInheritance : inheritedRoles.entrySet()) {
+            for (String inheritedRoleName : roleInheritance.getValue()) {
+                target.addInheritedRole(roleInheritance.getKey(), inheritedRoleName);
+            }
+        }
+
+        for (Permission permission : excludedPermissions) {
+            target.addToExcludedPolicy(permission);
+        }
+
+        for (Permission permission : uncheckedPermissions) {
+            target.addToUncheckedPolicy(permission);
+        }
+
+        for (Map.Entry<String, List<Permission>> rolePermissions : perRolePermissions.entrySet()) {
+            for (Permission permission : rolePermissions.getValue()) {
+                target.addToRole(rolePermissions.getKey(), permission);
+            }
+        }
+
+        return contextID;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static final class Writer {
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> stringTable = new ArrayList<>();
+
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void writePermissions(PermissionCollection permissions) {
+            if (permissions == null) {
+                writeVarInt(0);
+                return;
+            }
+
+            List<Permission> permissionList = list(permissions.elements());
+
+            writeVarInt(permissionList.size());
+            for (Permission permission : permissionList) {
+                writePermission(permission);
+            }
+        }
+
+        void writePermission(Permission permission) {
+            if (permission instanceof WebResourcePermission) {
+                WebResourcePermission webResourcePermission = (WebResourcePermission) permission;
+
+                writeByte(TAG_WEB_RESOURCE);
+                writeString(webResourcePermission.getName());
+                writeURLPatternSpec(webResourcePermission.getURLPatternSpec());
+                writeMethodSpec(webResourcePermission.getMethodSpec());
+            } else if (permission instanceof WebUserDataPermission) {
+                WebUserDataPermission webUserDataPermission = (WebUserDataPermission) permission;
+
+                writeByte(TAG_WEB_USER_DATA);
+                writeString(webUserDataPermission.getName());
+                writeURLPatternSpec(webUserDataPermission.getURLPatternSpec());
+                writeMethodSpec(webUserDataPermission.getMethodSpec());
+                writeByte(webUserDataPermission.getTransportType());
+            } else if (permission instanceof WebRoleRefPermission) {
+                writeByte(TAG_WEB_ROLE_REF);
+                writeString(permission.getName());
+                writeString(permission.getActions());
+            } else if (permission instanceof EJBMethodPermission) {
+                EJBMethodPermission ejbMethodPermission = (EJBMethodPermission) permission;
+
+                writeByte(TAG_EJB_METHOD);
+                writeString(ejbMethodPermission.getName());
+                writeString(ejbMethodPermission.getMethodName());
+                writeVarInt(ejbMethodPermission.getMethodInterface() + 2);
+                writeString(ejbMethodPermission.getOtherMethodInterface());
+                writeString(ejbMethodPermission.getMethodParams());
+            } else if (permission instanceof EJBRoleRefPermission) {
+                writeByte(TAG_EJB_ROLE_REF);
+                writeString(permission.getName());
+                writeString(permission.getActions());
+            } else {
+                writeByte(TAG_OTHER);
+                writeString(permission.getClass().getName());
+                writeString(permission.getName());
+                writeString(permission.getActions());
+            }
+        }
+
+        void writeURLPatternSpec(URLPatternSpec urlPatternSpec) {
+            writeString(urlPatternSpec.getURLPattern());
+            writeByte(urlPatternSpec.patternType());
+
+            URLPattern[] urlPatternList = urlPatternSpec.getURLPatternList();
+            if (urlPatternList == null) {
+                writeVarInt(0);
+                return;
+            }
+
+            // Zero is reserved for the absence of a URLPatternList
+            writeVarInt(urlPatternList.length + 1);
+            for (URLPattern urlPattern : urlPatternList) {
+                writeByte(urlPattern.patternType());
+                writeString(urlPattern.toString());
+            }
+        }
+
+        void writeMethodSpec(HttpMethodSpec methodSpec) {
+            writeByte(methodSpec.exceptionList ? 1 : 0);
+            writeVarInt(methodSpec.standardMap);
+
+            List<String> extensionMethods = methodSpec.getExtensionMethods();
+            writeVarInt(extensionMethods.size());
+            for (String extensionMethod : extensionMethods) {
+                writeString(extensionMethod);
+            }
+        }
+
+        void writeString(String string) {
+            // Zero is reserved for the null String
+            if (string == null) {
+                writeVarInt(0);
+                return;
+            }
+
+            Integer index = strings.get(string);
+            if (index == null) {
+                index = stringTable.size() + 1;
+                strings.put(string, index);
+                stringTable.add(string);
+            }
+
+            writeVarInt(index);
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            writeByte(value);
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeBytes(byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, bytes, size, value.length);
+            size += value.length;
+        }
+
+        byte[] toByteArray(byte kind) {
+            byte[] body = Arrays.copyOf(bytes, size);
+
+            bytes = new byte[body.length + 64];
+            size = 0;
+
+            writeByte(MAGIC >>> 24);
+            writeByte(MAGIC >>> 16);
+            writeByte(MAGIC >>> 8);
+            writeByte(MAGIC);
+            writeByte(VERSION);
+            writeByte(kind);
+
+            writeVarInt(stringTable.size());
+            for (String string : stringTable) {
+                byte[] stringBytes = string.getBytes(UTF_8);
+                writeVarInt(stringBytes.length);
+                writeBytes(stringBytes);
+            }
+
+            writeBytes(body);
+
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+        private final int version;
+        private final String[] stringTable;
+
+        Reader(ByteBuffer buffer, byte expectedKind) {
+            this.buffer = buffer;
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("not an encoded policy");
+            }
+
+            version = buffer.get();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("unsupported encoded policy version: '" + version + "'");
+            }
+
+            if (buffer.get() != expectedKind) {
+                throw new IllegalArgumentException("unexpected kind of encoded policy");
+            }
+
+            stringTable = new String[readVarInt()];
+            for (int i = 0; i < stringTable.length; i++) {
+                byte[] stringBytes = new byte[readVarInt()];
+                buffer.get(stringBytes);
+                stringTable[i] = new String(stringBytes, UTF_8);
+            }
+        }
+
+        List<Permission> readPermissions() {
+            int count = readVarInt();
+
+            List<Permission> permissions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                permissions.add(readPermission());
+            }
+
+            return permissions;
+        }
+
+        Permission readPermission() {
+            byte tag = buffer.get();
+
+            switch (tag) {
+            case TAG_WEB_RESOURCE:
+                return new WebResourcePermission(readString(), readURLPatternSpec(), readMethodSpec());
+            case TAG_WEB_USER_DATA:
+                return new WebUserDataPermission(readString(), readURLPatternSpec(), readMethodSpec(), buffer.get());
+            case TAG_WEB_ROLE_REF:
+                return new WebRoleRefPermission(readString(), readString());
+            case TAG_EJB_METHOD:
+                return new EJBMethodPermission(readString(), readString(), readVarInt() - 2, readString(), readString());
+            case TAG_EJB_ROLE_REF:
+                return new EJBRoleRefPermission(readString(), readString());
+            case TAG_OTHER:
+                return newPermission(readString(), readString(), readString());
+            default:
+                throw new IllegalArgumentException("unknown permission tag: '" + tag + "'");
+            }
+        }
+
+        URLPatternSpec readURLPatternSpec() {
+            String firstPattern = readString();
+            int firstPatternType = readPatternType();
+
+            int count = readVarInt();
+            if (count == 0) {
+                return new URLPatternSpec(firstPattern, firstPatternType, null);
+            }
+
+            URLPattern[] urlPatternList = new URLPattern[count - 1];
+            for (int i = 0; i < urlPatternList.length; i++) {
+                int patternType = readPatternType();
+                urlPatternList[i] = new URLPattern(readString(), patternType);
+            }
+
+            return new URLPatternSpec(firstPattern, firstPatternType, urlPatternList);
+        }
+
+        HttpMethodSpec readMethodSpec() {
+            boolean exceptionList = buffer.get() != 0;
+            int standardMap = readVarInt();
+
+            int count = readVarInt();
+            List<String> extensionMethods = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                extensionMethods.add(readString());
+            }
+
+            return HttpMethodSpec.getSpec(exceptionList, standardMap, extensionMethods);
+        }
+
+        String readString() {
+            int index = readVarInt();
+            if (index == 0) {
+                return null;
+            }
+
+            if (index > stringTable.length) {
+                throw new IllegalArgumentException("invalid string index: '" + index + "'");
+            }
+
+            return stringTable[index - 1];
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IllegalArgumentException("malformed variable length integer");
+        }
+
+        private int readPatternType() {
+            int patternType = buffer.get();
+            if (patternType < URLPattern.PT_DEFAULT || patternType > URLPattern.PT_EXACT) {
+                throw new IllegalArgumentException("invalid URL pattern type: '" + patternType + "'");
+            }
+
+            return patternType;
+        }
+
+        private static Permission newPermission(String className, String name, String actions) {
+            if (className == null) {
+                throw new IllegalArgumentException("missing permission class name");
+            }
+
+            try {
+                // Check the type before initializing the class, so that no code of other classes named in the input runs
+                Class<?> loadedClass = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+                if (!Permission.class.isAssignableFrom(loadedClass)) {
+                    throw new IllegalArgumentException("not a permission class: '" + className + "'");
+                }
+
+                Class<? extends Permission> permissionClass = loadedClass.asSubclass(Permission.class);
+                try {
+                    return permissionClass.getConstructor(String.class, String.class).newInstance(name, actions);
+                } catch (NoSuchMethodException e) {
+                    return permissionClass.getConstructor(String.class).newInstance(name);
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                throw new IllegalArgumentException("cannot instantiate permission: '" + className + "'", e);
+            }
+        }
+    }
+
+}
@@ -17,11 +17,13 @@
 
 package jakarta.security.jacc;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.list;
 
 import java.security.Permission;
 import java.security.PermissionCollection;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The methods of this interface are used by containers to create policy statements in a Policy provider. An object that
@@ -215,6 +217,49 @@ public interface PolicyConfiguration {
      */
     void addToRole(String roleName, Permission permission) throws PolicyContextException;
 
+    /**
+     * Used to declare that a named role inherits the permissions of another role in this PolicyConfiguration, such
+     * that principals mapped to the role are granted the permissions added to the inherited role, and transitively
+     * those of the roles it inherits, without these permissions having to be added to the role itself.
+     *
+     * <p>
+     * This is an optional operation. Providers that support it are expected to compute the transitive closure of the
+     * declared inheritance once, for instance when this PolicyConfiguration is committed, using {@link RoleHierarchy},
+     * so that it adds no cost to checking a permission. The declarations must not form a cycle.
+     *
+     * <p>
+     * The inheritance is not applied by the default methods of {@link Policy}: the default
+     * {@link Policy#impliesByRole(Permission, Set)} calls impliesByRole with a Subject, and a Policy that
+     * supports role inheritance has to apply the hierarchy itself when it maps the principals of the caller to roles,
+     * for instance with {@link RoleHierarchy#getEffectiveRoles(java.util.Collection)} or a {@link RoleMappingIndex}
+     * built with the hierarchy.
+     *
+     * @param roleName the name of the role that inherits the permissions of the other role.
+     * @param inheritedRoleName the name of the role whose permissions are inherited.
+     *
+     * @throws UnsupportedOperationException if this PolicyConfiguration does not support role inheritance, or if the
+     * state of the policy context whose interface is this PolicyConfiguration Object is "deleted" or "inService" when
+     * this method is called.
+     *
+     * @throws PolicyContextException if the implementation throws a checked exception that has not been
+     * accounted for by the addInheritedRole method signature. The exception thrown by the implementation class will be
+     * encapsulated (during construction) in the thrown PolicyContextException.
+     */
+    default void addInheritedRole(String roleName, String inheritedRoleName) throws PolicyContextException {
+        throw new UnsupportedOperationException("Role inheritance is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Used to return the role inheritance that has been declared in this PolicyConfiguration via prior calls to
+     * {@link PolicyConfiguration#addInheritedRole(String, String)}, as the names of the roles each role directly
+     * inherits, indexed by the name of that role.
+     *
+     * @return map of the roles each role directly inherits, which is empty if role inheritance is not supported.
+     */
+    default Map<String, Set<String>> getInheritedRoles() {
+        return emptyMap();
+    }
+
     /**
      * Used to add unchecked policy statements to this PolicyConfiguration.
      *
@@ -363,6 +408,10 @@ public interface PolicyConfiguration {
      * does not have a different Policy context identifier than this PolicyConfiguration no relationship is formed, and an
      * exception, as described below, is thrown.
      *
+     * <p>
+     * As the roles of callers may change, implementations should advance the versions of both policy contexts by
+     * calling {@link PolicyEpoch#advance(String)} with their policy context identifiers.
+     *
      * @param link A reference to a different PolicyConfiguration than this PolicyConfiguration.
      *
      * @throws UnsupportedOperationException if the state of the policy context whose interface is this
@@ -386,6 +435,10 @@ public interface PolicyConfiguration {
      * This operation has no affect on any linked PolicyConfigurations other than removing any links involving the deleted
      * PolicyConfiguration.
      *
+     * <p>
+     * Implementations should advance the version of the policy context by calling {@link PolicyEpoch#advance(String)}
+     * with its policy context identifier.
+     *
      * @throws PolicyContextException if the implementation throws a checked exception that has not been
      * accounted for by the delete method signature. The exception thrown by the implementation class will be encapsulated
      * (during construction) in the thrown PolicyContextException.
@@ -412,6 +465,27 @@ public interface PolicyConfiguration {
      */
     default void commit() throws PolicyContextException {
         // Not necessarily used when state machine is handled by implementation
+        PolicyEpoch.advance(getContextID());
+    }
+
+    /**
+     * Returns the version of the policy context whose interface is this PolicyConfiguration Object, which increases
+     * whenever the policy statements of the context may have changed in effect, that is when the context is committed,
+     * linked or deleted.
+     *
+     * <p>
+     * Implementations that override commit, linkConfiguration or delete should advance the version by calling
+     * {@link PolicyEpoch#advance(String)} with the policy context identifier. The default implementation returns
+     * {@link PolicyEpoch#current(String)} for the policy context identifier.
+     *
+     * @return the current version of the policy context
+     *
+     * @throws PolicyContextException if the implementation throws a checked exception that has not been
+     * accounted for by the getVersion method signature. The exception thrown by the implementation class will be
+     * encapsulated (during construction) in the thrown PolicyContextException.
+     */
+    default long getVersion() throws PolicyContextException {
+        return PolicyEpoch.current(getContextID());
     }
 
     /**
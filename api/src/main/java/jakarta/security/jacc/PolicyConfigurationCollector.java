@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimal in-memory PolicyConfiguration that only collects policy statements, so they can be validated, transformed
+ * or encoded before being handed to the PolicyConfiguration of the installed provider.
+ *
+ * <p>
+ * A collector has no life cycle; it accepts policy statements in any state, and does not support linking.
+ */
+public final class PolicyConfigurationCollector implements PolicyConfiguration {
+
+    private final String contextID;
+
+    private Permissions excludedPermissions = new Permissions();
+    private Permissions uncheckedPermissions = new Permissions();
+    private final Map<String, PermissionCollection> perRolePermissions = new LinkedHashMap<>();
+    private final Map<String, Set<String>> inheritedRoles = new LinkedHashMap<>();
+
+    /**
+     * Creates a collector for the policy statements of the given policy context.
+     *
+     * @param contextID the policy context identifier
+     */
+    public PolicyConfigurationCollector(String contextID) {
+        this.contextID = contextID;
+    }
+
+    @Override
+    public String getContextID() {
+        return contextID;
+    }
+
+    @Override
+    public void addToRole(String roleName, Permission permission) {
+        perRolePermissions.computeIfAbsent(roleName, e -> new Permissions())
+                          .add(permission);
+    }
+
+    @Override
+    public void addInheritedRole(String roleName, String inheritedRoleName) {
+        inheritedRoles.computeIfAbsent(roleName, e -> new LinkedHashSet<>())
+                      .add(inheritedRoleName);
+    }
+
+    @Override
+    public void addToUncheckedPolicy(Permission permission) {
+        uncheckedPermissions.add(permission);
+    }
+
+    @Override
+    public void addToExcludedPolicy(Permission permission) {
+        excludedPermissions.add(permission);
+    }
+
+    @Override
+    public Map<String, PermissionCollection> getPerRolePermissions() {
+        return perRolePermissions;
+    }
+
+    @Override
+    public Map<String, Set<String>> getInheritedRoles() {
+        return inheritedRoles;
+    }
+
+    @Override
+    public PermissionCollection getUncheckedPermissions() {
+        return uncheckedPermissions;
+    }
+
+    @Override
+    public PermissionCollection getExcludedPermissions() {
+        return excludedPermissions;
+    }
+
+    @Override
+    public void removeRole(String roleName) {
+        if ("*".equals(roleName)) {
+            perRolePermissions.clear();
+        } else {
+            perRolePermissions.remove(roleName);
+        }
+    }
+
+    @Override
+    public void removeUncheckedPolicy() {
+        uncheckedPermissions = new Permissions();
+    }
+
+    @Override
+    public void removeExcludedPolicy() {
+        excludedPermissions = new Permissions();
+    }
+
+    @Override
+    public void linkConfiguration(PolicyConfiguration link) {
+        throw new UnsupportedOperationException("policy statements collected for '" + contextID + "' cannot be linked");
+    }
+
+    @Override
+    public void delete() {
+        removeRole("*");
+        inheritedRoles.clear();
+        removeUncheckedPolicy();
+        removeExcludedPolicy();
+    }
+
+    /**
+     * Adds the collected policy statements to the given policy configuration. The role inheritance is added first,
+     * so that a target which does not support role inheritance throws before any policy statement has been added.
+     *
+     * @param target the policy configuration to which the collected policy statements are added
+     * @throws UnsupportedOperationException if role inheritance was collected, and the target policy configuration
+     * does not support role inheritance
+     * @throws PolicyContextException if the target policy configuration throws a PolicyContextException
+     */
+    void copyTo(PolicyConfiguration target) throws PolicyContextException {
+        for (Map.Entry<String, Set<String>> roleInheritance : inheritedRoles.entrySet()) {
+            for (String inheritedRoleName : roleInheritance.getValue()) {
+                target.addInheritedRole(roleInheritance.getKey(), inheritedRoleName);
+            }
+        }
+
+        target.addToExcludedPolicy(excludedPermissions);
+        target.addToUncheckedPolicy(uncheckedPermissions);
+
+        for (Map.Entry<String, PermissionCollection> rolePermissions : perRolePermissions.entrySet()) {
+            target.addToRole(rolePermissions.getKey(), rolePermissions.getValue());
+        }
+    }
+
+}
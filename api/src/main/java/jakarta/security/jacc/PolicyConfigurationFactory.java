@@ -18,6 +18,7 @@
 package jakarta.security.jacc;
 
 import java.security.Permission;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Abstract factory and finder class for obtaining the instance of the class that implements the
@@ -43,6 +44,9 @@ public abstract class PolicyConfigurationFactory {
 
     private static volatile PolicyConfigurationFactory policyConfigurationFactory;
 
+    // A j.u.c. lock rather than a monitor, so that a virtual thread instantiating the factory does not pin its carrier
+    private static final ReentrantLock lock = new ReentrantLock();
+
     private PolicyConfigurationFactory wrapped;
 
     /**
@@ -67,11 +71,13 @@ public abstract class PolicyConfigurationFactory {
      * will be encapsulated (during construction) in the thrown PolicyContextException
      */
     public static PolicyConfigurationFactory getPolicyConfigurationFactory() throws ClassNotFoundException, PolicyContextException {
-        if (policyConfigurationFactory != null) {
-            return policyConfigurationFactory;
+        PolicyConfigurationFactory current = policyConfigurationFactory;
+        if (current != null) {
+            return current;
         }
 
-        synchronized(PolicyConfigurationFactory.class) {
+        lock.lock();
+        try {
             if (policyConfigurationFactory != null) {
                 return policyConfigurationFactory;
             }
@@ -102,9 +108,11 @@ public abstract class PolicyConfigurationFactory {
             } catch (SecurityException e) {
                 throw new PolicyContextException("Jakarta Authorization:Error PolicyConfigurationFactory : cannot access : " + className[0], e);
             }
-        }
 
-        return policyConfigurationFactory;
+            return policyConfigurationFactory;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -116,8 +124,13 @@ public abstract class PolicyConfigurationFactory {
      * @param policyConfigurationFactory The PolicyConfigurationFactory instance, which may be null.
      *
      */
-    public static synchronized void setPolicyConfigurationFactory(PolicyConfigurationFactory policyConfigurationFactory) {
-        PolicyConfigurationFactory.policyConfigurationFactory = policyConfigurationFactory;
+    public static void setPolicyConfigurationFactory(PolicyConfigurationFactory policyConfigurationFactory) {
+        lock.lock();
+        try {
+            PolicyConfigurationFactory.policyConfigurationFactory = policyConfigurationFactory;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
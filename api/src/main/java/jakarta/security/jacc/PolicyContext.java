@@ -239,9 +239,13 @@ public final class PolicyContext {
             throw new IllegalArgumentException("unknown handler key");
         }
 
+        Object invocation = AuthorizationEvents.beginHandlerInvocation();
+
         @SuppressWarnings("unchecked")
         T returnValue = (T) handler.getContext(key, threadLocalHandlerData.get());
 
+        AuthorizationEvents.endHandlerInvocation(invocation, key, handler);
+
         return returnValue;
     }
 
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global counter that is advanced whenever a policy may have changed, and by which cached authorization decisions are
+ * validated.
+ *
+ * <p>
+ * A decision cached together with the epoch at which it was made is valid for as long as the epoch has not been
+ * advanced since. Advancing the epoch thereby invalidates all cached decisions at once, without having to find or
+ * coordinate with the caches holding them. Policy providers should advance the epoch when a policy configuration is
+ * committed, linked or deleted, or a policy is refreshed; the default {@link PolicyConfiguration#commit()} and
+ * {@link Policy#refresh()} methods do, and the caching decorators of this API advance it when their refresh method is
+ * called, or a policy is set via their factory.
+ *
+ * <p>
+ * When only the policy of one policy context changed, advancing the epoch of that context with
+ * {@link #advance(String)} only invalidates the decisions validated by {@link #current(String)} for that context, so
+ * that redeploying one application does not flush the decisions cached for all others. All epochs are drawn from one
+ * sequence, so the epoch of a context never repeats a value the global epoch had, and vice versa.
+ */
+public final class PolicyEpoch {
+
+    private static final AtomicLong EPOCH = new AtomicLong(1);
+
+    // The epoch of the last advance of all contexts, and of the last advance of each context
+    private static final AtomicLong GLOBAL_EPOCH = new AtomicLong(1);
+    private static final Map<String, AtomicLong> CONTEXT_EPOCHS = new ConcurrentHashMap<>();
+
+    private PolicyEpoch() {
+    }
+
+    /**
+     * Returns the current epoch, which is advanced whenever the epoch of any context is.
+     *
+     * @return the current epoch, which is never 0
+     */
+    public static long current() {
+        return EPOCH.get();
+    }
+
+    /**
+     * Returns the epoch of the last advance of all contexts by {@link #advance()}. Unlike {@link #current()}, it is
+     * not advanced when the epoch of a single context is.
+     *
+     * @return the epoch of the last advance of all contexts, which is never 0
+     */
+    public static long currentGlobal() {
+        return GLOBAL_EPOCH.get();
+    }
+
+    /**
+     * Advances the epoch, invalidating all decisions cached at earlier epochs.
+     *
+     * @return the new epoch
+     */
+    public static long advance() {
+        long epoch = EPOCH.incrementAndGet();
+        GLOBAL_EPOCH.accumulateAndGet(epoch, Math::max);
+
+        return epoch;
+    }
+
+    /**
+     * Returns the current epoch of the given policy context, which is advanced by {@link #advance(String)} for that
+     * context and by {@link #advance()}.
+     *
+     * @param contextID the policy context identifier, or null for the global epoch
+     * @return the current epoch of the policy context, which is never 0
+     */
+    public static long current(String contextID) {
+        if (contextID == null) {
+            return current();
+        }
+
+        AtomicLong contextEpoch = CONTEXT_EPOCHS.get(contextID);
+        long globalEpoch = GLOBAL_EPOCH.get();
+
+        return contextEpoch == null ? globalEpoch : Math.max(globalEpoch, contextEpoch.get());
+    }
+
+    /**
+     * Advances the epoch of the given policy context, invalidating the decisions cached for that context at earlier
+     * epochs. The global epoch is advanced as well, as it reflects a change of any context.
+     *
+     * @param contextID the policy context identifier, or null to advance the epoch of all contexts
+     * @return the new epoch of the policy context
+     */
+    public static long advance(String contextID) {
+        if (contextID == null) {
+            return advance();
+        }
+
+        long epoch = EPOCH.incrementAndGet();
+        CONTEXT_EPOCHS.computeIfAbsent(contextID, e -> new AtomicLong()).accumulateAndGet(epoch, Math::max);
+
+        return epoch;
+    }
+
+}
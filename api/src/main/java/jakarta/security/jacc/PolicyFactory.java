@@ -15,6 +15,8 @@
  */
 package jakarta.security.jacc;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Abstract factory and finder class for obtaining the instance of the class that implements the
  * PolicyFactory of a provider. The factory will be used to instantiate Policy objects.
@@ -29,6 +31,9 @@ public abstract class PolicyFactory {
 
     private static volatile PolicyFactory policyFactory;
 
+    // A j.u.c. lock rather than a monitor, so that a virtual thread instantiating the factory does not pin its carrier
+    private static final ReentrantLock lock = new ReentrantLock();
+
     private PolicyFactory wrapped;
 
     /**
@@ -50,27 +55,37 @@ public abstract class PolicyFactory {
      * PolicyFactory implementation class; in which case the SecurityException will contain the root Exception as its
      * cause.
      */
-    public static synchronized PolicyFactory getPolicyFactory() {
-        if (policyFactory != null) {
-            return policyFactory;
+    public static PolicyFactory getPolicyFactory() {
+        PolicyFactory factory = policyFactory;
+        if (factory != null) {
+            return factory;
         }
 
-        final String className = System.getProperty(FACTORY_NAME);
-        if (className != null) {
-            try {
-                policyFactory = (PolicyFactory)
-                    Class.forName(
-                            className,
-                            true,
-                            Thread.currentThread().getContextClassLoader())
-                         .getDeclaredConstructor()
-                         .newInstance();
-            } catch (ReflectiveOperationException pae) {
-                throw new SecurityException(pae);
+        lock.lock();
+        try {
+            if (policyFactory != null) {
+                return policyFactory;
             }
-        }
 
-        return policyFactory;
+            final String className = System.getProperty(FACTORY_NAME);
+            if (className != null) {
+                try {
+                    policyFactory = (PolicyFactory)
+                        Class.forName(
+                                className,
+                                true,
+                                Thread.currentThread().getContextClassLoader())
+                             .getDeclaredConstructor()
+                             .newInstance();
+                } catch (ReflectiveOperationException pae) {
+                    throw new SecurityException(pae);
+                }
+            }
+
+            return policyFactory;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -82,8 +97,13 @@ public abstract class PolicyFactory {
      * @param policyFactory The PolicyFactory instance, which may be null.
      *
      */
-    public static synchronized void setPolicyFactory(PolicyFactory policyFactory) {
-        PolicyFactory.policyFactory = policyFactory;
+    public static void setPolicyFactory(PolicyFactory policyFactory) {
+        lock.lock();
+        try {
+            PolicyFactory.policyFactory = policyFactory;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent store for the policy statements of committed policy configurations.
+ *
+ * <p>
+ * A policy configuration is stored in a file in the directory of the store, together with a hash of the deployment
+ * from which its policy statements were translated. At startup, a provider can restore the policy statements of a
+ * policy configuration in the "open" state from that file, provided the deployment hash is still the same, and
+ * thereby skip the translation of the deployment. The file is memory mapped and decoded directly from the mapped
+ * buffer.
+ *
+ * <p>
+ * The policy statements are stored in the format of {@link PolicyCodec}. Files are replaced atomically where the
+ * file system supports it, and are checksummed, so that a partially written or otherwise damaged file is treated
+ * as absent rather than restored.
+ *
+ * @see PolicyCodec
+ */
+public final class PolicyStore {
+
+    private static final int MAGIC = 0x4A505354; // "JPST"
+    private static final String SUFFIX = ".policy";
+
+    private final Path directory;
+
+    /**
+     * Creates a policy store that keeps its files in the given directory. The directory is created when the first
+     * policy configuration is stored.
+     *
+     * @param directory the directory in which the policy store keeps its files
+     */
+    public PolicyStore(Path directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory must not be null");
+        }
+
+        this.directory = directory;
+    }
+
+    /**
+     * Stores the policy statements of the given policy configuration, replacing any policy statements previously
+     * stored for the same policy context identifier.
+     *
+     * @param policyConfiguration the policy configuration to store, typically in the "inService" state
+     * @param deploymentHash a hash of the deployment from which the policy statements were translated, see
+     * {@link #digest(Path)}, of 1 to 255 bytes
+     *
+     * @throws IOException if the policy statements could not be written to the store
+     * @throws PolicyContextException if the policy configuration throws a PolicyContextException
+     * @throws IllegalArgumentException if the deployment hash is null, empty or longer than 255 bytes
+     */
+    public void store(PolicyConfiguration policyConfiguration, byte[] deploymentHash) throws IOException, PolicyContextException {
+        checkDeploymentHash(deploymentHash);
+
+        byte[] policy = PolicyCodec.encode(policyConfiguration);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(policy);
+
+        ByteBuffer header = ByteBuffer.allocate(4 + 1 + deploymentHash.length + 4 + 8);
+        header.putInt(MAGIC)
+              .put((byte) deploymentHash.length)
+              .put(deploymentHash)
+              .putInt(policy.length)
+              .putLong(checksum.getValue())
+              .flip();
+
+        Files.createDirectories(directory);
+
+        Path file = fileFor(policyConfiguration.getContextID());
+        Path temporaryFile = Files.createTempFile(directory, null, null);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, WRITE)) {
+                ByteBuffer body = ByteBuffer.wrap(policy);
+                while (header.hasRemaining() || body.hasRemaining()) {
+                    channel.write(new ByteBuffer[] { header, body });
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Restores the policy statements stored for the policy context identifier of the given policy configuration, if
+     * they were stored for the same deployment hash.
+     *
+     * <p>
+     * The policy statements are added to the given policy configuration, which must be in the "open" state.
+     * If this method returns false, the policy configuration is left unchanged.
+     *
+     * @param policyConfiguration the policy configuration to which the stored policy statements are to be added
+     * @param deploymentHash the hash of the deployment that is being deployed, of 1 to 255 bytes
+     * @return true if the policy statements were restored, false if no valid policy statements were stored for the
+     * policy context identifier and deployment hash
+     *
+     * @throws IOException if the store could not be read
+     * @throws PolicyContextException if the policy configuration throws a PolicyContextException
+     * @throws IllegalArgumentException if the deployment hash is null, empty or longer than 255 bytes
+     * @throws UnsupportedOperationException if the stored policy statements declare role inheritance, and the policy
+     * configuration does not support role inheritance; the policy configuration is then left unchanged
+     */
+    public boolean restore(PolicyConfiguration policyConfiguration, byte[] deploymentHash) throws IOException, PolicyContextException {
+        checkDeploymentHash(deploymentHash);
+
+        String contextID = policyConfiguration.getContextID();
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(fileFor(contextID), READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+
+        ByteBuffer policy = validate(buffer, deploymentHash);
+        if (policy == null) {
+            return false;
+        }
+
+        // Decode into a collecting configuration first, so that a damaged file does not leave
+        // the target half populated.
+        PolicyConfigurationCollector collected = new PolicyConfigurationCollector(contextID);
+        try {
+            if (!contextID.equals(PolicyCodec.decode(policy, collected))) {
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        collected.copyTo(policyConfiguration);
+
+        return true;
+    }
+
+    /**
+     * Removes the policy statements stored for the given policy context identifier, if any.
+     *
+     * @param contextID the policy context identifier of the policy statements to remove
+     * @return true if policy statements were removed, false if none were stored
+     *
+     * @throws IOException if the policy statements could not be removed
+     */
+    public boolean remove(String contextID) throws IOException {
+        return Files.deleteIfExists(fileFor(contextID));
+    }
+
+    /**
+     * Computes a SHA-256 hash over the given file, or over the relative names and contents of all regular files
+     * below the given directory, for use as the deployment hash.
+     *
+     * @param path a deployment archive or an exploded deployment directory
+     * @return the hash of the deployment
+     *
+     * @throws IOException if the deployment could not be read
+     */
+    public static byte[] digest(Path path) throws IOException {
+        MessageDigest digest = sha256();
+
+        if (!Files.isDirectory(path)) {
+            update(digest, path);
+            return digest.digest();
+        }
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(path)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            digest.update(path.relativize(file).toString().replace('\\', '/').getBytes(UTF_8));
+            digest.update((byte) 0);
+            update(digest, file);
+        }
+
+        return digest.digest();
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static void checkDeploymentHash(byte[] deploymentHash) {
+        // The length of the hash is stored in a single byte
+        if (deploymentHash == null || deploymentHash.length == 0 || deploymentHash.length > 255) {
+            throw new IllegalArgumentException("deploymentHash must be 1 to 255 bytes");
+        }
+    }
+
+    private Path fileFor(String contextID) {
+        return directory.resolve(HexFormat.of().formatHex(sha256().digest(contextID.getBytes(UTF_8))) + SUFFIX);
+    }
+
+    private static ByteBuffer validate(ByteBuffer buffer, byte[] deploymentHash) {
+        if (buffer.remaining() < 5 || buffer.getInt() != MAGIC) {
+            return null;
+        }
+
+        int hashLength = Byte.toUnsignedInt(buffer.get());
+        if (buffer.remaining() < hashLength + 12) {
+            return null;
+        }
+
+        byte[] storedHash = new byte[hashLength];
+        buffer.get(storedHash);
+        if (!Arrays.equals(storedHash, deploymentHash)) {
+            return null;
+        }
+
+        int length = buffer.getInt();
+        long storedChecksum = buffer.getLong();
+        if (length != buffer.remaining()) {
+            return null;
+        }
+
+        ByteBuffer policy = buffer.slice();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(policy.duplicate());
+        if (checksum.getValue() != storedChecksum) {
+            return null;
+        }
+
+        return policy;
+    }
+
+    private static void update(MessageDigest digest, Path file) throws IOException {
+        byte[] bytes = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            for (int read; (read = inputStream.read(bytes)) != -1;) {
+                digest.update(bytes, 0, read);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -70,14 +70,17 @@ public interface PrincipalMapper {
      * <code>java.security.Principal</code> that represents the name of the authenticated caller, or null if the
      * current caller is not authenticated.
      *
+     * <p>
+     * The default implementation calls {@link #getCallerPrincipal(Subject)} with a read-only Subject holding the
+     * principals, which, unless the set of principals is empty, is constructed and given a copy of the principals on
+     * every call. Implementations that can pick the caller principal from the principals directly can override this
+     * method to avoid constructing that Subject.
+     *
      * @param principals the set of principals from which the caller principal is to be retrieved.
      * @return Principal representing the name of the current authenticated user, or null if not authenticated.
      */
     default Principal getCallerPrincipal(Set<Principal> principals) {
-        Subject subject = new Subject();
-        subject.getPrincipals().addAll(principals);
-
-        return getCallerPrincipal(subject);
+        return getCallerPrincipal(SubjectViews.of(principals));
     }
 
     /**
@@ -90,14 +93,17 @@ public interface PrincipalMapper {
      * For instance, if a Principal representing the group "adm" is present in the Subject, and the group "adm" is
      * mapped (in a implementation specific way) to "administrator", then "administrator" must be returned here.
      *
+     * <p>
+     * The default implementation calls {@link #getMappedRoles(Subject)} with a read-only Subject holding the
+     * principals, which, unless the set of principals is empty, is constructed and given a copy of the principals on
+     * every call. Implementations that can map the principals directly can override this method to avoid
+     * constructing that Subject.
+     *
      * @param principals the set of principals from which the roles are to be retrieved.
      * @return a set of logical application roles associated with the caller principal.
      */
     default Set<String> getMappedRoles(Set<Principal> principals) {
-        Subject subject = new Subject();
-        subject.getPrincipals().addAll(principals);
-
-        return getMappedRoles(subject);
+        return getMappedRoles(SubjectViews.of(principals));
     }
 
     /**
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The transitive closure of the role inheritance declared in a {@link PolicyConfiguration}.
+ *
+ * <p>
+ * A role inherits the permissions of the roles it is declared to inherit, and transitively those of the roles they
+ * inherit. The closure is computed once, when the hierarchy is constructed, which is typically when the
+ * PolicyConfiguration is committed. A Policy can then take inheritance into account when it maps the principals of a
+ * caller to roles, by adding the inherited roles with {@link #getEffectiveRoles(Collection)}, or by building a
+ * {@link RoleMappingIndex} with this hierarchy, so that checking a permission costs the same with or without
+ * inheritance, and no permissions have to be duplicated into inheriting roles.
+ *
+ * <pre>{@code
+ *     policyConfiguration.addInheritedRole("admin", "editor");
+ *     policyConfiguration.addInheritedRole("editor", "viewer");
+ *
+ *     RoleHierarchy roleHierarchy = RoleHierarchy.of(policyConfiguration);
+ *     roleHierarchy.getEffectiveRoles(Set.of("admin")); // admin, editor, viewer
+ * }
+ * </pre>
+ */
+public final class RoleHierarchy {
+
+    private final Map<String, Set<String>> inheritedRoles = new HashMap<>();
+
+    /**
+     * Creates the hierarchy of the given role inheritance.
+     *
+     * @param inheritedRoles the roles each role directly inherits, indexed by the name of that role
+     * @throws IllegalArgumentException if the role inheritance contains a cycle
+     */
+    public RoleHierarchy(Map<String, ? extends Collection<String>> inheritedRoles) {
+        if (inheritedRoles == null) {
+            throw new IllegalArgumentException("inheritedRoles must not be null");
+        }
+
+        for (String roleName : inheritedRoles.keySet()) {
+            close(roleName, inheritedRoles, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Creates the hierarchy of the role inheritance declared in the given PolicyConfiguration.
+     *
+     * @param policyConfiguration the PolicyConfiguration in which the role inheritance is declared
+     * @return the hierarchy of the declared role inheritance
+     * @throws IllegalArgumentException if the role inheritance contains a cycle
+     */
+    public static RoleHierarchy of(PolicyConfiguration policyConfiguration) {
+        return new RoleHierarchy(policyConfiguration.getInheritedRoles());
+    }
+
+    /**
+     * Returns the roles the given role inherits, directly or transitively.
+     *
+     * @param roleName the name of a role
+     * @return the names of the roles whose permissions the role inherits, excluding the role itself
+     */
+    public Set<String> getInheritedRoles(String roleName) {
+        return inheritedRoles.getOrDefault(roleName, emptySet());
+    }
+
+    /**
+     * Returns the given roles together with all roles they inherit.
+     *
+     * @param roleNames the names of roles, for instance those a caller is mapped to
+     * @return the names of the given roles and of the roles they inherit
+     */
+    public Set<String> getEffectiveRoles(Collection<String> roleNames) {
+        Set<String> effectiveRoles = new LinkedHashSet<>(roleNames);
+        for (String roleName : roleNames) {
+            effectiveRoles.addAll(getInheritedRoles(roleName));
+        }
+
+        return unmodifiableSet(effectiveRoles);
+    }
+
+    /**
+     * Returns whether any role inheritance was declared.
+     *
+     * @return true if no role inherits another role, false otherwise
+     */
+    public boolean isEmpty() {
+        return inheritedRoles.isEmpty();
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Computes the inherited roles of the given role by a depth first walk, which reaches a role on the current path
+     * again only when the inheritance contains a cycle.
+     */
+    private Set<String> close(String roleName, Map<String, ? extends Collection<String>> declared, List<String> path) {
+        Set<String> closure = inheritedRoles.get(roleName);
+        if (closure != null) {
+            return closure;
+        }
+
+        Collection<String> direct = declared.get(roleName);
+        if (direct == null || direct.isEmpty()) {
+            return emptySet();
+        }
+
+        boolean cycle = path.contains(roleName);
+        path.add(roleName);
+        if (cycle) {
+            throw new IllegalArgumentException("Role inheritance contains a cycle: " + String.join(" -> ", path));
+        }
+
+        closure = new LinkedHashSet<>();
+        for (String inheritedRoleName : direct) {
+            closure.add(inheritedRoleName);
+            closure.addAll(close(inheritedRoleName, declared, path));
+        }
+
+        path.remove(path.size() - 1);
+
+        closure = unmodifiableSet(closure);
+        inheritedRoles.put(roleName, closure);
+
+        return closure;
+    }
+
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Index of a group-to-role mapping, for mapping callers with many group principals to the roles of an application.
+ *
+ * <p>
+ * The index assigns each role a bit, and maps each group name to the bitmask of the roles that group is mapped to.
+ * The roles of a caller are then the bitwise OR of the bitmasks of its group principals, which costs one hash lookup
+ * per principal regardless of the number of roles. An index is immutable and is intended to be built once per
+ * policy context, for instance when its PolicyConfiguration is committed, and shared by all checks in that context.
+ *
+ * <p>
+ * When only some roles matter for a check, such as the roles a permission was added to, the lookup can stop early
+ * with {@link #getMappedRoles(Collection, BitSet)} or {@link #isMappedToAny(Collection, BitSet)}.
+ *
+ * <pre>{@code
+ *     RoleMappingIndex index = new RoleMappingIndex(Map.of("adm", List.of("administrator"), "staff", List.of("user")));
+ *     BitSet roles = index.getMappedRoles(subject.getPrincipals());
+ * }
+ * </pre>
+ */
+public final class RoleMappingIndex {
+
+    private final List<String> roleNames;
+    private final Map<String, Integer> roleIndexes = new HashMap<>();
+    private final Map<String, long[]> groupRoles = new HashMap<>();
+    private final Predicate<? super Principal> groupPrincipals;
+    private final int words;
+
+    /**
+     * Creates an index of the given group-to-role mapping, in which every principal is considered to be a group
+     * principal.
+     *
+     * @param groupToRoles the roles each group is mapped to
+     */
+    public RoleMappingIndex(Map<String, ? extends Collection<String>> groupToRoles) {
+        this(groupToRoles, principal -> true);
+    }
+
+    /**
+     * Creates an index of the given group-to-role mapping, in which only the principals accepted by the given
+     * predicate are considered to be group principals. This prevents, for instance, a caller principal from being
+     * mapped to roles because its name equals the name of a group.
+     *
+     * @param groupToRoles the roles each group is mapped to
+     * @param groupPrincipals accepts the principals that represent groups
+     */
+    public RoleMappingIndex(Map<String, ? extends Collection<String>> groupToRoles, Predicate<? super Principal> groupPrincipals) {
+        this(groupToRoles, groupPrincipals, new RoleHierarchy(Map.of()));
+    }
+
+    /**
+     * Creates an index of the given group-to-role mapping, in which each group is also mapped to the roles that its
+     * roles inherit in the given role hierarchy. The inheritance is thereby included in the bitmask of each group,
+     * and adds no cost to mapping the principals of a caller.
+     *
+     * @param groupToRoles the roles each group is mapped to
+     * @param groupPrincipals accepts the principals that represent groups
+     * @param roleHierarchy the role inheritance to include
+     */
+    public RoleMappingIndex(Map<String, ? extends Collection<String>> groupToRoles, Predicate<? super Principal> groupPrincipals, RoleHierarchy roleHierarchy) {
+        if (groupToRoles == null) {
+            throw new IllegalArgumentException("groupToRoles must not be null");
+        }
+        if (groupPrincipals == null) {
+            throw new IllegalArgumentException("groupPrincipals must not be null");
+        }
+        if (roleHierarchy == null) {
+            throw new IllegalArgumentException("roleHierarchy must not be null");
+        }
+
+        Map<String, Collection<String>> groupToEffectiveRoles = new LinkedHashMap<>();
+        for (Map.Entry<String, ? extends Collection<String>> group : groupToRoles.entrySet()) {
+            groupToEffectiveRoles.put(group.getKey(), roleHierarchy.getEffectiveRoles(group.getValue()));
+        }
+
+        List<String> roles = new ArrayList<>();
+        for (Collection<String> mappedRoles : groupToEffectiveRoles.values()) {
+            for (String role : mappedRoles) {
+                if (roleIndexes.putIfAbsent(role, roles.size()) == null) {
+                    roles.add(role);
+                }
+            }
+        }
+
+        this.roleNames = unmodifiableList(roles);
+        this.groupPrincipals = groupPrincipals;
+        this.words = Math.max(1, (roles.size() + 63) >>> 6);
+
+        for (Map.Entry<String, Collection<String>> group : groupToEffectiveRoles.entrySet()) {
+            long[] mask = new long[words];
+            for (String role : group.getValue()) {
+                int index = roleIndexes.get(role);
+                mask[index >>> 6] |= 1L << index;
+            }
+
+            groupRoles.put(group.getKey(), mask);
+        }
+    }
+
+    /**
+     * Returns the names of all roles in this index, where the position of a role in the list is its bit.
+     *
+     * @return the names of all roles in this index
+     */
+    public List<String> getRoleNames() {
+        return roleNames;
+    }
+
+    /**
+     * Returns the bit of the given role.
+     *
+     * @param roleName the name of a role
+     * @return the bit of the role, or -1 if no group is mapped to that role
+     */
+    public int getRoleIndex(String roleName) {
+        Integer index = roleIndexes.get(roleName);
+
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns a bitmask of the given roles, ignoring roles that no group is mapped to.
+     *
+     * @param roleNames the names of roles
+     * @return a BitSet in which the bit of each of the given roles is set
+     */
+    public BitSet getRoleMask(Collection<String> roleNames) {
+        BitSet mask = new BitSet(this.roleNames.size());
+        for (String roleName : roleNames) {
+            Integer index = roleIndexes.get(roleName);
+            if (index != null) {
+                mask.set(index);
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns the names of the roles in the given bitmask.
+     *
+     * @param roleMask a bitmask of roles of this index
+     * @return the names of the roles whose bit is set
+     */
+    public Set<String> getRoleNames(BitSet roleMask) {
+        Set<String> names = new LinkedHashSet<>();
+        for (int index = roleMask.nextSetBit(0); index >= 0 && index < roleNames.size(); index = roleMask.nextSetBit(index + 1)) {
+            names.add(roleNames.get(index));
+        }
+
+        return unmodifiableSet(names);
+    }
+
+    /**
+     * Maps the given principals to roles.
+     *
+     * @param principals the principals of a caller
+     * @return a BitSet in which the bit of each role that a group principal is mapped to is set
+     */
+    public BitSet getMappedRoles(Collection<? extends Principal> principals) {
+        return BitSet.valueOf(map(principals, null, false));
+    }
+
+    /**
+     * Maps the given principals to roles, stopping as soon as all of the given roles are found.
+     *
+     * <p>
+     * The returned bitmask always contains the given roles that the principals are mapped to, but may lack other
+     * roles that a later principal is mapped to.
+     *
+     * @param principals the principals of a caller
+     * @param requiredRoles the roles to find, for instance the roles a permission was added to
+     * @return a BitSet in which the bit of each found role is set
+     */
+    public BitSet getMappedRoles(Collection<? extends Principal> principals, BitSet requiredRoles) {
+        return BitSet.valueOf(map(principals, requiredRoles.toLongArray(), false));
+    }
+
+    /**
+     * Checks whether the given principals are mapped to any of the given roles, stopping at the first principal
+     * that is.
+     *
+     * @param principals the principals of a caller
+     * @param roles the roles to check for, for instance the roles a permission was added to
+     * @return true if a group principal is mapped to at least one of the roles, false otherwise
+     */
+    public boolean isMappedToAny(Collection<? extends Principal> principals, BitSet roles) {
+        long[] mapped = map(principals, roles.toLongArray(), true);
+
+        for (long word : mapped) {
+            if (word != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * ORs the role masks of the group principals. If a target is given, only its roles are collected, and the
+     * lookup stops when any, or when all, of them are found.
+     */
+    private long[] map(Collection<? extends Principal> principals, long[] target, boolean any) {
+        long[] mapped = new long[words];
+
+        if (target != null && isEmpty(target)) {
+            return mapped;
+        }
+
+        for (Principal principal : principals) {
+            if (!groupPrincipals.test(principal)) {
+                continue;
+            }
+
+            long[] mask = groupRoles.get(principal.getName());
+            if (mask == null) {
+                continue;
+            }
+
+            if (target == null) {
+                for (int i = 0; i < words; i++) {
+                    mapped[i] |= mask[i];
+                }
+                continue;
+            }
+
+            boolean found = true;
+            for (int i = 0; i < words; i++) {
+                long wanted = i < target.length ? target[i] : 0;
+                mapped[i] |= mask[i] & wanted;
+                if (mapped[i] != wanted) {
+                    found = false;
+                }
+            }
+
+            if (found || (any && !isEmpty(mapped))) {
+                break;
+            }
+        }
+
+        return mapped;
+    }
+
+    private static boolean isEmpty(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Model of a Jakarta Servlet <code>security-constraint</code>, as obtained from a deployment descriptor, from
+ * annotations or from a programmatic registration.
+ *
+ * <p>
+ * The roles of a security constraint represent its <code>auth-constraint</code>. A <code>null</code> set of roles
+ * represents a constraint without an <code>auth-constraint</code>, and an empty set of roles represents an excluding
+ * <code>auth-constraint</code>. The reserved role name <code>"*"</code> stands for all roles declared by the
+ * application.
+ *
+ * @see WebResourceCollection
+ * @see SecurityConstraintTranslator
+ */
+public final class SecurityConstraint {
+
+    /**
+     * The transport guarantee of a constraint that does not have a <code>user-data-constraint</code>.
+     */
+    public static final String NONE = "NONE";
+
+    /**
+     * The transport guarantee that requires an integrity protected connection.
+     */
+    public static final String INTEGRAL = "INTEGRAL";
+
+    /**
+     * The transport guarantee that requires a connection protected for confidentiality.
+     */
+    public static final String CONFIDENTIAL = "CONFIDENTIAL";
+
+    private final List<WebResourceCollection> webResourceCollections;
+    private final Set<String> rolesAllowed;
+    private final String transportGuarantee;
+
+    /**
+     * Creates a security constraint.
+     *
+     * @param webResourceCollections the web resource collections to which the constraint applies
+     * @param rolesAllowed the roles of the <code>auth-constraint</code>; <code>null</code> if the constraint has no
+     * <code>auth-constraint</code>, and empty if the constraint has an excluding <code>auth-constraint</code>
+     * @param transportGuarantee one of {@link #NONE}, {@link #INTEGRAL} or {@link #CONFIDENTIAL}; <code>null</code>
+     * is equivalent to {@link #NONE}
+     *
+     * @throws IllegalArgumentException if no web resource collections are given or if the transport guarantee is not
+     * valid
+     */
+    public SecurityConstraint(List<WebResourceCollection> webResourceCollections, Set<String> rolesAllowed, String transportGuarantee) {
+        if (webResourceCollections == null || webResourceCollections.isEmpty()) {
+            throw new IllegalArgumentException("a security constraint must have at least one web-resource-collection");
+        }
+
+        if (transportGuarantee == null) {
+            transportGuarantee = NONE;
+        } else if (!NONE.equals(transportGuarantee) && !INTEGRAL.equals(transportGuarantee) && !CONFIDENTIAL.equals(transportGuarantee)) {
+            throw new IllegalArgumentException("illegal transport-guarantee: '" + transportGuarantee + "'");
+        }
+
+        this.webResourceCollections = unmodifiableList(new ArrayList<>(webResourceCollections));
+        this.rolesAllowed = rolesAllowed == null ? null : unmodifiableSet(new LinkedHashSet<>(rolesAllowed));
+        this.transportGuarantee = transportGuarantee;
+    }
+
+    /**
+     * @return the web resource collections to which this constraint applies
+     */
+    public List<WebResourceCollection> getWebResourceCollections() {
+        return webResourceCollections;
+    }
+
+    /**
+     * @return the roles of the <code>auth-constraint</code> of this constraint, <code>null</code> if this constraint
+     * has no <code>auth-constraint</code>
+     */
+    public Set<String> getRolesAllowed() {
+        return rolesAllowed;
+    }
+
+    /**
+     * @return the transport guarantee of this constraint, never <code>null</code>
+     */
+    public String getTransportGuarantee() {
+        return transportGuarantee;
+    }
+
+}
@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Translates Jakarta Servlet security constraints into <code>WebResourcePermission</code> and
+ * <code>WebUserDataPermission</code> policy statements, as defined by the "Translating security-constraint Elements"
+ * section of the specification.
+ *
+ * <p>
+ * The URL patterns of the constraints are qualified as defined by the "Qualified URL Pattern Names" section of the
+ * specification. Qualifying patterns that are matched by another qualifying pattern are dropped, and the permission
+ * instantiations for patterns made irrelevant by the path prefix pattern "/*" are not performed. The HTTP methods of
+ * the collections containing a pattern are combined as defined by the "Combining HTTP Methods" section.
+ *
+ * <p>
+ * The qualifying patterns of each pattern are found via an index of the path prefix, exact and extension patterns,
+ * rather than by matching every pattern against every other pattern. The qualification of the patterns and the
+ * construction of the permissions can be distributed over a {@link ForkJoinPool}; the resulting policy statements
+ * are always added to the policy configuration from the calling thread, and in a deterministic order.
+ *
+ * <p>
+ * Servlet <code>security-role-ref</code> elements are not translated by this class.
+ *
+ * @see SecurityConstraint
+ * @see WebResourceCollection
+ */
+public final class SecurityConstraintTranslator {
+
+    private static final String DEFAULT_PATTERN = "/";
+    private static final String ANY_ROLE = "*";
+    private static final String ESCAPED_COLON = "%3A";
+
+    private static final String[] TRANSPORT_TYPES = { SecurityConstraint.NONE, SecurityConstraint.INTEGRAL, SecurityConstraint.CONFIDENTIAL };
+
+    /**
+     * The number of patterns below which the patterns are translated by the calling thread.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final List<SecurityConstraint> securityConstraints;
+    private final Set<String> declaredRoles;
+    private final boolean denyUncoveredHttpMethods;
+
+    /**
+     * Creates a translator for the security constraints of a web module.
+     *
+     * @param securityConstraints the security constraints of the web module
+     * @param declaredRoles the roles declared by the application, to which the reserved role name "*" expands
+     * @param denyUncoveredHttpMethods true if the deny uncovered HTTP methods semantic is in effect for the web module,
+     * in which case uncovered HTTP methods are excluded rather than unchecked
+     */
+    public SecurityConstraintTranslator(List<SecurityConstraint> securityConstraints, Set<String> declaredRoles, boolean denyUncoveredHttpMethods) {
+        this.securityConstraints = securityConstraints == null ? List.of() : unmodifiableList(new ArrayList<>(securityConstraints));
+        this.declaredRoles = declaredRoles == null ? emptySet() : unmodifiableSet(new LinkedHashSet<>(declaredRoles));
+        this.denyUncoveredHttpMethods = denyUncoveredHttpMethods;
+    }
+
+    /**
+     * Translates the security constraints and adds the resulting policy statements to the given policy configuration,
+     * distributing the work over the common ForkJoinPool if the constraints contain many URL patterns.
+     *
+     * @param policyConfiguration the policy configuration, in the "open" state, to which the policy statements are added
+     *
+     * @throws PolicyContextException if the policy configuration throws a PolicyContextException
+     */
+    public void translate(PolicyConfiguration policyConfiguration) throws PolicyContextException {
+        translate(policyConfiguration, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Translates the security constraints and adds the resulting policy statements to the given policy configuration,
+     * distributing the work over the given ForkJoinPool if the constraints contain many URL patterns.
+     *
+     * @param policyConfiguration the policy configuration, in the "open" state, to which the policy statements are added
+     * @param pool the pool used to qualify the patterns and to construct the permissions
+     *
+     * @throws PolicyContextException if the policy configuration throws a PolicyContextException
+     */
+    public void translate(PolicyConfiguration policyConfiguration, ForkJoinPool pool) throws PolicyContextException {
+        Map<String, PatternConstraints> constraintsByPattern = combineConstraints();
+
+        PatternIndex index = new PatternIndex(constraintsByPattern.keySet());
+
+        PatternConstraints[] patterns = constraintsByPattern.values().toArray(new PatternConstraints[0]);
+        Translation[] translations = new Translation[patterns.length];
+
+        TranslateTask task = new TranslateTask(index, patterns, translations, denyUncoveredHttpMethods, 0, patterns.length);
+        if (patterns.length <= SEQUENTIAL_THRESHOLD) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+
+        for (Translation translation : translations) {
+            if (translation != null) {
+                translation.addTo(policyConfiguration);
+            }
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Groups the web resource collections of all constraints by URL pattern, combining the HTTP methods per kind of
+     * policy statement as it goes.
+     */
+    private Map<String, PatternConstraints> combineConstraints() {
+        Map<String, PatternConstraints> constraintsByPattern = new LinkedHashMap<>();
+
+        for (SecurityConstraint securityConstraint : securityConstraints) {
+            Set<String> roles = expandRoles(securityConstraint.getRolesAllowed());
+            boolean excluding = roles != null && securityConstraint.getRolesAllowed().isEmpty();
+            int transportType = transportType(securityConstraint.getTransportGuarantee());
+
+            for (WebResourceCollection collection : securityConstraint.getWebResourceCollections()) {
+                MethodSet methods = MethodSet.of(collection);
+
+                for (String urlPattern : collection.getUrlPatterns()) {
+                    PatternConstraints constraints = constraintsByPattern.computeIfAbsent(urlPattern, PatternConstraints::new);
+
+                    constraints.covered = MethodSet.combine(constraints.covered, methods);
+
+                    if (excluding) {
+                        constraints.excluded = MethodSet.combine(constraints.excluded, methods);
+                        continue;
+                    }
+
+                    if (roles == null) {
+                        constraints.unchecked = MethodSet.combine(constraints.unchecked, methods);
+                    } else {
+                        for (String role : roles) {
+                            constraints.roles.merge(role, methods, MethodSet::combine);
+                        }
+                    }
+
+                    constraints.connections[transportType] = MethodSet.combine(constraints.connections[transportType], methods);
+                }
+            }
+        }
+
+        // The default pattern is always translated, if only to account for its uncovered methods
+        constraintsByPattern.computeIfAbsent(DEFAULT_PATTERN, PatternConstraints::new);
+
+        return constraintsByPattern;
+    }
+
+    private Set<String> expandRoles(Set<String> rolesAllowed) {
+        if (rolesAllowed == null || !rolesAllowed.contains(ANY_ROLE)) {
+            return rolesAllowed;
+        }
+
+        Set<String> roles = new LinkedHashSet<>(rolesAllowed);
+        roles.remove(ANY_ROLE);
+        roles.addAll(declaredRoles);
+
+        return roles;
+    }
+
+    private static int transportType(String transportGuarantee) {
+        for (int i = 0; i < TRANSPORT_TYPES.length; i++) {
+            if (TRANSPORT_TYPES[i].equals(transportGuarantee)) {
+                return i;
+            }
+        }
+
+        return 0;
+    }
+
+    private static String escape(String pattern) {
+        return pattern.indexOf(':') < 0 ? pattern : pattern.replace(":", ESCAPED_COLON);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    /**
+     * A combination of HTTP methods; either a list of methods or a list of method omissions. The empty omission list
+     * represents all HTTP methods.
+     */
+    private static final class MethodSet {
+
+        static final MethodSet ALL = new MethodSet(true, emptySet());
+
+        final boolean omissions;
+        final Set<String> methods;
+
+        private MethodSet(boolean omissions, Set<String> methods) {
+            this.omissions = omissions;
+            this.methods = methods;
+        }
+
+        static MethodSet of(WebResourceCollection collection) {
+            if (!collection.getHttpMethods().isEmpty()) {
+                return new MethodSet(false, new TreeSet<>(collection.getHttpMethods()));
+            }
+
+            if (!collection.getHttpMethodOmissions().isEmpty()) {
+                return new MethodSet(true, new TreeSet<>(collection.getHttpMethodOmissions()));
+            }
+
+            return ALL;
+        }
+
+        static MethodSet combine(MethodSet one, MethodSet other) {
+            if (one == null) {
+                return other;
+            }
+
+            if (one.isAll() || other.isAll()) {
+                return ALL;
+            }
+
+            Set<String> methods;
+            boolean omissions;
+            if (!one.omissions && !other.omissions) {
+                methods = new TreeSet<>(one.methods);
+                methods.addAll(other.methods);
+                omissions = false;
+            } else if (one.omissions && other.omissions) {
+                methods = new TreeSet<>(one.methods);
+                methods.retainAll(other.methods);
+                omissions = true;
+            } else {
+                MethodSet omissionList = one.omissions ? one : other;
+                MethodSet methodList = one.omissions ? other : one;
+
+                methods = new TreeSet<>(omissionList.methods);
+                methods.removeAll(methodList.methods);
+                omissions = true;
+            }
+
+            return omissions && methods.isEmpty() ? ALL : new MethodSet(omissions, methods);
+        }
+
+        boolean isAll() {
+            return omissions && methods.isEmpty();
+        }
+
+        /**
+         * @return the HttpMethodSpec representing these methods
+         */
+        String getActions() {
+            if (isAll()) {
+                return null;
+            }
+
+            return (omissions ? "!" : "") + String.join(",", methods);
+        }
+
+        /**
+         * @return the HttpMethodSpec representing all the methods not in these methods, or null if there are none
+         */
+        String getUncoveredActions() {
+            if (isAll()) {
+                return null;
+            }
+
+            return (omissions ? "" : "!") + String.join(",", methods);
+        }
+
+        String getConnectionActions(int transportType) {
+            if (transportType == 0) {
+                return getActions();
+            }
+
+            return (isAll() ? "" : getActions()) + ":" + TRANSPORT_TYPES[transportType];
+        }
+    }
+
+    /**
+     * The combined HTTP methods per kind of policy statement for a single URL pattern.
+     */
+    private static final class PatternConstraints {
+
+        final String pattern;
+        final Map<String, MethodSet> roles = new LinkedHashMap<>();
+        final MethodSet[] connections = new MethodSet[TRANSPORT_TYPES.length];
+
+        MethodSet covered;
+        MethodSet excluded;
+        MethodSet unchecked;
+
+        PatternConstraints(String pattern) {
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * Index of the URL patterns of the constraints, used to find the qualifying patterns of a pattern without matching
+     * it against all other patterns.
+     *
+     * <p>
+     * Each path prefix and exact pattern is linked to the nearest path prefix pattern that matches it. The qualifying
+     * patterns of a path prefix pattern are then the patterns linked to it, and the patterns not linked to any path
+     * prefix pattern are the candidate qualifying patterns of the extension patterns and the default pattern.
+     */
+    private static final class PatternIndex {
+
+        final Map<String, List<String>> children = new HashMap<>();
+        final List<String> topLevelPrefixPatterns = new ArrayList<>();
+        final List<String> topLevelExactPatterns = new ArrayList<>();
+        final Map<String, List<String>> topLevelExactPatternsByExtension = new HashMap<>();
+        final Set<String> extensionPatterns = new TreeSet<>();
+        final boolean hasUniversalPattern;
+
+        PatternIndex(Set<String> patterns) {
+            Set<String> prefixes = new HashSet<>();
+            for (String pattern : patterns) {
+                if (patternType(pattern) == URLPattern.PT_PREFIX) {
+                    prefixes.add(pattern.substring(0, pattern.length() - 2));
+                }
+            }
+
+            hasUniversalPattern = prefixes.contains("");
+
+            for (String pattern : patterns) {
+                switch (patternType(pattern)) {
+                case URLPattern.PT_EXTENSION:
+                    extensionPatterns.add(pattern);
+                    break;
+                case URLPattern.PT_PREFIX:
+                    link(pattern, nearestPrefix(prefixes, pattern.substring(0, pattern.length() - 2), false), topLevelPrefixPatterns);
+                    break;
+                case URLPattern.PT_EXACT:
+                    String parent = nearestPrefix(prefixes, pattern, true);
+                    link(pattern, parent, topLevelExactPatterns);
+                    if (parent == null) {
+                        indexByExtension(pattern);
+                    }
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+
+        /**
+         * @return the canonical qualifying patterns of the given pattern, or null if the pattern is made irrelevant by
+         * a qualifying pattern
+         */
+        Set<String> getQualifyingPatterns(String pattern) {
+            Set<String> qualifyingPatterns = new TreeSet<>();
+
+            switch (patternType(pattern)) {
+            case URLPattern.PT_PREFIX:
+                qualifyingPatterns.addAll(children.getOrDefault(pattern, List.of()));
+                break;
+            case URLPattern.PT_EXTENSION:
+                if (hasUniversalPattern) {
+                    return null;
+                }
+                qualifyingPatterns.addAll(topLevelPrefixPatterns);
+                qualifyingPatterns.addAll(topLevelExactPatternsByExtension.getOrDefault(pattern, List.of()));
+                break;
+            case URLPattern.PT_DEFAULT:
+                if (hasUniversalPattern) {
+                    return null;
+                }
+                qualifyingPatterns.addAll(topLevelPrefixPatterns);
+                qualifyingPatterns.addAll(extensionPatterns);
+                for (String exactPattern : topLevelExactPatterns) {
+                    if (!isMatchedByExtension(exactPattern)) {
+                        qualifyingPatterns.add(exactPattern);
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+
+            return qualifyingPatterns;
+        }
+
+        private void link(String pattern, String parent, List<String> topLevelPatterns) {
+            if (parent == null) {
+                topLevelPatterns.add(pattern);
+            } else {
+                children.computeIfAbsent(parent, e -> new ArrayList<>()).add(pattern);
+            }
+        }
+
+        private void indexByExtension(String exactPattern) {
+            for (String extensionPattern : extensionsOf(exactPattern)) {
+                topLevelExactPatternsByExtension.computeIfAbsent(extensionPattern, e -> new ArrayList<>()).add(exactPattern);
+            }
+        }
+
+        private boolean isMatchedByExtension(String exactPattern) {
+            for (String extensionPattern : extensionsOf(exactPattern)) {
+                if (extensionPatterns.contains(extensionPattern)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * @return the extension patterns that could match the given exact pattern, as per URLPattern.implies
+         */
+        private static List<String> extensionsOf(String exactPattern) {
+            List<String> extensions = new ArrayList<>(2);
+
+            int slash = exactPattern.lastIndexOf('/');
+            if (slash < 0) {
+                return extensions;
+            }
+
+            for (int period = exactPattern.indexOf('.', slash); period >= 0; period = exactPattern.indexOf('.', period + 1)) {
+                extensions.add("*" + exactPattern.substring(period));
+            }
+
+            return extensions;
+        }
+
+        /**
+         * Finds the nearest path prefix pattern matching the given path, by walking up its parent paths.
+         *
+         * @param prefixes the paths of all path prefix patterns, i.e. without the trailing "/*"
+         * @param path the exact pattern or the path of a path prefix pattern
+         * @param inclusive true if a path prefix pattern for the path itself matches
+         * @return the nearest path prefix pattern, or null if none matches
+         */
+        private static String nearestPrefix(Set<String> prefixes, String path, boolean inclusive) {
+            if (!path.startsWith("/")) {
+                // Only the path prefix pattern "/*" matches patterns not starting with "/"
+                return inclusive && prefixes.contains("") ? "/*" : null;
+            }
+
+            String candidate = path;
+            if (!inclusive) {
+                candidate = parentOf(candidate);
+            }
+
+            while (candidate != null) {
+                if (prefixes.contains(candidate)) {
+                    return candidate + "/*";
+                }
+                candidate = parentOf(candidate);
+            }
+
+            return null;
+        }
+
+        private static String parentOf(String path) {
+            if (path.isEmpty()) {
+                return null;
+            }
+
+            return path.substring(0, path.lastIndexOf('/'));
+        }
+
+        private static int patternType(String pattern) {
+            return new URLPattern(pattern).patternType();
+        }
+    }
+
+    /**
+     * The policy statements resulting from the translation of a single URL pattern.
+     */
+    private static final class Translation {
+
+        final List<Permission> excluded = new ArrayList<>(2);
+        final List<Permission> unchecked = new ArrayList<>(4);
+        final Map<String, Permission> roles = new LinkedHashMap<>();
+
+        void addTo(PolicyConfiguration policyConfiguration) throws PolicyContextException {
+            for (Permission permission : excluded) {
+                policyConfiguration.addToExcludedPolicy(permission);
+            }
+
+            for (Map.Entry<String, Permission> rolePermission : roles.entrySet()) {
+                policyConfiguration.addToRole(rolePermission.getKey(), rolePermission.getValue());
+            }
+
+            for (Permission permission : unchecked) {
+                policyConfiguration.addToUncheckedPolicy(permission);
+            }
+        }
+    }
+
+    private static final class TranslateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient PatternIndex index;
+        private final transient PatternConstraints[] patterns;
+        private final transient Translation[] translations;
+        private final boolean denyUncoveredHttpMethods;
+        private final int from;
+        private final int to;
+
+        TranslateTask(PatternIndex index, PatternConstraints[] patterns, Translation[] translations, boolean denyUncoveredHttpMethods, int from, int to) {
+            this.index = index;
+            this.patterns = patterns;
+            this.translations = translations;
+            this.denyUncoveredHttpMethods = denyUncoveredHttpMethods;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    translations[i] = translate(patterns[i]);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new TranslateTask(index, patterns, translations, denyUncoveredHttpMethods, from, middle),
+                new TranslateTask(index, patterns, translations, denyUncoveredHttpMethods, middle, to));
+        }
+
+        private Translation translate(PatternConstraints constraints) {
+            Set<String> qualifyingPatterns = index.getQualifyingPatterns(constraints.pattern);
+            if (qualifyingPatterns == null) {
+                return null;
+            }
+
+            StringBuilder builder = new StringBuilder(escape(constraints.pattern));
+            for (String qualifyingPattern : qualifyingPatterns) {
+                builder.append(':').append(escape(qualifyingPattern));
+            }
+            String name = builder.toString();
+
+            Translation translation = new Translation();
+
+            if (constraints.excluded != null) {
+                String actions = constraints.excluded.getActions();
+                translation.excluded.add(new WebResourcePermission(name, actions));
+                translation.excluded.add(new WebUserDataPermission(name, actions));
+            }
+
+            for (Map.Entry<String, MethodSet> role : constraints.roles.entrySet()) {
+                translation.roles.put(role.getKey(), new WebResourcePermission(name, role.getValue().getActions()));
+            }
+
+            if (constraints.unchecked != null) {
+                translation.unchecked.add(new WebResourcePermission(name, constraints.unchecked.getActions()));
+            }
+
+            for (int transportType = 0; transportType < TRANSPORT_TYPES.length; transportType++) {
+                MethodSet connection = constraints.connections[transportType];
+                if (connection != null) {
+                    translation.unchecked.add(new WebUserDataPermission(name, connection.getConnectionActions(transportType)));
+                }
+            }
+
+            if (constraints.covered == null || !constraints.covered.isAll()) {
+                String actions = constraints.covered == null ? null : constraints.covered.getUncoveredActions();
+                List<Permission> target = denyUncoveredHttpMethods ? translation.excluded : translation.unchecked;
+                target.add(new WebResourcePermission(name, actions));
+                target.add(new WebUserDataPermission(name, actions));
+            }
+
+            return translation;
+        }
+    }
+
+}
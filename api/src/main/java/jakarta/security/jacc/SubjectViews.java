@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+
+import java.security.Principal;
+import java.util.Set;
+import javax.security.auth.Subject;
+
+/**
+ * Read-only Subjects for the methods of {@link Policy} and {@link PrincipalMapper} that take a set of principals,
+ * but have to call an implementation that only takes a Subject.
+ *
+ * <p>
+ * Subject is a final class, and its constructor copies the given principals into a set of its own, so it cannot be
+ * a view of a set of principals. Only the Subject without principals is shared; for any other set of principals a
+ * new Subject is constructed, and the principals are copied, on every call. Callers that want to avoid that cost
+ * have to override the methods that take a set of principals.
+ */
+final class SubjectViews {
+
+    // A read-only Subject can not be changed, so the one without principals can be shared
+    private static final Subject ANONYMOUS = new Subject(true, emptySet(), emptySet(), emptySet());
+
+    private SubjectViews() {
+    }
+
+    /**
+     * Returns a read-only Subject holding the given principals and no credentials, which is a new copy unless the
+     * set of principals is empty.
+     *
+     * @param principals the principals of the Subject
+     * @return a read-only Subject holding the given principals
+     */
+    static Subject of(Set<Principal> principals) {
+        if (principals.isEmpty()) {
+            return ANONYMOUS;
+        }
+
+        return new Subject(true, principals, emptySet(), emptySet());
+    }
+
+}
@@ -53,6 +53,12 @@ class URLPattern extends Object implements Comparable<URLPattern> {
         }
     }
 
+    // Used when the pattern type is already known, as is the case for decoded patterns
+    URLPattern(String pattern, int patternType) {
+        this.pattern = pattern;
+        this.patternType = patternType;
+    }
+
     public int patternType() {
         if (patternType < 0) {
             if (pattern.startsWith("*.")) {
@@ -82,6 +82,18 @@ class URLPatternSpec extends URLPattern {
         }
     }
 
+    /**
+     * Creates a new URLPatternSpec from an already canonicalized URLPatternList. The patterns in the list must have been
+     * validated, sorted and pruned as done by setURLPatternArray, which is the case for the patterns returned by
+     * getURLPatternList of another URLPatternSpec.
+     */
+    URLPatternSpec(String firstPattern, int firstPatternType, URLPattern[] canonicalPatternList) {
+        super(firstPattern, firstPatternType);
+
+        urlPatternList = null;
+        urlPatternArray = canonicalPatternList;
+    }
+
     /**
      * This method returns a String containing the first URLPattern in this URLPatternSpec.
      */
@@ -225,7 +237,7 @@ class URLPatternSpec extends URLPattern {
     public String toString() {
         if (canonicalSpec == null) {
 
-            if (urlPatternList == null) {
+            if (urlPatternArray == null) {
                 canonicalSpec = super.toString();
             } else {
 
@@ -252,6 +264,34 @@ class URLPatternSpec extends URLPattern {
         return canonicalSpec;
     }
 
+    /*
+     * Returns the canonical (sorted and pruned) patterns of the URLPatternList, or null if this URLPatternSpec does not
+     * have a URLPatternList.
+     */
+    URLPattern[] getURLPatternList() {
+        if (urlPatternArray == null) {
+            return null;
+        }
+
+        int count = 0;
+        for (URLPattern urlPattern : urlPatternArray) {
+            if (urlPattern != null) {
+                count++;
+            }
+        }
+
+        URLPattern[] patterns = new URLPattern[count];
+
+        int i = 0;
+        for (URLPattern urlPattern : urlPatternArray) {
+            if (urlPattern != null) {
+                patterns[i++] = urlPattern;
+            }
+        }
+
+        return patterns;
+    }
+
     // ----------------- Private Methods ---------------------
 
     private static String getFirstPattern(String urlPatternSpec) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.security.Permission;
+
+/**
+ * Key under which the decision for a web permission is cached, taken directly from the request, so that the
+ * permission, and the URLPatternSpec and HttpMethodSpec it parses, only have to be constructed when the decision is
+ * not cached.
+ *
+ * <p>
+ * Two requests with equal keys in the same policy context yield equal permissions, as the permission is a function of
+ * the request URI minus the context path, the HTTP method and, for a WebUserDataPermission, whether the request is
+ * secure.
+ */
+final class WebRequestKey {
+
+    private final boolean userData;
+    private final String uri;
+    private final String method;
+    private final boolean secure;
+    private final int hash;
+
+    private WebRequestKey(boolean userData, String uri, String method, boolean secure) {
+        this.userData = userData;
+        this.uri = uri;
+        this.method = method;
+        this.secure = secure;
+
+        int hash = uri.hashCode() * 31 + (method == null ? 0 : method.hashCode());
+        this.hash = hash * 4 + (userData ? 2 : 0) + (secure ? 1 : 0);
+    }
+
+    /**
+     * Returns the key of the WebResourcePermission for the given request.
+     */
+    static WebRequestKey webResource(HttpServletRequest request) {
+        return new WebRequestKey(false, getUriMinusContextPath(request), request.getMethod(), false);
+    }
+
+    /**
+     * Returns the key of the WebUserDataPermission for the given request.
+     */
+    static WebRequestKey webUserData(HttpServletRequest request) {
+        return new WebRequestKey(true, getUriMinusContextPath(request), request.getMethod(), request.isSecure());
+    }
+
+    /**
+     * Constructs the permission this key stands for from the request it was taken from.
+     */
+    Permission toPermission(HttpServletRequest request) {
+        return userData ? new WebUserDataPermission(request) : new WebResourcePermission(request);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof WebRequestKey)) {
+            return false;
+        }
+
+        WebRequestKey that = (WebRequestKey) other;
+
+        return hash == that.hash && userData == that.userData && secure == that.secure &&
+            uri.equals(that.uri) && (method == null ? that.method == null : method.equals(that.method));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * As the permission constructors do, chops the context path off the front of the request URI, but without escaping
+     * colons, which does not make a difference for equality.
+     */
+    private static String getUriMinusContextPath(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri == null) {
+            return "";
+        }
+
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty()) {
+            uri = uri.substring(contextPath.length());
+        }
+
+        return uri.equals("/") ? "" : uri;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Model of a Jakarta Servlet <code>web-resource-collection</code>; the URL patterns and HTTP methods to which a
+ * {@link SecurityConstraint} applies.
+ *
+ * <p>
+ * A collection names either HTTP methods, HTTP method omissions, or neither. A collection that names neither
+ * applies to all HTTP methods.
+ *
+ * @see SecurityConstraint
+ * @see SecurityConstraintTranslator
+ */
+public final class WebResourceCollection {
+
+    private final Set<String> urlPatterns;
+    private final Set<String> httpMethods;
+    private final Set<String> httpMethodOmissions;
+
+    /**
+     * Creates a web resource collection that applies to all HTTP methods.
+     *
+     * @param urlPatterns the URL patterns of the collection
+     */
+    public WebResourceCollection(Set<String> urlPatterns) {
+        this(urlPatterns, null, null);
+    }
+
+    /**
+     * Creates a web resource collection.
+     *
+     * @param urlPatterns the URL patterns of the collection
+     * @param httpMethods the HTTP methods of the collection, may be <code>null</code> or empty
+     * @param httpMethodOmissions the HTTP method omissions of the collection, may be <code>null</code> or empty
+     *
+     * @throws IllegalArgumentException if no URL patterns are given, or if both HTTP methods and HTTP method omissions
+     * are given
+     */
+    public WebResourceCollection(Set<String> urlPatterns, Set<String> httpMethods, Set<String> httpMethodOmissions) {
+        if (urlPatterns == null || urlPatterns.isEmpty()) {
+            throw new IllegalArgumentException("a web resource collection must have at least one url-pattern");
+        }
+
+        this.urlPatterns = copyOf(urlPatterns);
+        this.httpMethods = copyOf(httpMethods);
+        this.httpMethodOmissions = copyOf(httpMethodOmissions);
+
+        if (!this.httpMethods.isEmpty() && !this.httpMethodOmissions.isEmpty()) {
+            throw new IllegalArgumentException("a web resource collection cannot have both http-method and http-method-omission elements");
+        }
+    }
+
+    /**
+     * @return the URL patterns of this collection
+     */
+    public Set<String> getUrlPatterns() {
+        return urlPatterns;
+    }
+
+    /**
+     * @return the HTTP methods of this collection, or the empty set if this collection has no HTTP methods
+     */
+    public Set<String> getHttpMethods() {
+        return httpMethods;
+    }
+
+    /**
+     * @return the HTTP method omissions of this collection, or the empty set if this collection has no HTTP method
+     * omissions
+     */
+    public Set<String> getHttpMethodOmissions() {
+        return httpMethodOmissions;
+    }
+
+    private static Set<String> copyOf(Set<String> values) {
+        if (values == null || values.isEmpty()) {
+            return emptySet();
+        }
+
+        return unmodifiableSet(new LinkedHashSet<>(values));
+    }
+
+}
@@ -177,6 +177,15 @@ public final class WebResourcePermission extends Permission {
         this.methodSpec = HttpMethodSpec.getSpec(request.getMethod());
     }
 
+    /**
+     * Creates a new WebResourcePermission from an already parsed URLPatternSpec and HttpMethodSpec.
+     */
+    WebResourcePermission(String name, URLPatternSpec urlPatternSpec, HttpMethodSpec methodSpec) {
+        super(name);
+        this.urlPatternSpec = urlPatternSpec;
+        this.methodSpec = methodSpec;
+    }
+
     /**
      * Checks two WebResourcePermission objects for equality. WebResourcePermission objects are equivalent if their
      * URLPatternSpec and (canonicalized) actions values are equivalent.
@@ -303,6 +312,16 @@ public final class WebResourcePermission extends Permission {
         return this.urlPatternSpec.implies(that.urlPatternSpec);
     }
 
+    // ----------------- Package Methods ---------------------
+
+    URLPatternSpec getURLPatternSpec() {
+        return urlPatternSpec;
+    }
+
+    HttpMethodSpec getMethodSpec() {
+        return methodSpec;
+    }
+
     // ----------------- Private Methods ---------------------
 
     /**
@@ -355,7 +374,7 @@ public final class WebResourcePermission extends Permission {
      *
      * @throws IOException If an I/O error occurs while writing to the underlying stream
      */
-    private synchronized void writeObject(ObjectOutputStream outputStream) throws IOException {
+    private void writeObject(ObjectOutputStream outputStream) throws IOException {
         outputStream.putFields().put("actions", this.getActions());
         outputStream.writeFields();
     }
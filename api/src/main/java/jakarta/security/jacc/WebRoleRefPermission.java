@@ -176,7 +176,7 @@ public final class WebRoleRefPermission extends Permission implements Serializab
      * @throws ClassNotFoundException If the class of an object couldn't be found
      * @throws IOException If an I/O error occurs
      */
-    private synchronized void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+    private void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
         inputStream.defaultReadObject();
     }
 
@@ -189,7 +189,7 @@ public final class WebRoleRefPermission extends Permission implements Serializab
      * 
      * @throws IOException If an I/O error occurs while writing to the underlying stream
      */
-    private synchronized void writeObject(ObjectOutputStream outputStream) throws IOException {
+    private void writeObject(ObjectOutputStream outputStream) throws IOException {
         outputStream.defaultWriteObject();
     }
 
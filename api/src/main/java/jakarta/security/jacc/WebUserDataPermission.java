@@ -214,6 +214,21 @@ public final class WebUserDataPermission extends Permission {
         this.methodSpec = HttpMethodSpec.getSpec(request.getMethod());
     }
 
+    /**
+     * Creates a new WebUserDataPermission from an already parsed URLPatternSpec, HttpMethodSpec and transport type.
+     */
+    WebUserDataPermission(String name, URLPatternSpec urlPatternSpec, HttpMethodSpec methodSpec, int transportType) {
+        super(name);
+
+        if (transportType < 0 || transportType >= transportKeys.length) {
+            throw new IllegalArgumentException("illegal transport value");
+        }
+
+        this.urlPatternSpec = urlPatternSpec;
+        this.methodSpec = methodSpec;
+        this.transportType = transportType;
+    }
+
     /**
      * Checks two WebUserDataPermission objects for equality. WebUserDataPermission objects are equivalent if their
      * URLPatternSpec and (canonicalized) actions values are equivalent.
@@ -399,6 +414,20 @@ public final class WebUserDataPermission extends Permission {
         return this.urlPatternSpec.implies(that.urlPatternSpec);
     }
 
+    // ----------------- Package Methods ---------------------
+
+    URLPatternSpec getURLPatternSpec() {
+        return urlPatternSpec;
+    }
+
+    HttpMethodSpec getMethodSpec() {
+        return methodSpec;
+    }
+
+    int getTransportType() {
+        return transportType;
+    }
+
     // ----------------- Private Methods ---------------------
 
     /**
@@ -477,7 +506,7 @@ public final class WebUserDataPermission extends Permission {
      *
      * @throws IOException If an I/O error occurs while writing to the underlying stream
      */
-    private synchronized void writeObject(ObjectOutputStream outputStream) throws IOException {
+    private void writeObject(ObjectOutputStream outputStream) throws IOException {
         outputStream.putFields().put("actions", this.getActions());
         outputStream.writeFields();
     }
@@ -16,4 +16,6 @@
 module jakarta.security.jacc {
     exports jakarta.security.jacc;
     requires jakarta.servlet;
+    requires static jdk.jfr;
+    requires static java.management;
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class AdaptivePolicyEvaluatorTest {
+
+    @Test
+    void excludedWinsAfterReordering() {
+        Permissions excluded = new Permissions();
+        excluded.add(new WebResourcePermission("/admin/*", (String) null));
+        Permissions unchecked = new Permissions();
+        unchecked.add(new WebResourcePermission("/public/*", (String) null));
+        Permissions admin = new Permissions();
+        admin.add(new WebResourcePermission("/*", (String) null));
+
+        AdaptivePolicyEvaluator evaluator = new AdaptivePolicyEvaluator(excluded, unchecked, Map.of("admin", admin));
+        assertEquals(List.of("", "admin"), evaluator.getOrder());
+
+        for (int i = 0; i < 20 * AdaptivePolicyEvaluator.REORDER_INTERVAL; i++) {
+            assertTrue(evaluator.implies(new WebResourcePermission("/app/a", "GET"), Set.of("admin")));
+        }
+
+        assertEquals(List.of("admin", ""), evaluator.getOrder());
+        assertFalse(evaluator.implies(new WebResourcePermission("/admin/a", "GET"), Set.of("admin")));
+        assertFalse(evaluator.implies(new WebResourcePermission("/admin/a", "GET"), Set.of()));
+    }
+
+    @Test
+    void grantsSamePermissionsInAnyOrder() {
+        Permissions excluded = new Permissions();
+        excluded.add(new WebResourcePermission("/a/secret/*", (String) null));
+        Permissions unchecked = new Permissions();
+        unchecked.add(new WebResourcePermission("/public/*", "GET"));
+        Map<String, PermissionCollection> roles = new HashMap<>();
+        for (int r = 0; r < 4; r++) {
+            Permissions role = new Permissions();
+            role.add(new WebResourcePermission("/a/*", r % 2 == 0 ? "GET" : "POST"));
+            role.add(new WebResourcePermission("/r" + r + "/*", (String) null));
+            roles.put("r" + r, role);
+        }
+
+        AdaptivePolicyEvaluator evaluator = new AdaptivePolicyEvaluator(excluded, unchecked, roles);
+
+        List<String> paths = List.of("/a/x", "/a/secret/x", "/public/x", "/r0/x", "/r1/x", "/r2/x", "/r3/x", "/other", "a/x");
+        List<Set<String>> roleSets = List.of(Set.of(), Set.of("r0"), Set.of("r1"), Set.of("r2", "r3"), Set.of("r0", "r1", "r2", "r3"));
+
+        List<String> order = evaluator.getOrder();
+        assertSameGrants(evaluator, excluded, unchecked, roles, paths, roleSets);
+
+        // Most grants by "r3", so that it is tried first after the next reorder
+        for (int i = 0; i < 20 * AdaptivePolicyEvaluator.REORDER_INTERVAL; i++) {
+            evaluator.implies(new WebResourcePermission("/r3/x", "GET"), Set.of("r3"));
+        }
+
+        assertEquals("r3", evaluator.getOrder().get(0));
+        assertNotEquals(order, evaluator.getOrder());
+        assertSameGrants(evaluator, excluded, unchecked, roles, paths, roleSets);
+    }
+
+    @Test
+    void followsChangesInTraffic() {
+        Permissions a = new Permissions();
+        a.add(new WebResourcePermission("/a/*", (String) null));
+        Permissions b = new Permissions();
+        b.add(new WebResourcePermission("/b/*", (String) null));
+
+        AdaptivePolicyEvaluator evaluator = new AdaptivePolicyEvaluator(null, null, Map.of("a", a, "b", b));
+
+        for (int i = 0; i < 40 * AdaptivePolicyEvaluator.REORDER_INTERVAL; i++) {
+            evaluator.implies(new WebResourcePermission("/a/x", "GET"), Set.of("a", "b"));
+        }
+        assertEquals("a", evaluator.getOrder().get(0));
+
+        // As the older counts are halved on every reorder, half as many recent grants by "b" are enough to overtake "a"
+        for (int i = 0; i < 20 * AdaptivePolicyEvaluator.REORDER_INTERVAL; i++) {
+            evaluator.implies(new WebResourcePermission("/b/x", "GET"), Set.of("a", "b"));
+        }
+        assertEquals("b", evaluator.getOrder().get(0));
+    }
+
+    @Test
+    void excludedPathPrefixOfAllPathsRejectsPathWithoutLeadingSlash() {
+        Permissions excluded = new Permissions();
+        excluded.add(new WebResourcePermission("/*", "GET"));
+        Permissions unchecked = new Permissions();
+        unchecked.add(new WebResourcePermission("a/b", "GET,POST"));
+        unchecked.add(new WebResourcePermission("/a/b", "GET,POST"));
+
+        AdaptivePolicyEvaluator evaluator = new AdaptivePolicyEvaluator(excluded, unchecked, Map.of());
+
+        assertFalse(evaluator.implies(new WebResourcePermission("a/b", "GET"), Set.of()));
+        assertFalse(evaluator.implies(new WebResourcePermission("/a/b", "GET"), Set.of()));
+        assertTrue(evaluator.implies(new WebResourcePermission("a/b", "POST"), Set.of()));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static void assertSameGrants(AdaptivePolicyEvaluator evaluator, PermissionCollection excluded, PermissionCollection unchecked,
+            Map<String, PermissionCollection> roles, List<String> paths, List<Set<String>> roleSets) {
+        for (String path : paths) {
+            for (String method : List.of("GET", "POST")) {
+                WebResourcePermission permission = new WebResourcePermission(path, method);
+                for (Set<String> roleSet : roleSets) {
+                    boolean expected = !excluded.implies(permission) &&
+                        (unchecked.implies(permission) || roleSet.stream().anyMatch(role -> roles.get(role).implies(permission)));
+
+                    assertEquals(expected, evaluator.implies(permission, roleSet), () -> permission + " " + roleSet);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class AuditPolicyFactoryTest {
+
+    private static final Subject SUBJECT = new Subject(true, emptySet(), emptySet(), emptySet());
+
+    @Test
+    void recordsEachDecisionOfBatch() throws IOException {
+        ListSink sink = new ListSink();
+        MapPolicyFactory wrapped = new MapPolicyFactory();
+        GetPolicy policy = new GetPolicy();
+        wrapped.setPolicy("app", policy);
+
+        List<Permission> permissions = List.of(
+            new WebResourcePermission("/a", "GET"),
+            new WebResourcePermission("/a", "POST"),
+            new WebResourcePermission("/b", "GET"));
+
+        try (AuditTrail auditTrail = new AuditTrail(sink, 16, 1, 1, AuditTrail.OverflowPolicy.BLOCK)) {
+            new AuditPolicyFactory(wrapped, auditTrail).getPolicy("app").implies(permissions, SUBJECT);
+        }
+
+        assertEquals(List.of(permissions), policy.batches);
+        assertEquals(permissions.size(), sink.records.size());
+        for (int i = 0; i < permissions.size(); i++) {
+            AuditRecord record = sink.records.get(i);
+            assertEquals("app", record.getContextID());
+            assertEquals(permissions.get(i), record.getPermission());
+            assertEquals(i != 1, record.isGranted());
+        }
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static class ListSink implements AuditSink {
+
+        final List<AuditRecord> records = new ArrayList<>();
+
+        @Override
+        public void write(List<AuditRecord> records) {
+            this.records.addAll(records);
+        }
+    }
+
+    private static class MapPolicyFactory extends PolicyFactory {
+
+        private final Map<String, Policy> policies = new HashMap<>();
+
+        @Override
+        public Policy getPolicy(String contextId) {
+            return policies.get(contextId);
+        }
+
+        @Override
+        public void setPolicy(String contextId, Policy policy) {
+            policies.put(contextId, policy);
+        }
+    }
+
+    /**
+     * Grants all GET requests, and keeps the batches it checks.
+     */
+    private static class GetPolicy implements Policy {
+
+        final List<List<? extends Permission>> batches = new ArrayList<>();
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            return "GET".equals(permissionToBeChecked.getActions());
+        }
+
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            batches.add(permissionsToBeChecked);
+
+            BitSet implied = new BitSet();
+            for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+                implied.set(i, implies(permissionsToBeChecked.get(i), subject));
+            }
+
+            return implied;
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+}
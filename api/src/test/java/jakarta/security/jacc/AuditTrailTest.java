@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class AuditTrailTest {
+
+    @Test
+    void dropsRecordsWhenFull() throws Exception {
+        BlockingSink sink = new BlockingSink();
+        AuditTrail auditTrail = new AuditTrail(sink, 4, 1, 1, AuditTrail.OverflowPolicy.DROP);
+
+        // The writer takes the first record, and blocks writing it
+        record(auditTrail, 0);
+        assertTrue(sink.writing.await(10, SECONDS));
+
+        for (int i = 1; i <= 7; i++) {
+            record(auditTrail, i);
+        }
+        assertEquals(3, auditTrail.getDroppedRecords());
+
+        sink.release.countDown();
+        auditTrail.close();
+
+        assertEquals(List.of(0, 1, 2, 3, 4), sink.numbers());
+        assertEquals(3, auditTrail.getDroppedRecords());
+    }
+
+    @Test
+    void blocksWhenFull() throws Exception {
+        BlockingSink sink = new BlockingSink();
+        AuditTrail auditTrail = new AuditTrail(sink, 4, 1, 1, AuditTrail.OverflowPolicy.BLOCK);
+
+        record(auditTrail, 0);
+        assertTrue(sink.writing.await(10, SECONDS));
+        for (int i = 1; i <= 4; i++) {
+            record(auditTrail, i);
+        }
+
+        Thread producer = new Thread(() -> record(auditTrail, 5));
+        producer.start();
+        producer.join(100);
+        assertTrue(producer.isAlive());
+
+        sink.release.countDown();
+        producer.join();
+        auditTrail.close();
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), sink.numbers());
+        assertEquals(0, auditTrail.getDroppedRecords());
+    }
+
+    @Test
+    void writesAllRecordsBeforeClosingSink() throws Exception {
+        BlockingSink sink = new BlockingSink();
+        sink.release.countDown();
+        AuditTrail auditTrail = new AuditTrail(sink, 64, 1, 1, AuditTrail.OverflowPolicy.BLOCK);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            record(auditTrail, i);
+            expected.add(i);
+        }
+        auditTrail.close();
+
+        assertEquals(expected, sink.numbers());
+        assertEquals(1, sink.closes.get());
+
+        // Dropped once closed
+        record(auditTrail, 1000);
+        assertEquals(1, auditTrail.getDroppedRecords());
+        assertEquals(expected, sink.numbers());
+    }
+
+    @Test
+    void writesOrDropsEveryRecordOfConcurrentProducers() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            BlockingSink sink = new BlockingSink();
+            sink.release.countDown();
+            AuditTrail auditTrail = new AuditTrail(sink, 16, 1, 1, round % 2 == 0 ? AuditTrail.OverflowPolicy.DROP : AuditTrail.OverflowPolicy.BLOCK);
+
+            int producers = 4;
+            int records = 2000;
+            CountDownLatch started = new CountDownLatch(producers);
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < records; i++) {
+                        record(auditTrail, i);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            started.await();
+            auditTrail.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(producers * records, sink.numbers().size() + auditTrail.getDroppedRecords());
+            assertEquals(1, sink.closes.get());
+        }
+    }
+
+    @Test
+    void closesSinkOnceAfterLastWrite() throws Exception {
+        BlockingSink sink = new BlockingSink();
+        AuditTrail auditTrail = new AuditTrail(sink, 4, 1, 1, AuditTrail.OverflowPolicy.DROP);
+
+        record(auditTrail, 0);
+        assertTrue(sink.writing.await(10, SECONDS));
+
+        // The thread that closes is interrupted while waiting, and leaves closing the sink to the writer
+        Thread closing = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            close(auditTrail);
+        });
+        closing.start();
+        closing.join();
+
+        // Only the first call closes
+        auditTrail.close();
+        auditTrail.close();
+        assertEquals(0, sink.closes.get());
+
+        sink.release.countDown();
+        while (sink.closes.get() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertFalse(sink.closedWhileWriting);
+        assertEquals(1, sink.closes.get());
+        assertEquals(List.of(0), sink.numbers());
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static void record(AuditTrail auditTrail, int number) {
+        auditTrail.record("app", new NumberedPermission(number), (Subject) null, false);
+    }
+
+    private static void close(AuditTrail auditTrail) {
+        try {
+            auditTrail.close();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    /**
+     * Keeps the records it writes, and blocks in its first write until released.
+     */
+    private static class BlockingSink implements AuditSink {
+
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger closes = new AtomicInteger();
+        final List<Integer> numbers = new ArrayList<>();
+        volatile boolean inWrite;
+        volatile boolean closedWhileWriting;
+
+        @Override
+        public void write(List<AuditRecord> records) throws IOException {
+            inWrite = true;
+            try {
+                writing.countDown();
+                release.await();
+
+                synchronized (numbers) {
+                    for (AuditRecord record : records) {
+                        numbers.add(((NumberedPermission) record.getPermission()).number);
+                    }
+                }
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                inWrite = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            closedWhileWriting |= inWrite;
+            closes.incrementAndGet();
+        }
+
+        List<Integer> numbers() {
+            synchronized (numbers) {
+                return new ArrayList<>(numbers);
+            }
+        }
+    }
+
+    private static class NumberedPermission extends Permission {
+
+        private static final long serialVersionUID = 1L;
+
+        final int number;
+
+        NumberedPermission(int number) {
+            super("number");
+            this.number = number;
+        }
+
+        @Override
+        public boolean implies(Permission permission) {
+            return equals(permission);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NumberedPermission && ((NumberedPermission) obj).number == number;
+        }
+
+        @Override
+        public int hashCode() {
+            return number;
+        }
+
+        @Override
+        public String getActions() {
+            return "";
+        }
+    }
+
+}
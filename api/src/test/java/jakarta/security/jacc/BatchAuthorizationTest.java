@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class BatchAuthorizationTest {
+
+    private static final Subject SUBJECT = new Subject(true, emptySet(), emptySet(), emptySet());
+
+    @Test
+    void checksPermissionsMissingFromCollectionByRole() {
+        TestPolicy policy = new TestPolicy();
+        policy.excluded.add(new WebResourcePermission("/admin/*", (String) null));
+        policy.unchecked.add(new WebResourcePermission("/public/*", (String) null));
+        policy.byRole.add(new WebResourcePermission("/app/*", "GET"));
+        policy.byRole.add(new WebResourcePermission("/admin/*", "GET"));
+        policy.collection.add(new WebResourcePermission("/other/*", "GET"));
+
+        BitSet results = policy.implies(List.of(
+            new WebResourcePermission("/app/a", "GET"),
+            new WebResourcePermission("/app/a", "POST"),
+            new WebResourcePermission("/public/a", "POST"),
+            new WebResourcePermission("/admin/a", "GET"),
+            new WebResourcePermission("/other/a", "GET")),
+            SUBJECT);
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        expected.set(4);
+        assertEquals(expected, results);
+    }
+
+    @Test
+    void checksNamesWithoutLeadingSlash() {
+        TestPolicy policy = new TestPolicy();
+        policy.byRole.add(new WebResourcePermission("/*", "GET"));
+        policy.byRole.add(new WebResourcePermission("/a/*", "GET"));
+        policy.collection = policy.byRole;
+
+        List<WebResourcePermission> permissions = List.of(
+            new WebResourcePermission("a/b", "GET"),
+            new WebResourcePermission("a/b/c", "GET"),
+            new WebResourcePermission("a", "GET"),
+            new WebResourcePermission("/a/b", "GET"),
+            new WebResourcePermission("/b", "POST"));
+
+        BitSet results = policy.implies(permissions, SUBJECT);
+
+        for (int i = 0; i < permissions.size(); i++) {
+            assertEquals(policy.implies(permissions.get(i), SUBJECT), results.get(i), permissions.get(i).getName());
+        }
+    }
+
+
+    @Test
+    void checksRolesWithPrincipalsWithoutSubject() {
+        Principal alice = () -> "alice";
+        PrincipalsPolicy policy = new PrincipalsPolicy();
+        policy.byRole.add(new WebResourcePermission("/app/*", "GET"));
+
+        BitSet results = policy.implies(List.of(
+            new WebResourcePermission("/app/a", "GET"),
+            new WebResourcePermission("/app/a", "POST"),
+            new WebResourcePermission("/app/b", "GET")),
+            new Subject(true, Set.of(alice), emptySet(), emptySet()));
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        assertEquals(expected, results);
+        assertEquals(List.of(Set.of(alice), Set.of(alice), Set.of(alice)), policy.checkedPrincipals);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static class TestPolicy implements Policy {
+
+        final Permissions excluded = new Permissions();
+        final Permissions unchecked = new Permissions();
+        final Permissions byRole = new Permissions();
+        PermissionCollection collection = new Permissions();
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            return excluded.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            return unchecked.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            return byRole.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return collection;
+        }
+    }
+
+    /**
+     * Checks the roles of principals, and fails when a Subject is passed instead.
+     */
+    private static class PrincipalsPolicy extends TestPolicy {
+
+        final List<Set<Principal>> checkedPrincipals = new ArrayList<>();
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            throw new AssertionError("impliesByRole called with a Subject");
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+            checkedPrincipals.add(principals);
+            return byRole.implies(permissionToBeChecked);
+        }
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class CachingPolicyFactoryTest {
+
+    private static final Permission PERMISSION = new WebResourcePermission("/admin/a", "GET");
+
+    private final MapPolicyFactory wrapped = new MapPolicyFactory();
+    private final Map<String, CachingPrincipalMapper> principalMappers = new HashMap<>();
+    private final CachingPolicyFactory factory = new CachingPolicyFactory(wrapped, principalMappers::get);
+
+    @Test
+    void identifiesRolesWithMapperOfContext() {
+        // Alice and Bob are both users in "a", but only Alice is an administrator in "b"
+        RoleMapper a = new RoleMapper(Map.of("alice", "user", "bob", "user"));
+        RoleMapper b = new RoleMapper(Map.of("alice", "admin", "bob", "user"));
+        addContext("a", a);
+        addContext("b", b);
+
+        Subject alice = subject("alice");
+        Subject bob = subject("bob");
+
+        assertFalse(factory.getPolicy("a").implies(PERMISSION, alice));
+        assertTrue(factory.getPolicy("b").implies(PERMISSION, alice));
+        assertFalse(factory.getPolicy("b").implies(PERMISSION, bob));
+        assertTrue(factory.getPolicy("b").implies(PERMISSION, alice));
+    }
+
+    @Test
+    void invalidatesDecisionsOfVersionedPolicyOnRefresh() {
+        VersionedPolicy policy = addVersionedContext("d");
+        Subject alice = subject("alice");
+
+        assertTrue(factory.getPolicy("d").implies(PERMISSION, alice));
+        policy.granted = false;
+        assertTrue(factory.getPolicy("d").implies(PERMISSION, alice));
+
+        factory.getPolicy("d").refresh();
+
+        assertFalse(factory.getPolicy("d").implies(PERMISSION, alice));
+    }
+
+    @Test
+    void invalidatesDecisionsOfVersionedPolicyOnCommitOfItsContextOnly() {
+        VersionedPolicy policy = addVersionedContext("e");
+        Subject alice = subject("alice");
+
+        factory.getPolicy("e").implies(PERMISSION, alice);
+        PolicyEpoch.advance("other");
+        factory.getPolicy("e").implies(PERMISSION, alice);
+        assertEquals(1, policy.decisions);
+
+        PolicyEpoch.advance("e");
+        factory.getPolicy("e").implies(PERMISSION, alice);
+        assertEquals(2, policy.decisions);
+    }
+
+    @Test
+    void checksUncachedPermissionsOfBatchInOneBatch() {
+        BatchPolicy policy = new BatchPolicy();
+        wrapped.setPolicy("h", policy);
+        principalMappers.put("h", new CachingPrincipalMapper(new RoleMapper(Map.of())));
+        Subject alice = subject("alice");
+        Permission other = new WebResourcePermission("/admin/b", "GET");
+        Permission third = new WebResourcePermission("/admin/c", "GET");
+
+        BitSet expected = new BitSet();
+        expected.set(0, 2);
+        assertEquals(expected, factory.getPolicy("h").implies(List.of(PERMISSION, other), alice));
+
+        // The first two decisions are cached, so only the third is made, by the policy that now denies
+        policy.granted = false;
+        assertEquals(expected, factory.getPolicy("h").implies(List.of(PERMISSION, other, third), alice));
+        assertFalse(factory.getPolicy("h").implies(third, alice));
+
+        assertEquals(List.of(List.of(PERMISSION, other), List.of(third)), policy.batches);
+    }
+
+    @Test
+    void completesAsyncCheckAtOnceWhenDecisionIsCached() {
+        AsyncPolicy policy = new AsyncPolicy();
+        wrapped.setPolicy("f", policy);
+        principalMappers.put("f", new CachingPrincipalMapper(new RoleMapper(Map.of())));
+        Subject alice = subject("alice");
+
+        CompletableFuture<Boolean> first = factory.getPolicy("f").impliesAsync(PERMISSION, alice).toCompletableFuture();
+        assertFalse(first.isDone());
+        policy.pending.complete(true);
+        assertTrue(first.join());
+
+        CompletableFuture<Boolean> second = factory.getPolicy("f").impliesAsync(PERMISSION, alice).toCompletableFuture();
+        assertTrue(second.isDone());
+        assertTrue(second.join());
+        assertEquals(1, policy.decisions);
+
+        // Also the synchronous check uses the decision cached by the asynchronous one
+        assertTrue(factory.getPolicy("f").implies(PERMISSION, alice));
+        assertEquals(1, policy.decisions);
+    }
+
+    @Test
+    void cachesAsyncDecisionUnderEpochReadBeforeCheck() {
+        AsyncPolicy policy = new AsyncPolicy();
+        wrapped.setPolicy("g", policy);
+        principalMappers.put("g", new CachingPrincipalMapper(new RoleMapper(Map.of())));
+        Subject alice = subject("alice");
+
+        CompletableFuture<Boolean> first = factory.getPolicy("g").impliesAsync(PERMISSION, alice).toCompletableFuture();
+        PolicyEpoch.advance("g");
+        policy.pending.complete(true);
+        assertTrue(first.join());
+
+        policy.pending = new CompletableFuture<>();
+        CompletableFuture<Boolean> second = factory.getPolicy("g").impliesAsync(PERMISSION, alice).toCompletableFuture();
+        assertFalse(second.isDone());
+        assertEquals(2, policy.decisions);
+    }
+
+    @Test
+    void leavesPolicyWithoutMapperUndecorated() {
+        Policy policy = new AdminPolicy(new RoleMapper(Map.of()));
+        wrapped.setPolicy("c", policy);
+
+        assertSame(policy, factory.getPolicy("c"));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private void addContext(String contextId, RoleMapper principalMapper) {
+        wrapped.setPolicy(contextId, new AdminPolicy(principalMapper));
+        principalMappers.put(contextId, new CachingPrincipalMapper(principalMapper));
+    }
+
+    private VersionedPolicy addVersionedContext(String contextId) {
+        VersionedPolicy policy = new VersionedPolicy();
+        wrapped.setPolicy(contextId, policy);
+        principalMappers.put(contextId, new CachingPrincipalMapper(new RoleMapper(Map.of())));
+
+        return policy;
+    }
+
+    private static Subject subject(String name) {
+        Principal principal = () -> name;
+        return new Subject(true, Set.of(principal), emptySet(), emptySet());
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static class MapPolicyFactory extends PolicyFactory {
+
+        private final Map<String, Policy> policies = new HashMap<>();
+
+        @Override
+        public Policy getPolicy(String contextId) {
+            return policies.get(contextId);
+        }
+
+        @Override
+        public void setPolicy(String contextId, Policy policy) {
+            policies.put(contextId, policy);
+        }
+    }
+
+    /**
+     * Maps each principal, by name, to a single role.
+     */
+    private static class RoleMapper implements PrincipalMapper {
+
+        private final Map<String, String> roles;
+
+        RoleMapper(Map<String, String> roles) {
+            this.roles = roles;
+        }
+
+        @Override
+        public Principal getCallerPrincipal(Subject subject) {
+            return subject == null || subject.getPrincipals().isEmpty() ? null : subject.getPrincipals().iterator().next();
+        }
+
+        @Override
+        public Set<String> getMappedRoles(Subject subject) {
+            Principal caller = getCallerPrincipal(subject);
+            return caller == null || !roles.containsKey(caller.getName()) ? Set.of() : Set.of(roles.get(caller.getName()));
+        }
+    }
+
+    /**
+     * Grants every permission to the callers its PrincipalMapper maps to the "admin" role.
+     */
+    private static class AdminPolicy implements Policy {
+
+        private final PrincipalMapper principalMapper;
+
+        AdminPolicy(PrincipalMapper principalMapper) {
+            this.principalMapper = principalMapper;
+        }
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            return principalMapper.getMappedRoles(subject).contains("admin");
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+    /**
+     * Grants every permission while granted is true, and keeps the batches it checks.
+     */
+    private static class BatchPolicy extends VersionedPolicy {
+
+        final List<List<? extends Permission>> batches = new ArrayList<>();
+
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            batches.add(permissionsToBeChecked);
+
+            BitSet implied = new BitSet();
+            for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+                implied.set(i, implies(permissionsToBeChecked.get(i), subject));
+            }
+
+            return implied;
+        }
+    }
+
+    /**
+     * Decides asynchronously, completing each check with the pending stage the test completes.
+     */
+    private static class AsyncPolicy implements Policy {
+
+        volatile CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        int decisions;
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            decisions++;
+            return pending.getNow(false);
+        }
+
+        @Override
+        public CompletionStage<Boolean> impliesAsync(Permission permissionToBeChecked, Subject subject) {
+            decisions++;
+            return pending;
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+    /**
+     * Grants every permission while granted is true, and keeps a version that never changes, as a policy that only
+     * advances its version when its own statements change would between such changes.
+     */
+    private static class VersionedPolicy implements Policy {
+
+        private final long version = PolicyEpoch.advance("versioned");
+        volatile boolean granted = true;
+        int decisions;
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            decisions++;
+            return granted;
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+
+        @Override
+        public void refresh() {
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+}
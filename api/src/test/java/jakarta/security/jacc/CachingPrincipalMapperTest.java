@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Principal;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class CachingPrincipalMapperTest {
+
+    private final CachingPrincipalMapper principalMapper = new CachingPrincipalMapper(new GroupMapper(), List.of("user", "guest"));
+
+    @Test
+    void treatsNullAsUnauthenticated() {
+        BitSet guest = new BitSet();
+        guest.set(1);
+
+        assertEquals(guest, principalMapper.getMappedRoleMask(null));
+        assertTrue(principalMapper.hasAnyMappedRole(null, guest));
+        assertFalse(principalMapper.hasAnyMappedRole(null, BitSet.valueOf(new long[] { 1 })));
+        assertEquals(principalMapper.getRoleSetId((Subject) null), principalMapper.getRoleSetId((Set<Principal>) null));
+        assertEquals(principalMapper.getRoleSetId((Subject) null), principalMapper.getRoleSetId(new Subject()));
+    }
+
+    @Test
+    void mapsEqualRolesToSameId() {
+        Subject alice = subject("alice");
+        Subject bob = subject("bob");
+
+        assertEquals(principalMapper.getRoleSetId(alice), principalMapper.getRoleSetId(bob));
+        assertNotEquals(principalMapper.getRoleSetId(alice), principalMapper.getRoleSetId(new Subject()));
+    }
+
+    @Test
+    void doesNotReuseIdsAfterClear() {
+        Subject alice = subject("alice");
+        long before = principalMapper.getRoleSetId(alice);
+        long unauthenticatedBefore = principalMapper.getRoleSetId((Subject) null);
+
+        principalMapper.clear();
+
+        long after = principalMapper.getRoleSetId(alice);
+        assertTrue(after > Math.max(before, unauthenticatedBefore));
+        assertEquals(after, principalMapper.getRoleSetId(subject("bob")));
+    }
+
+    @Test
+    void mapsRolesAgainWhenPrincipalIsReplacedByOneWithSameHash() {
+        NameMapper nameMapper = new NameMapper();
+        CachingPrincipalMapper cachingMapper = new CachingPrincipalMapper(nameMapper);
+
+        Subject subject = new Subject();
+        subject.getPrincipals().add(new SameHashPrincipal("admin"));
+        assertEquals(Set.of("admin"), cachingMapper.getMappedRoles(subject));
+        assertEquals(Set.of("admin"), cachingMapper.getMappedRoles(subject));
+        assertEquals(1, nameMapper.mappings);
+
+        subject.getPrincipals().clear();
+        subject.getPrincipals().add(new SameHashPrincipal("clerk"));
+        assertEquals(Set.of("clerk"), cachingMapper.getMappedRoles(subject));
+        assertEquals(2, nameMapper.mappings);
+
+        // An equal principal in place of the cached one does not need the roles to be mapped again
+        subject.getPrincipals().clear();
+        subject.getPrincipals().add(new SameHashPrincipal("clerk"));
+        assertEquals(Set.of("clerk"), cachingMapper.getMappedRoles(subject));
+        assertEquals(2, nameMapper.mappings);
+    }
+
+    @Test
+    void mapsRolesOfPrincipalsAgainWhenPrincipalIsReplacedByOneWithSameHash() {
+        NameMapper nameMapper = new NameMapper();
+        CachingPrincipalMapper cachingMapper = new CachingPrincipalMapper(nameMapper);
+
+        Set<Principal> principals = new HashSet<>();
+        principals.add(new SameHashPrincipal("admin"));
+        principals.add(new SameHashPrincipal("user"));
+        long adminAndUser = cachingMapper.getRoleSetId(principals);
+
+        principals.remove(new SameHashPrincipal("admin"));
+        principals.add(new SameHashPrincipal("clerk"));
+
+        assertEquals(Set.of("clerk", "user"), cachingMapper.getMappedRoles(principals));
+        assertNotEquals(adminAndUser, cachingMapper.getRoleSetId(principals));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static Subject subject(String name) {
+        Principal principal = () -> name;
+        return new Subject(true, Set.of(principal), emptySet(), emptySet());
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    /**
+     * Maps a caller to the names of its principals as roles, and counts how often it mapped roles.
+     */
+    private static class NameMapper implements PrincipalMapper {
+
+        int mappings;
+
+        @Override
+        public Principal getCallerPrincipal(Subject subject) {
+            return getCallerPrincipal(subject.getPrincipals());
+        }
+
+        @Override
+        public Set<String> getMappedRoles(Subject subject) {
+            return getMappedRoles(subject.getPrincipals());
+        }
+
+        @Override
+        public Principal getCallerPrincipal(Set<Principal> principals) {
+            return principals.isEmpty() ? null : principals.iterator().next();
+        }
+
+        @Override
+        public Set<String> getMappedRoles(Set<Principal> principals) {
+            mappings++;
+
+            Set<String> roles = new HashSet<>();
+            for (Principal principal : principals) {
+                roles.add(principal.getName());
+            }
+
+            return roles;
+        }
+    }
+
+    /**
+     * Principal of which all instances have the same hash code, and are equal if they have the same name.
+     */
+    private static class SameHashPrincipal implements Principal {
+
+        private final String name;
+
+        SameHashPrincipal(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SameHashPrincipal && name.equals(((SameHashPrincipal) other).name);
+        }
+    }
+
+    /**
+     * Maps any caller with a principal to the "user" role, and any other caller to the "guest" role.
+     */
+    private static class GroupMapper implements PrincipalMapper {
+
+        @Override
+        public Principal getCallerPrincipal(Subject subject) {
+            return subject == null || subject.getPrincipals().isEmpty() ? null : subject.getPrincipals().iterator().next();
+        }
+
+        @Override
+        public Set<String> getMappedRoles(Subject subject) {
+            return getCallerPrincipal(subject) == null ? Set.of("guest") : Set.of("user");
+        }
+    }
+
+}
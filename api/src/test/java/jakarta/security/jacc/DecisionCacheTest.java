@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Permission;
+import org.junit.jupiter.api.Test;
+
+class DecisionCacheTest {
+
+    private static final long ROLES = 1;
+    private static final long EPOCH = 1;
+
+    @Test
+    void keepsPromotedDecisionWhileOthersAreEvicted() {
+        DecisionCache cache = new DecisionCache(10, permission -> 1);
+
+        // "a" leaves the window for probation when "b" is put, and is promoted when requested there
+        cache.put("app", permission("a"), ROLES, EPOCH, true);
+        cache.put("app", permission("b"), ROLES, EPOCH, true);
+        assertNotNull(cache.get("app", permission("a"), ROLES, EPOCH));
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("app", permission("flood" + i), ROLES, EPOCH, true);
+            cache.get("app", permission("flood" + i), ROLES, EPOCH);
+        }
+
+        assertNotNull(cache.get("app", permission("a"), ROLES, EPOCH));
+        assertNull(cache.get("app", permission("b"), ROLES, EPOCH));
+
+        DecisionCacheStatistics statistics = cache.getStatistics("app");
+        assertEquals(10, statistics.getEntries());
+        assertEquals(10, statistics.getWeightedSize());
+        assertEquals(42, statistics.getEvictions());
+    }
+
+    @Test
+    void rejectsColdCandidateForHotVictim() {
+        DecisionCache cache = new DecisionCache(10, permission -> 1);
+
+        for (int i = 0; i < 9; i++) {
+            cache.put("app", permission("hot" + i), ROLES, EPOCH, true);
+        }
+        for (int request = 0; request < 3; request++) {
+            for (int i = 0; i < 9; i++) {
+                assertNotNull(cache.get("app", permission("hot" + i), ROLES, EPOCH));
+            }
+        }
+
+        // "x" fills the cache, and has to compete with a hot decision on probation when "y" pushes it out of the window
+        cache.put("app", permission("x"), ROLES, EPOCH, false);
+        cache.put("app", permission("y"), ROLES, EPOCH, false);
+
+        assertNull(cache.get("app", permission("x"), ROLES, EPOCH));
+        assertNotNull(cache.get("app", permission("y"), ROLES, EPOCH));
+        for (int i = 0; i < 9; i++) {
+            assertNotNull(cache.get("app", permission("hot" + i), ROLES, EPOCH));
+        }
+        assertEquals(1, cache.getStatistics("app").getEvictions());
+    }
+
+    @Test
+    void invalidatesDecisionsPerContextOnEpochChange() {
+        DecisionCache cache = new DecisionCache(100);
+        String a = "decision-cache-a";
+        String b = "decision-cache-b";
+
+        cache.put(a, permission("p"), ROLES, PolicyEpoch.current(a), true);
+        cache.put(b, permission("p"), ROLES, PolicyEpoch.current(b), false);
+        assertEquals(Boolean.TRUE, cache.get(a, permission("p"), ROLES));
+        assertEquals(Boolean.FALSE, cache.get(b, permission("p"), ROLES));
+
+        PolicyEpoch.advance(a);
+
+        assertNull(cache.get(a, permission("p"), ROLES));
+        assertEquals(Boolean.FALSE, cache.get(b, permission("p"), ROLES));
+    }
+
+    @Test
+    void keepsDecisionOfLaterEpoch() {
+        DecisionCache cache = new DecisionCache(100);
+
+        cache.put("app", permission("p"), ROLES, 2, true);
+        cache.put("app", permission("p"), ROLES, 1, false);
+
+        assertEquals(Boolean.TRUE, cache.get("app", permission("p"), ROLES, 2));
+        assertNull(cache.get("app", permission("p"), ROLES, 1));
+    }
+
+    @Test
+    void invalidatesOneContextOnly() {
+        DecisionCache cache = new DecisionCache(100);
+
+        cache.put("a", permission("p"), ROLES, EPOCH, true);
+        cache.put("b", permission("p"), ROLES, EPOCH, true);
+        cache.put("a", permission("p"), 2, EPOCH, true);
+
+        cache.invalidate("a");
+
+        assertNull(cache.get("a", permission("p"), ROLES, EPOCH));
+        assertNull(cache.get("a", permission("p"), 2, EPOCH));
+        assertEquals(Boolean.TRUE, cache.get("b", permission("p"), ROLES, EPOCH));
+        assertTrue(cache.getStatistics("a").getMisses() >= 2);
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static Permission permission(String name) {
+        return new WebResourcePermission("/" + name, "GET");
+    }
+
+}
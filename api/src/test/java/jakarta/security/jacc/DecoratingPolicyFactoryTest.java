@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class DecoratingPolicyFactoryTest {
+
+    private final MapPolicyFactory wrapped = new MapPolicyFactory();
+    private final CountingPolicyFactory factory = new CountingPolicyFactory(wrapped);
+
+    @Test
+    void returnsSameDecoratorForSamePolicy() {
+        Policy policy = new TestPolicy();
+        wrapped.setPolicy("app", policy);
+
+        Policy decorator = factory.getPolicy("app");
+
+        assertSame(policy, ((Decorator) decorator).policy);
+        assertSame(decorator, factory.getPolicy("app"));
+        assertEquals(1, factory.decorated);
+    }
+
+    @Test
+    void replacesDecoratorOfReplacedPolicy() {
+        wrapped.setPolicy("app", new TestPolicy());
+        Policy first = factory.getPolicy("app");
+
+        Policy policy = new TestPolicy();
+        wrapped.setPolicy("app", policy);
+        Policy second = factory.getPolicy("app");
+
+        assertNotSame(first, second);
+        assertSame(policy, ((Decorator) second).policy);
+        assertEquals(List.of(first), factory.discarded);
+    }
+
+    @Test
+    void dropsDecoratorOfRemovedPolicy() {
+        wrapped.setPolicy("app", new TestPolicy());
+        Policy decorator = factory.getPolicy("app");
+
+        wrapped.setPolicy("app", null);
+
+        assertNull(factory.getPolicy("app"));
+        assertEquals(List.of(decorator), factory.discarded);
+
+        // Dropped only once
+        assertNull(factory.getPolicy("app"));
+        assertEquals(1, factory.discarded.size());
+    }
+
+    @Test
+    void setsUndecoratedPolicy() {
+        Policy policy = new TestPolicy();
+        wrapped.setPolicy("app", policy);
+
+        factory.setPolicy("other", factory.getPolicy("app"));
+
+        assertSame(policy, wrapped.getPolicy("other"));
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static class CountingPolicyFactory extends DecoratingPolicyFactory<Decorator> {
+
+        int decorated;
+        final List<Decorator> discarded = new ArrayList<>();
+
+        CountingPolicyFactory(PolicyFactory wrapped) {
+            super(wrapped, Decorator.class);
+        }
+
+        @Override
+        Decorator decorate(String contextId, Policy policy) {
+            decorated++;
+            return new Decorator(policy);
+        }
+
+        @Override
+        Policy undecorated(Decorator decorator) {
+            return decorator.policy;
+        }
+
+        @Override
+        void discarded(String contextId, Decorator decorator) {
+            discarded.add(decorator);
+        }
+    }
+
+    private static class Decorator implements Policy {
+
+        final Policy policy;
+
+        Decorator(Policy policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return policy.getPermissionCollection(subject);
+        }
+    }
+
+    private static class MapPolicyFactory extends PolicyFactory {
+
+        private final Map<String, Policy> policies = new HashMap<>();
+
+        @Override
+        public Policy getPolicy(String contextId) {
+            return policies.get(contextId);
+        }
+
+        @Override
+        public void setPolicy(String contextId, Policy policy) {
+            policies.put(contextId, policy);
+        }
+    }
+
+    private static class TestPolicy implements Policy {
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+}
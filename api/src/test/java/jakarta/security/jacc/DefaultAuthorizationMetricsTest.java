@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.Test;
+
+class DefaultAuthorizationMetricsTest {
+
+    private final DefaultAuthorizationMetrics metrics = new DefaultAuthorizationMetrics();
+
+    @Test
+    void countsPerContextAndPermissionClass() {
+        metrics.recordDecision("a", WebResourcePermission.class, true, 100);
+        metrics.recordDecision("a", WebResourcePermission.class, false, 300);
+        metrics.recordDecision("a", WebUserDataPermission.class, true, 50);
+        metrics.recordDecision("b", WebResourcePermission.class, false, 1000);
+        metrics.recordExcludedCheck("a", WebResourcePermission.class, true);
+        metrics.recordExcludedCheck("a", WebResourcePermission.class, false);
+        metrics.recordUncheckedCheck("a", WebResourcePermission.class, false);
+
+        assertEquals(Set.of("a", "b"), Set.copyOf(metrics.getContextIDs()));
+        assertEquals(450, metrics.getTotalDecisionNanos("a"));
+        assertEquals(1000, metrics.getTotalDecisionNanos("b"));
+        assertEquals(0, metrics.getTotalDecisionNanos("unknown"));
+
+        List<DecisionStatistics> statistics = metrics.getStatistics("a");
+        assertEquals(2, statistics.size());
+
+        // In descending order of total time
+        DecisionStatistics resources = statistics.get(0);
+        assertEquals("a", resources.getContextID());
+        assertEquals(WebResourcePermission.class.getName(), resources.getPermissionType());
+        assertEquals(2, resources.getDecisions());
+        assertEquals(1, resources.getGranted());
+        assertEquals(1, resources.getDenied());
+        assertEquals(2, resources.getExcludedChecks());
+        assertEquals(0.5, resources.getExcludedHitRate());
+        assertEquals(1, resources.getUncheckedChecks());
+        assertEquals(0.0, resources.getUncheckedHitRate());
+        assertEquals(400, resources.getTotalNanos());
+        assertEquals(200, resources.getMeanNanos());
+        assertEquals(300, resources.getMaxNanos());
+
+        DecisionStatistics userData = statistics.get(1);
+        assertEquals(WebUserDataPermission.class.getName(), userData.getPermissionType());
+        assertEquals(1, userData.getDecisions());
+        assertEquals(0, userData.getExcludedChecks());
+
+        assertEquals(List.of(1000L, 400L, 50L), metrics.getStatistics().stream().map(DecisionStatistics::getTotalNanos).collect(Collectors.toList()));
+        assertTrue(metrics.getStatistics("unknown").isEmpty());
+    }
+
+    @Test
+    void recordsDecisionsWithoutContextUnderEmptyContextID() {
+        metrics.recordDecision(null, WebResourcePermission.class, true, 10);
+
+        assertEquals(List.of(""), metrics.getContextIDs());
+        assertEquals(10, metrics.getTotalDecisionNanos(null));
+        assertEquals("", metrics.getStatistics(null).get(0).getContextID());
+        assertEquals("", metrics.getStatistics().get(0).getContextID());
+    }
+
+    @Test
+    void forgetsStatisticsOnReset() {
+        metrics.recordDecision("a", WebResourcePermission.class, true, 100);
+
+        metrics.reset();
+
+        assertTrue(metrics.getContextIDs().isEmpty());
+        assertTrue(metrics.getStatistics().isEmpty());
+        assertEquals(0, metrics.getTotalDecisionNanos("a"));
+
+        metrics.recordDecision("a", WebResourcePermission.class, false, 5);
+        assertEquals(1, metrics.getStatistics("a").get(0).getDecisions());
+        assertEquals(5, metrics.getStatistics("a").get(0).getMaxNanos());
+    }
+
+    @Test
+    void exposesStatisticsAsMXBean() throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(AuthorizationMetricsMXBean.OBJECT_NAME);
+
+        metrics.recordDecision("app", WebResourcePermission.class, true, 100);
+
+        metrics.registerMBean();
+        try {
+            assertArrayEquals(new String[] { "app" }, (String[]) mBeanServer.getAttribute(objectName, "ContextIDs"));
+
+            CompositeData[] statistics = (CompositeData[]) mBeanServer.getAttribute(objectName, "Statistics");
+            assertEquals(1, statistics.length);
+            assertEquals("app", statistics[0].get("contextID"));
+            assertEquals(WebResourcePermission.class.getName(), statistics[0].get("permissionType"));
+            assertEquals(1L, statistics[0].get("decisions"));
+
+            assertEquals(100L, mBeanServer.invoke(objectName, "getTotalDecisionNanos", new Object[] { "app" }, new String[] { String.class.getName() }));
+
+            mBeanServer.invoke(objectName, "reset", null, null);
+            assertTrue(metrics.getContextIDs().isEmpty());
+        } finally {
+            metrics.unregisterMBean();
+        }
+
+        assertFalse(mBeanServer.isRegistered(objectName));
+        metrics.unregisterMBean();
+    }
+
+}
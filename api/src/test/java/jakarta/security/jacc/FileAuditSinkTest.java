@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileAuditSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesOneLinePerRecord() throws IOException {
+        Path file = directory.resolve("audit.log");
+
+        Principal principal = () -> "alice\n2026-01-01T00:00:00Z GRANT app";
+        AuditRecord record = new AuditRecord(0, "app", new WebResourcePermission("/a\"b\\c\r\u0001", "GET"),
+            new Principal[] { principal }, false);
+
+        try (FileAuditSink sink = new FileAuditSink(file)) {
+            sink.write(List.of(record, record));
+        }
+
+        List<String> lines = Files.readAllLines(file, UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals(
+            "1970-01-01T00:00:00Z DENY app jakarta.security.jacc.WebResourcePermission " +
+            "\"/a\\\"b\\\\c\\r\\u0001\" \"GET\" [\"alice\\n2026-01-01T00:00:00Z GRANT app\"]",
+            lines.get(0));
+    }
+
+    @Test
+    void separatesPrincipalNames() throws IOException {
+        StringBuilder line = new StringBuilder();
+        try (FileAuditSink sink = new FileAuditSink(directory.resolve("audit.log"))) {
+            sink.format(
+                new AuditRecord(0, "app", new WebRoleRefPermission("", "admin"),
+                    new Principal[] { () -> "alice, admin", () -> "users" }, true),
+                line);
+        }
+
+        assertEquals(
+            "1970-01-01T00:00:00Z GRANT app jakarta.security.jacc.WebRoleRefPermission " +
+            "\"\" \"admin\" [\"alice, admin\", \"users\"]",
+            line.toString());
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.security.Principal;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import javax.security.auth.Subject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecorderPolicyFactoryTest {
+
+    private static final Permission PERMISSION = new WebResourcePermission("/a", "GET");
+    private static final Permission OTHER_PERMISSION = new WebResourcePermission("/b", "GET");
+    private static final Subject SUBJECT = new Subject(true, emptySet(), emptySet(), emptySet());
+    private static final Set<Principal> PRINCIPALS = Set.of(() -> "alice");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsDecisionsOfUndecoratedDefaultImplies() throws IOException {
+        assertEquals(5, countImpliesEvents(new DefaultImpliesPolicy(), UnaryOperator.identity()));
+    }
+
+    @Test
+    void recordsDecisionsOfDefaultImpliesOnce() throws IOException {
+        assertEquals(5, countImpliesEvents(new DefaultImpliesPolicy(), FlightRecorderPolicyFactory::new));
+    }
+
+    @Test
+    void recordsDecisionsOfOverriddenImpliesOnce() throws IOException {
+        assertEquals(5, countImpliesEvents(new OverridingPolicy(), FlightRecorderPolicyFactory::new));
+    }
+
+    @Test
+    void recordsDecisionsOfOverriddenBatchImpliesOnce() throws IOException {
+        assertEquals(5, countImpliesEvents(new BatchPolicy(), FlightRecorderPolicyFactory::new));
+    }
+
+    @Test
+    void recordsDecisionsOfDecoratedPoliciesOnce() throws IOException {
+        UnaryOperator<PolicyFactory> metricsThenFlightRecorder =
+            wrapped -> new FlightRecorderPolicyFactory(new MetricsPolicyFactory(wrapped, new DefaultAuthorizationMetrics()));
+        UnaryOperator<PolicyFactory> flightRecorderThenMetrics =
+            wrapped -> new MetricsPolicyFactory(new FlightRecorderPolicyFactory(wrapped), new DefaultAuthorizationMetrics());
+
+        assertEquals(5, countImpliesEvents(new DefaultImpliesPolicy(), metricsThenFlightRecorder));
+        assertEquals(5, countImpliesEvents(new DefaultImpliesPolicy(), flightRecorderThenMetrics));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Calls each implies method of the policy once, the one for a batch with two permissions, as decorated by the given
+     * factories, and returns the number of implies decisions recorded.
+     */
+    private int countImpliesEvents(Policy policy, UnaryOperator<PolicyFactory> decorate) throws IOException {
+        MapPolicyFactory wrapped = new MapPolicyFactory();
+        wrapped.setPolicy("app", policy);
+        Policy decorated = decorate.apply(wrapped).getPolicy("app");
+
+        Path file = directory.resolve(System.nanoTime() + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jakarta.authorization.Decision").withThreshold(null);
+            recording.start();
+
+            decorated.implies(PERMISSION, SUBJECT);
+            decorated.implies(PERMISSION);
+            decorated.implies(PERMISSION, PRINCIPALS);
+            decorated.implies(List.of(PERMISSION, OTHER_PERMISSION), SUBJECT);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        int count = 0;
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if ("implies".equals(event.getString("check"))) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static class MapPolicyFactory extends PolicyFactory {
+
+        private final Map<String, Policy> policies = new HashMap<>();
+
+        @Override
+        public Policy getPolicy(String contextId) {
+            return policies.get(contextId);
+        }
+
+        @Override
+        public void setPolicy(String contextId, Policy policy) {
+            policies.put(contextId, policy);
+        }
+    }
+
+    private static class DefaultImpliesPolicy implements Policy {
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            return false;
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            return false;
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            return true;
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+    private static class BatchPolicy extends DefaultImpliesPolicy {
+
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            BitSet implied = new BitSet();
+            implied.set(0, permissionsToBeChecked.size());
+
+            return implied;
+        }
+    }
+
+    private static class OverridingPolicy implements Policy {
+
+        @Override
+        public boolean implies(Permission permissionToBeChecked, Subject subject) {
+            return true;
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+}
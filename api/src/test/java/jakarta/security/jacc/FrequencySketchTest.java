@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FrequencySketchTest {
+
+    @Test
+    void estimatesAtLeastRecordedFrequency() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int hash = 0; hash < 100; hash++) {
+            for (int i = 0; i < hash % 15; i++) {
+                sketch.increment(hash);
+            }
+        }
+
+        for (int hash = 0; hash < 100; hash++) {
+            assertTrue(sketch.frequency(hash) >= hash % 15);
+        }
+        assertEquals(0, sketch.frequency(12345));
+    }
+
+    @Test
+    void saturatesAtFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(42);
+        }
+
+        assertEquals(15, sketch.frequency(42));
+    }
+
+    @Test
+    void halvesAllCountersAfterSampleSize() {
+        // A capacity of 16 gives a sample size of 160 recorded hashes
+        FrequencySketch sketch = new FrequencySketch(16);
+
+        for (int i = 0; i < 10; i++) {
+            sketch.increment(-1);
+        }
+        assertEquals(10, sketch.frequency(-1));
+
+        int increments = 0;
+        while (sketch.frequency(-1) >= 10) {
+            sketch.increment(increments++);
+            assertTrue(increments <= 200, "not halved");
+        }
+
+        // Each increment records at most one hash, and every counter of at most 15 is at most 7 once halved
+        assertTrue(increments >= 150);
+        assertTrue(sketch.frequency(-1) <= 7);
+        for (int hash = 0; hash < increments; hash++) {
+            assertTrue(sketch.frequency(hash) <= 7);
+        }
+    }
+
+}
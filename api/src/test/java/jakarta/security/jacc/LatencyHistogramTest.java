@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    private static final long MAX_VALUE = (1L << 40) - 1;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void reportsValuesBelowSubBucketCountExactly() {
+        assertEquals(0, lowestReportedAs(0));
+        assertEquals(1, lowestReportedAs(1));
+        assertEquals(31, lowestReportedAs(31));
+    }
+
+    @Test
+    void reportsHighestEquivalentValueAroundFirstPowerOfTwoAboveSubBuckets() {
+        // From 2^5 to 2^6 buckets are still one nanosecond wide, above 2^6 they are two wide
+        assertEquals(32, lowestReportedAs(32));
+        assertEquals(63, lowestReportedAs(63));
+        assertEquals(65, lowestReportedAs(64));
+        assertEquals(65, lowestReportedAs(65));
+        assertEquals(67, lowestReportedAs(66));
+        assertEquals(131, lowestReportedAs(128));
+    }
+
+    @Test
+    void reportsHighestEquivalentValueAroundLargestTrackedValue() {
+        long bucketWidth = 1L << 34;
+
+        assertEquals((1L << 39) + bucketWidth - 1, lowestReportedAs(1L << 39));
+        assertEquals(MAX_VALUE, lowestReportedAs(MAX_VALUE - bucketWidth + 1));
+        assertEquals(MAX_VALUE - bucketWidth, lowestReportedAs(MAX_VALUE - bucketWidth));
+    }
+
+    @Test
+    void countsLargerValuesInLastBucket() {
+        histogram.record(1L << 40);
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(MAX_VALUE, histogram.getValueAtPercentile(50));
+        assertEquals(MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertEquals(MAX_VALUE, histogram.getMaxValue());
+    }
+
+    @Test
+    void reportsValueOfRankOfPercentile() {
+        for (int value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+
+        // The rank is the percentile of the 20 values rounded up, and at least 1
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(1, histogram.getValueAtPercentile(5));
+        assertEquals(2, histogram.getValueAtPercentile(5.1));
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(18, histogram.getValueAtPercentile(90));
+        assertEquals(20, histogram.getValueAtPercentile(99.9));
+        assertEquals(20, histogram.getValueAtPercentile(100));
+        assertEquals(20, histogram.getValueAtPercentile(150));
+    }
+
+    @Test
+    void reportsNoMoreThanMaxValue() {
+        histogram.record(1000);
+
+        // 1000 is in the bucket from 992 to 1007
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+        assertEquals(1000, histogram.getMaxValue());
+
+        histogram.record(1001);
+        assertEquals(1001, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void forgetsValuesOnReset() {
+        histogram.record(100);
+        histogram.record(200);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMaxValue());
+
+        histogram.record(10);
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(10, histogram.getMaxValue());
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Returns the value the given value is reported as when it is the lowest of the recorded values, which is the
+     * highest value equivalent to it, as a larger value is recorded too.
+     */
+    private static long lowestReportedAs(long value) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(value);
+        histogram.record(Long.MAX_VALUE);
+
+        return histogram.getValueAtPercentile(50);
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class MetricsPolicyFactoryTest {
+
+    private static final Subject SUBJECT = new Subject(true, emptySet(), emptySet(), emptySet());
+
+    private final MapPolicyFactory wrapped = new MapPolicyFactory();
+    private final DefaultAuthorizationMetrics metrics = new DefaultAuthorizationMetrics();
+    private final MetricsPolicyFactory factory = new MetricsPolicyFactory(wrapped, metrics);
+
+    @Test
+    void reportsEachDecisionAndCheckOfBatch() {
+        DefaultImpliesPolicy policy = new DefaultImpliesPolicy();
+        policy.excluded.add(new WebResourcePermission("/admin/*", (String) null));
+        policy.unchecked.add(new WebResourcePermission("/public/*", (String) null));
+        policy.byRole.add(new WebResourcePermission("/app/*", "GET"));
+        wrapped.setPolicy("app", policy);
+
+        BitSet implied = factory.getPolicy("app").implies(List.of(
+            new WebResourcePermission("/admin/a", "GET"),
+            new WebResourcePermission("/public/a", "GET"),
+            new WebResourcePermission("/app/a", "GET"),
+            new WebResourcePermission("/app/a", "POST")),
+            SUBJECT);
+
+        BitSet expected = new BitSet();
+        expected.set(1, 3);
+        assertEquals(expected, implied);
+
+        DecisionStatistics statistics = metrics.getStatistics("app").get(0);
+        assertEquals(WebResourcePermission.class.getName(), statistics.getPermissionType());
+        assertEquals(4, statistics.getDecisions());
+        assertEquals(2, statistics.getGranted());
+        assertEquals(4, statistics.getExcludedChecks());
+        assertEquals(3, statistics.getUncheckedChecks());
+    }
+
+    @Test
+    void forwardsBatchToPolicyThatChecksBatches() {
+        BatchPolicy policy = new BatchPolicy();
+        policy.byRole.add(new WebResourcePermission("/app/*", "GET"));
+        wrapped.setPolicy("batch", policy);
+
+        List<Permission> permissions = List.of(new WebResourcePermission("/app/a", "GET"), new WebResourcePermission("/app/b", "POST"));
+        factory.getPolicy("batch").implies(permissions, SUBJECT);
+
+        assertEquals(List.of(permissions), policy.batches);
+
+        DecisionStatistics statistics = metrics.getStatistics("batch").get(0);
+        assertEquals(2, statistics.getDecisions());
+        assertEquals(1, statistics.getGranted());
+    }
+
+    @Test
+    void reportsDecisionsAndChecksPerContextAndPermissionClass() {
+        DefaultImpliesPolicy first = new DefaultImpliesPolicy();
+        first.excluded.add(new WebResourcePermission("/admin/*", (String) null));
+        first.unchecked.add(new EJBMethodPermission("Bean", "home"));
+        first.byRole.add(new WebResourcePermission("/app/*", "GET"));
+        wrapped.setPolicy("first", first);
+        wrapped.setPolicy("second", new DefaultImpliesPolicy());
+
+        Policy policy = factory.getPolicy("first");
+        assertFalse(policy.implies(new WebResourcePermission("/admin/a", "GET"), SUBJECT));
+        assertTrue(policy.implies(new WebResourcePermission("/app/a", "GET"), emptySet()));
+        assertFalse(policy.implies(new WebResourcePermission("/app/a", "POST")));
+        assertTrue(policy.implies(new EJBMethodPermission("Bean", "home"), SUBJECT));
+        assertFalse(factory.getPolicy("second").implies(new EJBMethodPermission("Bean", "home"), SUBJECT));
+
+        assertEquals(Set.of("first", "second"), Set.copyOf(metrics.getContextIDs()));
+
+        DecisionStatistics webResources = statistics("first", WebResourcePermission.class);
+        assertEquals(3, webResources.getDecisions());
+        assertEquals(1, webResources.getGranted());
+        assertEquals(3, webResources.getExcludedChecks());
+        assertEquals(1.0 / 3, webResources.getExcludedHitRate());
+        assertEquals(2, webResources.getUncheckedChecks());
+        assertEquals(0.0, webResources.getUncheckedHitRate());
+
+        DecisionStatistics ejbMethods = statistics("first", EJBMethodPermission.class);
+        assertEquals(1, ejbMethods.getDecisions());
+        assertEquals(1, ejbMethods.getGranted());
+        assertEquals(1, ejbMethods.getExcludedChecks());
+        assertEquals(1, ejbMethods.getUncheckedChecks());
+        assertEquals(1.0, ejbMethods.getUncheckedHitRate());
+
+        assertEquals(1, metrics.getStatistics("second").size());
+        DecisionStatistics second = statistics("second", EJBMethodPermission.class);
+        assertEquals(1, second.getDecisions());
+        assertEquals(0, second.getGranted());
+        assertEquals(1, second.getUncheckedChecks());
+    }
+
+    @Test
+    void reportsOnlyDecisionsOfPolicyThatOverridesImplies() {
+        wrapped.setPolicy("app", new DefaultImpliesPolicy() {
+            @Override
+            public boolean implies(Permission permissionToBeChecked, Subject subject) {
+                return true;
+            }
+        });
+
+        assertTrue(factory.getPolicy("app").implies(new WebResourcePermission("/a", "GET"), SUBJECT));
+
+        DecisionStatistics statistics = statistics("app", WebResourcePermission.class);
+        assertEquals(1, statistics.getDecisions());
+        assertEquals(1, statistics.getGranted());
+        assertEquals(0, statistics.getExcludedChecks());
+        assertEquals(0, statistics.getUncheckedChecks());
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private DecisionStatistics statistics(String contextID, Class<? extends Permission> permissionType) {
+        for (DecisionStatistics statistics : metrics.getStatistics(contextID)) {
+            if (statistics.getPermissionType().equals(permissionType.getName())) {
+                return statistics;
+            }
+        }
+
+        throw new AssertionError("No statistics of " + permissionType.getName() + " in " + contextID);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static class MapPolicyFactory extends PolicyFactory {
+
+        private final Map<String, Policy> policies = new HashMap<>();
+
+        @Override
+        public Policy getPolicy(String contextId) {
+            return policies.get(contextId);
+        }
+
+        @Override
+        public void setPolicy(String contextId, Policy policy) {
+            policies.put(contextId, policy);
+        }
+    }
+
+    private static class BatchPolicy extends DefaultImpliesPolicy {
+
+        final List<List<? extends Permission>> batches = new ArrayList<>();
+
+        @Override
+        public BitSet implies(List<? extends Permission> permissionsToBeChecked, Subject subject) {
+            batches.add(permissionsToBeChecked);
+
+            BitSet implied = new BitSet();
+            for (int i = 0; i < permissionsToBeChecked.size(); i++) {
+                implied.set(i, implies(permissionsToBeChecked.get(i), subject));
+            }
+
+            return implied;
+        }
+    }
+
+    private static class DefaultImpliesPolicy implements Policy {
+
+        final Permissions excluded = new Permissions();
+        final Permissions unchecked = new Permissions();
+        final Permissions byRole = new Permissions();
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            return excluded.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            return unchecked.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            return byRole.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+}
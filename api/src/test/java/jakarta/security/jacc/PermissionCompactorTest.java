@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PermissionCompactorTest {
+
+    private static final String[] PATTERNS = {
+        "/a/*", "/a/b", "/a/b/*", "*.jsp", "/", "/a/b/c.jsp", "", "/x", "/*", "/a/*:/a/b/*", "/:/a/*:*.jsp", "*.jsp:/a/*" };
+    private static final String[] METHOD_SPECS = {
+        "GET", "POST", "GET,POST", "!GET", "!GET,POST", "PATCH", "!PATCH", "GET,PATCH", null, "!DELETE,FOO", "FOO" };
+    private static final String[] TRANSPORT_TYPES = { "", ":CONFIDENTIAL", ":INTEGRAL", ":NONE" };
+
+    private static final String[] REQUEST_PATHS = {
+        "/a", "/a/b", "/a/b/c", "/a/b/c.jsp", "/x", "", "/q.jsp", "/z", "/a/*", "/a/b/*", "*.jsp", "/" };
+    private static final String[] REQUEST_METHODS = { "GET", "POST", "PATCH", "FOO", "DELETE", "HEAD" };
+
+    @Test
+    void impliesSameRequestPermissions() {
+        Random random = new Random(1);
+        int elements = 0;
+        int compactedElements = 0;
+
+        for (int round = 0; round < 2000; round++) {
+            Permissions permissions = new Permissions();
+            int count = 1 + random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                String pattern = PATTERNS[random.nextInt(PATTERNS.length)];
+                String methodSpec = METHOD_SPECS[random.nextInt(METHOD_SPECS.length)];
+                if (random.nextBoolean()) {
+                    permissions.add(new WebResourcePermission(pattern, methodSpec));
+                } else {
+                    permissions.add(new WebUserDataPermission(pattern,
+                        (methodSpec == null ? "" : methodSpec) + TRANSPORT_TYPES[random.nextInt(TRANSPORT_TYPES.length)]));
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                permissions.add(new WebRoleRefPermission("servlet", "role"));
+            }
+
+            Permissions compacted = PermissionCompactor.compact(permissions);
+            elements += size(permissions);
+            compactedElements += size(compacted);
+
+            for (String path : REQUEST_PATHS) {
+                for (String method : REQUEST_METHODS) {
+                    assertSameImplies(permissions, compacted, new WebResourcePermission(path, method));
+                    assertSameImplies(permissions, compacted, new WebUserDataPermission(path, method));
+                    assertSameImplies(permissions, compacted, new WebUserDataPermission(path, method + ":CONFIDENTIAL"));
+                }
+            }
+            assertSameImplies(permissions, compacted, new WebRoleRefPermission("servlet", "role"));
+        }
+
+        assertTrue(compactedElements < elements);
+    }
+
+    @Test
+    void mergesMethodsOnSamePattern() {
+        Permissions permissions = new Permissions();
+        permissions.add(new WebResourcePermission("/a", "GET"));
+        permissions.add(new WebResourcePermission("/a", "POST"));
+
+        Permissions compacted = PermissionCompactor.compact(permissions);
+
+        assertEquals(1, size(compacted));
+        assertTrue(compacted.implies(new WebResourcePermission("/a", "GET")));
+        assertTrue(compacted.implies(new WebResourcePermission("/a", "POST")));
+
+        // Not a request permission; implied by the merged permission only
+        assertFalse(permissions.implies(new WebResourcePermission("/a", "GET,POST")));
+        assertTrue(compacted.implies(new WebResourcePermission("/a", "GET,POST")));
+    }
+
+    @Test
+    void dropsPermissionsImpliedByPrefix() {
+        Permissions permissions = new Permissions();
+        permissions.add(new WebResourcePermission("/a/b", "GET"));
+        permissions.add(new WebResourcePermission("/a/*", "GET,POST"));
+        permissions.add(new WebResourcePermission("/a/c", "PUT"));
+
+        Permissions compacted = PermissionCompactor.compact(permissions);
+
+        assertEquals(2, size(compacted));
+        assertTrue(compacted.implies(new WebResourcePermission("/a/b", "POST")));
+        assertTrue(compacted.implies(new WebResourcePermission("/a/c", "PUT")));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static void assertSameImplies(PermissionCollection permissions, PermissionCollection compacted, Permission permission) {
+        assertEquals(permissions.implies(permission), compacted.implies(permission),
+            () -> permission + " of " + list(permissions.elements()) + " compacted to " + list(compacted.elements()));
+    }
+
+    private static int size(PermissionCollection permissions) {
+        return list(permissions.elements()).size();
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Permission;
+import java.security.Permissions;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PermissionFilterTest {
+
+    private static final String[] PATTERNS = {
+        "/*", "/a/*", "/a/b", "/a/b/*", "*.jsp", "*.b.jsp", "/", "/x", "", "/a/*:/a/b/*", "*.jsp:/a/*" };
+
+    private static final String[] REQUEST_PATHS = {
+        "a/b", "a", "/a", "/a/b", "/a/b/c", "/a/b/c.jsp", "/q.b.jsp", "/x", "", "x.jsp", "/z" };
+
+    @Test
+    void pathPrefixOfAllPathsMightImplyPathWithoutLeadingSlash() {
+        Permissions excluded = new Permissions();
+        excluded.add(new WebResourcePermission("/*", "GET"));
+
+        PermissionFilter filter = PermissionFilter.of(excluded);
+
+        assertTrue(filter.mightImply(new WebResourcePermission("a/b", "GET")));
+        assertTrue(filter.mightImply(new WebResourcePermission("a", "GET")));
+        assertTrue(filter.mightImply(new WebResourcePermission("/a/b", "GET")));
+    }
+
+    @Test
+    void emptyOrOtherKindOfPermissionsDoNotImply() {
+        assertFalse(PermissionFilter.of(new Permissions()).mightImply(new WebResourcePermission("/a", "GET")));
+
+        Permissions permissions = new Permissions();
+        permissions.add(new WebUserDataPermission("/*", "GET"));
+
+        assertFalse(PermissionFilter.of(permissions).mightImply(new WebResourcePermission("/a", "GET")));
+    }
+
+    @Test
+    void mightImplyEverythingTheCollectionImplies() {
+        Random random = new Random(1);
+
+        for (int round = 0; round < 500; round++) {
+            Permissions permissions = new Permissions();
+            int count = 1 + random.nextInt(4);
+            for (int i = 0; i < count; i++) {
+                String pattern = PATTERNS[random.nextInt(PATTERNS.length)];
+                if (random.nextBoolean()) {
+                    permissions.add(new WebResourcePermission(pattern, "GET"));
+                } else {
+                    permissions.add(new WebUserDataPermission(pattern, "GET"));
+                }
+            }
+
+            PermissionFilter filter = PermissionFilter.of(permissions);
+            for (String path : REQUEST_PATHS) {
+                assertNoFalseNegative(permissions, filter, new WebResourcePermission(path, "GET"));
+                assertNoFalseNegative(permissions, filter, new WebUserDataPermission(path, "GET"));
+            }
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static void assertNoFalseNegative(Permissions permissions, PermissionFilter filter, Permission permission) {
+        if (permissions.implies(permission)) {
+            assertTrue(filter.mightImply(permission), () -> permissions + " implies " + permission);
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class PermissionInternerTest {
+
+    private final PermissionInterner interner = new PermissionInterner(3);
+
+    @Test
+    void assignsSameIdToEqualPermissions() {
+        assertEquals(1, interner.getId(new WebResourcePermission("/a", "GET"), 1));
+        assertEquals(2, interner.getId(new WebResourcePermission("/b", "GET"), 1));
+        assertEquals(1, interner.getId(new WebResourcePermission("/a", "GET"), 1));
+        assertEquals(3, interner.getId(new WebResourcePermission("/a", "POST"), 1));
+        assertEquals(3, interner.size());
+    }
+
+    @Test
+    void startsOverAtLaterEpoch() {
+        interner.getId(new WebResourcePermission("/a", "GET"), 1);
+        interner.getId(new WebResourcePermission("/b", "GET"), 1);
+
+        assertEquals(1, interner.getId(new WebResourcePermission("/b", "GET"), 2));
+        assertEquals(1, interner.size());
+        assertEquals(2, interner.getId(new WebResourcePermission("/a", "GET"), 2));
+
+        // Identifiers asked for at an earlier epoch are not valid, and do not reset the interner
+        assertEquals(0, interner.getId(new WebResourcePermission("/b", "GET"), 1));
+        assertEquals(1, interner.getId(new WebResourcePermission("/b", "GET"), 2));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void assignsNoIdWhenFull() {
+        interner.getId(new WebResourcePermission("/a", "GET"), 1);
+        interner.getId(new WebResourcePermission("/b", "GET"), 1);
+        interner.getId(new WebResourcePermission("/c", "GET"), 1);
+
+        assertEquals(0, interner.getId(new WebResourcePermission("/d", "GET"), 1));
+        assertEquals(3, interner.getId(new WebResourcePermission("/c", "GET"), 1));
+        assertEquals(3, interner.size());
+
+        // A later epoch has room again
+        assertEquals(1, interner.getId(new WebResourcePermission("/d", "GET"), 2));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PermissionInterner(0));
+        assertThrows(IllegalArgumentException.class, () -> interner.getId(null, 1));
+    }
+
+    @Test
+    void combinesIdsIntoDecisionKey() {
+        assertEquals(1L << 32 | 7, PermissionInterner.decisionKey(1, 7));
+        assertEquals((long) Integer.MAX_VALUE << 32 | 0xFFFFFFFFL, PermissionInterner.decisionKey(Integer.MAX_VALUE, 0xFFFFFFFFL));
+        assertEquals(1L << 32, PermissionInterner.decisionKey(1, 0));
+
+        // No key without a permission identifier
+        assertEquals(0, PermissionInterner.decisionKey(0, 7));
+    }
+
+    @Test
+    void rejectsRoleSetIdsBeyondThirtyTwoBits() {
+        assertThrows(IllegalArgumentException.class, () -> PermissionInterner.decisionKey(1, 1L << 32));
+        assertThrows(IllegalArgumentException.class, () -> PermissionInterner.decisionKey(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> PermissionInterner.decisionKey(0, Long.MAX_VALUE));
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.PropertyPermission;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PolicyCodecTest {
+
+    @Test
+    void roundTripsPermissionsOfEveryType() {
+        PermissionCollection permissions = permissions(
+            new WebResourcePermission("/a/*:/a/b", "GET,POST"),
+            new WebResourcePermission("/x", "!PUT,PATCH"),
+            new WebResourcePermission("", (String) null),
+            new WebUserDataPermission("*.jsp", "GET:CONFIDENTIAL"),
+            new WebUserDataPermission("/y/*", (String) null),
+            new WebRoleRefPermission("servlet", "role"),
+            new EJBMethodPermission("Bean", "foo,Local,java.lang.String,int[]"),
+            new EJBMethodPermission("Bean", ""),
+            new EJBRoleRefPermission("Bean", "role"),
+            new PropertyPermission("user.home", "read"));
+
+        PermissionCollection decoded = PolicyCodec.decodePermissions(PolicyCodec.encode(permissions));
+
+        assertEquals(elements(permissions), elements(decoded));
+        assertTrue(decoded.implies(new WebResourcePermission("/a/c", "GET")));
+        assertFalse(decoded.implies(new WebResourcePermission("/a/b", "GET")));
+        assertTrue(decoded.implies(new WebResourcePermission("/x", "GET")));
+        assertFalse(decoded.implies(new WebResourcePermission("/x", "PATCH")));
+        assertTrue(decoded.implies(new WebUserDataPermission("/z.jsp", "GET:CONFIDENTIAL")));
+    }
+
+    @Test
+    void roundTripsEmptyCollection() {
+        assertFalse(PolicyCodec.decodePermissions(PolicyCodec.encode(new Permissions())).elements().hasMoreElements());
+    }
+
+    @Test
+    void roundTripsPolicyConfiguration() throws PolicyContextException {
+        PolicyConfigurationCollector source = new PolicyConfigurationCollector("app");
+        source.addToExcludedPolicy(new WebResourcePermission("/admin/*", "DELETE"));
+        source.addToUncheckedPolicy(new WebResourcePermission("/public/*", (String) null));
+        source.addToRole("user", new WebResourcePermission("/app/*", "GET,POST"));
+        source.addToRole("admin", new WebResourcePermission("/admin/*", "!DELETE"));
+
+        PolicyConfigurationCollector target = new PolicyConfigurationCollector("other");
+        String contextID = PolicyCodec.decode(ByteBuffer.wrap(PolicyCodec.encode(source)), target);
+
+        assertEquals("app", contextID);
+        assertEquals(elements(source.getExcludedPermissions()), elements(target.getExcludedPermissions()));
+        assertEquals(elements(source.getUncheckedPermissions()), elements(target.getUncheckedPermissions()));
+        assertEquals(source.getPerRolePermissions().keySet(), target.getPerRolePermissions().keySet());
+        for (String roleName : source.getPerRolePermissions().keySet()) {
+            assertEquals(
+                elements(source.getPerRolePermissions().get(roleName)),
+                elements(target.getPerRolePermissions().get(roleName)));
+        }
+    }
+
+    @Test
+    void roundTripsRoleInheritance() throws PolicyContextException {
+        PolicyConfigurationCollector source = new PolicyConfigurationCollector("app");
+        source.addToRole("viewer", new WebResourcePermission("/app/*", "GET"));
+        source.addInheritedRole("editor", "viewer");
+        source.addInheritedRole("admin", "editor");
+        source.addInheritedRole("admin", "auditor");
+
+        PolicyConfigurationCollector target = new PolicyConfigurationCollector("app");
+        PolicyCodec.decode(ByteBuffer.wrap(PolicyCodec.encode(source)), target);
+
+        assertEquals(source.getInheritedRoles(), target.getInheritedRoles());
+        assertEquals(source.getPerRolePermissions().keySet(), target.getPerRolePermissions().keySet());
+    }
+
+    @Test
+    void decodesPolicyOfFirstVersion() throws PolicyContextException {
+        PolicyConfigurationCollector source = new PolicyConfigurationCollector("app");
+        source.addToRole("user", new WebResourcePermission("/app/*", "GET"));
+
+        // The first version ended after the per role policy statements, without the count of inheriting roles
+        byte[] encoded = PolicyCodec.encode(source);
+        byte[] firstVersion = Arrays.copyOf(encoded, encoded.length - 1);
+        firstVersion[4] = 1;
+
+        PolicyConfigurationCollector target = new PolicyConfigurationCollector("app");
+        ByteBuffer buffer = ByteBuffer.wrap(firstVersion);
+        assertEquals("app", PolicyCodec.decode(buffer, target));
+        assertFalse(buffer.hasRemaining());
+        assertEquals(
+            elements(source.getPerRolePermissions().get("user")),
+            elements(target.getPerRolePermissions().get("user")));
+        assertTrue(target.getInheritedRoles().isEmpty());
+    }
+
+    @Test
+    void leavesBufferPositionPastEncodedPermissions() {
+        byte[] encoded = PolicyCodec.encode(permissions(new WebResourcePermission("/a", "GET")));
+
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 3);
+        buffer.put(encoded).put(new byte[3]).flip();
+        PolicyCodec.decodePermissions(buffer);
+
+        assertEquals(encoded.length, buffer.position());
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        byte[] encoded = PolicyCodec.encode(permissions(new WebResourcePermission("/a/*", "GET")));
+
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> PolicyCodec.decodePermissions(truncated));
+        }
+    }
+
+    @Test
+    void rejectsUnsupportedVersion() {
+        byte[] encoded = PolicyCodec.encode(permissions(new WebResourcePermission("/a", "GET")));
+        encoded[4] = (byte) (PolicyCodec.VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> PolicyCodec.decodePermissions(encoded));
+    }
+
+    @Test
+    void rejectsOtherClassesWithoutInitializingThem() {
+        byte[] encoded = encodedOtherPermission(NotAPermission.class.getName());
+
+        assertThrows(IllegalArgumentException.class, () -> PolicyCodec.decodePermissions(encoded));
+        assertFalse(Initializations.notAPermission);
+    }
+
+    @Test
+    void rejectsUnknownClasses() {
+        byte[] encoded = encodedOtherPermission("com.example.NoSuchPermission");
+
+        assertThrows(IllegalArgumentException.class, () -> PolicyCodec.decodePermissions(encoded));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static PermissionCollection permissions(Permission... permissions) {
+        Permissions collection = new Permissions();
+        for (Permission permission : permissions) {
+            collection.add(permission);
+        }
+
+        return collection;
+    }
+
+    private static Set<Permission> elements(PermissionCollection permissions) {
+        return new HashSet<>(list(permissions.elements()));
+    }
+
+    /**
+     * Encodes a collection holding a single permission of a type this package does not define, by hand, so that the
+     * class name need not be that of a Permission.
+     */
+    private static byte[] encodedOtherPermission(String className) {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        encoded.writeBytes(new byte[] { 'J', 'A', 'C', 'C', (byte) PolicyCodec.VERSION, 1 });
+
+        // String table with the class name and the permission name
+        encoded.write(2);
+        for (String string : new String[] { className, "name" }) {
+            byte[] bytes = string.getBytes(UTF_8);
+            encoded.write(bytes.length);
+            encoded.writeBytes(bytes);
+        }
+
+        // One permission of another type, with the class name, name and no actions
+        encoded.writeBytes(new byte[] { 1, 0, 1, 2, 0 });
+
+        return encoded.toByteArray();
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    static final class Initializations {
+
+        static boolean notAPermission;
+    }
+
+    static final class NotAPermission {
+
+        static {
+            Initializations.notAPermission = true;
+        }
+
+        public NotAPermission(String name, String actions) {
+        }
+    }
+
+}
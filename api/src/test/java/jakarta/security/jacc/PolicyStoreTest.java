@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PolicyStoreTest {
+
+    private static final byte[] HASH = { 1, 2, 3 };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restoresStoredPolicyForSameHash() throws IOException, PolicyContextException {
+        PolicyConfigurationCollector source = new PolicyConfigurationCollector("app");
+        source.addToUncheckedPolicy(new WebResourcePermission("/public/*", (String) null));
+        source.addToRole("user", new WebResourcePermission("/app/*", "GET"));
+
+        PolicyStore store = new PolicyStore(directory);
+        store.store(source, HASH);
+
+        PolicyConfigurationCollector target = new PolicyConfigurationCollector("app");
+        assertTrue(store.restore(target, HASH));
+        assertEquals(
+            new HashSet<>(list(source.getUncheckedPermissions().elements())),
+            new HashSet<>(list(target.getUncheckedPermissions().elements())));
+        assertEquals(source.getPerRolePermissions().keySet(), target.getPerRolePermissions().keySet());
+    }
+
+    @Test
+    void doesNotRestoreForOtherHash() throws IOException, PolicyContextException {
+        PolicyStore store = new PolicyStore(directory);
+        store.store(new PolicyConfigurationCollector("app"), HASH);
+
+        assertFalse(store.restore(new PolicyConfigurationCollector("app"), new byte[] { 1, 2, 4 }));
+        assertFalse(store.restore(new PolicyConfigurationCollector("other"), HASH));
+    }
+
+    @Test
+    void rejectsInvalidHashes() throws IOException, PolicyContextException {
+        PolicyStore store = new PolicyStore(directory);
+        PolicyConfigurationCollector policyConfiguration = new PolicyConfigurationCollector("app");
+
+        assertThrows(IllegalArgumentException.class, () -> store.store(policyConfiguration, null));
+        assertThrows(IllegalArgumentException.class, () -> store.store(policyConfiguration, new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> store.store(policyConfiguration, new byte[256]));
+        assertThrows(IllegalArgumentException.class, () -> store.restore(policyConfiguration, new byte[256]));
+
+        store.store(policyConfiguration, new byte[255]);
+    }
+
+}
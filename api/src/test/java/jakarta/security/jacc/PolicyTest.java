@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+class PolicyTest {
+
+    private static final Set<Principal> PRINCIPALS = Set.of(() -> "alice");
+
+    @Test
+    void checksPrincipalsWithoutConstructingSubject() {
+        PrincipalsPolicy policy = new PrincipalsPolicy();
+
+        assertFalse(policy.implies(new WebResourcePermission("/admin/a", "GET"), PRINCIPALS));
+        assertTrue(policy.implies(new WebResourcePermission("/public/a", "GET"), PRINCIPALS));
+        assertTrue(policy.implies(new WebResourcePermission("/app/a", "GET"), PRINCIPALS));
+        assertFalse(policy.implies(new WebResourcePermission("/app/a", "POST"), PRINCIPALS));
+        assertFalse(policy.implies(new WebResourcePermission("/app/a", "GET")));
+
+        assertEquals(3, policy.checkedPrincipals.size());
+        assertSame(PRINCIPALS, policy.checkedPrincipals.get(0));
+        assertSame(PRINCIPALS, policy.checkedPrincipals.get(1));
+        assertTrue(policy.checkedPrincipals.get(2).isEmpty());
+    }
+
+    @Test
+    void checksPrincipalsWithoutConstructingSubjectThroughDecorators() {
+        MapPolicyFactory wrapped = new MapPolicyFactory();
+        PolicyFactory factory = new FlightRecorderPolicyFactory(new MetricsPolicyFactory(wrapped, new DefaultAuthorizationMetrics()));
+        PrincipalsPolicy policy = new PrincipalsPolicy();
+        wrapped.setPolicy("app", policy);
+
+        Policy decorated = factory.getPolicy("app");
+        assertTrue(decorated.implies(new WebResourcePermission("/app/a", "GET"), PRINCIPALS));
+        assertFalse(decorated.implies(new WebResourcePermission("/app/a", "POST"), PRINCIPALS));
+        assertTrue(decorated.impliesByRole(new WebResourcePermission("/app/a", "GET"), PRINCIPALS));
+        assertFalse(decorated.implies(new WebResourcePermission("/app/a", "GET")));
+
+        assertEquals(List.of(PRINCIPALS, PRINCIPALS, PRINCIPALS, Set.of()), policy.checkedPrincipals);
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static class MapPolicyFactory extends PolicyFactory {
+
+        private final Map<String, Policy> policies = new HashMap<>();
+
+        @Override
+        public Policy getPolicy(String contextId) {
+            return policies.get(contextId);
+        }
+
+        @Override
+        public void setPolicy(String contextId, Policy policy) {
+            policies.put(contextId, policy);
+        }
+    }
+
+    /**
+     * Policy that relies on the default implies methods, and checks roles with the principals only.
+     */
+    private static class PrincipalsPolicy implements Policy {
+
+        final Permissions excluded = new Permissions();
+        final Permissions unchecked = new Permissions();
+        final Permissions byRole = new Permissions();
+        final List<Set<Principal>> checkedPrincipals = new ArrayList<>();
+
+        PrincipalsPolicy() {
+            excluded.add(new WebResourcePermission("/admin/*", (String) null));
+            unchecked.add(new WebResourcePermission("/public/*", (String) null));
+            byRole.add(new WebResourcePermission("/app/*", "GET"));
+        }
+
+        @Override
+        public boolean isExcluded(Permission permissionToBeChecked) {
+            return excluded.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean isUnchecked(Permission permissionToBeChecked) {
+            return unchecked.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+            throw new AssertionError("impliesByRole called with a Subject");
+        }
+
+        @Override
+        public boolean impliesByRole(Permission permissionToBeChecked, Set<Principal> principals) {
+            checkedPrincipals.add(principals);
+            return !principals.isEmpty() && byRole.implies(permissionToBeChecked);
+        }
+
+        @Override
+        public PermissionCollection getPermissionCollection(Subject subject) {
+            return new Permissions();
+        }
+    }
+
+}
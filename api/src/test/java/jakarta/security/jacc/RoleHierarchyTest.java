@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RoleHierarchyTest {
+
+    @Test
+    void inheritsRolesTransitively() {
+        RoleHierarchy roleHierarchy = new RoleHierarchy(Map.of(
+            "admin", List.of("editor", "auditor"),
+            "editor", List.of("viewer"),
+            "auditor", List.of("viewer"),
+            "viewer", List.of("guest")));
+
+        assertEquals(Set.of("editor", "auditor", "viewer", "guest"), roleHierarchy.getInheritedRoles("admin"));
+        assertEquals(Set.of("viewer", "guest"), roleHierarchy.getInheritedRoles("editor"));
+        assertEquals(Set.of("guest"), roleHierarchy.getInheritedRoles("viewer"));
+        assertEquals(Set.of(), roleHierarchy.getInheritedRoles("guest"));
+        assertEquals(Set.of(), roleHierarchy.getInheritedRoles("unknown"));
+
+        assertEquals(Set.of("editor", "viewer", "guest", "other"), roleHierarchy.getEffectiveRoles(List.of("editor", "other")));
+        assertFalse(roleHierarchy.isEmpty());
+        assertTrue(new RoleHierarchy(Map.of()).isEmpty());
+    }
+
+    @Test
+    void rejectsCycles() {
+        IllegalArgumentException cycle = assertThrows(IllegalArgumentException.class, () -> new RoleHierarchy(Map.of(
+            "a", List.of("b"),
+            "b", List.of("c"),
+            "c", List.of("a"))));
+        assertTrue(cycle.getMessage().contains("a -> b -> c -> a") ||
+                   cycle.getMessage().contains("b -> c -> a -> b") ||
+                   cycle.getMessage().contains("c -> a -> b -> c"), cycle.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> new RoleHierarchy(Map.of("a", List.of("a"))));
+        assertThrows(IllegalArgumentException.class, () -> new RoleHierarchy(Map.of(
+            "root", List.of("a"),
+            "a", List.of("b"),
+            "b", List.of("a"))));
+    }
+
+    @Test
+    void createsHierarchyOfPolicyConfiguration() {
+        PolicyConfigurationCollector collector = new PolicyConfigurationCollector("test");
+        collector.addInheritedRole("admin", "editor");
+        collector.addInheritedRole("editor", "viewer");
+
+        assertEquals(Set.of("admin", "editor", "viewer"), RoleHierarchy.of(collector).getEffectiveRoles(Set.of("admin")));
+    }
+
+    @Test
+    void copiesInheritanceOfCollector() throws PolicyContextException {
+        PolicyConfigurationCollector collector = new PolicyConfigurationCollector("test");
+        collector.addInheritedRole("admin", "editor");
+        collector.addInheritedRole("admin", "auditor");
+        collector.addInheritedRole("editor", "viewer");
+        collector.addToRole("viewer", new WebResourcePermission("/view", "GET"));
+
+        PolicyConfigurationCollector target = new PolicyConfigurationCollector("target");
+        collector.copyTo(target);
+
+        assertEquals(Map.of("admin", Set.of("editor", "auditor"), "editor", Set.of("viewer")), target.getInheritedRoles());
+        assertTrue(target.getPerRolePermissions().get("viewer").implies(new WebResourcePermission("/view", "GET")));
+    }
+
+    @Test
+    void addsNoPolicyStatementsToTargetWithoutInheritance() {
+        PolicyConfigurationCollector collector = new PolicyConfigurationCollector("test");
+        collector.addInheritedRole("admin", "viewer");
+        collector.addToRole("viewer", new WebResourcePermission("/view", "GET"));
+        collector.addToExcludedPolicy(new WebResourcePermission("/excluded", ""));
+
+        List<String> calls = new ArrayList<>();
+        assertThrows(UnsupportedOperationException.class, () -> collector.copyTo(withoutInheritance(calls)));
+
+        assertEquals(List.of("addInheritedRole"), calls);
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Returns a PolicyConfiguration that relies on the default addInheritedRole method, and records the methods called
+     * on it.
+     */
+    private static PolicyConfiguration withoutInheritance(List<String> calls) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            calls.add(method.getName());
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+
+            return null;
+        };
+
+        return (PolicyConfiguration) Proxy.newProxyInstance(
+            RoleHierarchyTest.class.getClassLoader(), new Class<?>[] { PolicyConfiguration.class }, handler);
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RoleMappingIndexTest {
+
+    private static final int ROLES = 130;
+
+    private final RoleMappingIndex index = new RoleMappingIndex(groupToRoles());
+
+    @Test
+    void mapsGroupsToRolesAcrossWords() {
+        assertEquals(ROLES, index.getRoleNames().size());
+        assertEquals(63, index.getRoleIndex("r63"));
+        assertEquals(64, index.getRoleIndex("r64"));
+        assertEquals(128, index.getRoleIndex("r128"));
+
+        BitSet mapped = index.getMappedRoles(principals("g63", "g64", "g128"));
+
+        assertEquals(bits(63, 64, 128), mapped);
+        assertEquals(Set.of("r63", "r64", "r128"), index.getRoleNames(mapped));
+        assertEquals(index.getRoleMask(List.of("r63", "r64", "r128")), mapped);
+    }
+
+    @Test
+    void mapsGroupToRolesInEveryWord() {
+        BitSet mapped = index.getMappedRoles(principals("all"));
+
+        assertEquals(ROLES, mapped.cardinality());
+        assertEquals(ROLES - 1, mapped.length() - 1);
+    }
+
+    @Test
+    void ignoresUnknownGroupsAndRoles() {
+        assertEquals(new BitSet(), index.getMappedRoles(principals("unknown", "other")));
+        assertEquals(bits(1), index.getMappedRoles(principals("unknown", "g1")));
+
+        assertEquals(-1, index.getRoleIndex("unknown"));
+        assertEquals(bits(65), index.getRoleMask(List.of("unknown", "r65")));
+        assertFalse(index.isMappedToAny(principals("g1", "g2"), index.getRoleMask(List.of("unknown"))));
+    }
+
+    @Test
+    void ignoresPrincipalsThatAreNotGroups() {
+        RoleMappingIndex groupsOnly = new RoleMappingIndex(groupToRoles(), principal -> principal instanceof Group);
+
+        List<Principal> principals = new ArrayList<>(principals("g1"));
+        principals.add(() -> "g2");
+
+        assertEquals(bits(1), groupsOnly.getMappedRoles(principals));
+    }
+
+    @Test
+    void stopsAtFirstPrincipalMappedToAnyRole() {
+        List<Group> principals = principals("g0", "g70", "g5", "g6");
+
+        assertTrue(index.isMappedToAny(principals, index.getRoleMask(List.of("r70", "r5"))));
+
+        assertEquals(List.of(true, true, false, false), namesRead(principals));
+    }
+
+    @Test
+    void stopsWhenAllRequiredRolesAreFound() {
+        List<Group> principals = principals("g1", "g70", "g2", "g3");
+
+        BitSet mapped = index.getMappedRoles(principals, index.getRoleMask(List.of("r1", "r70")));
+
+        assertEquals(bits(1, 70), mapped);
+        assertEquals(List.of(true, true, false, false), namesRead(principals));
+    }
+
+    @Test
+    void includesInheritedRoles() {
+        RoleHierarchy roleHierarchy = new RoleHierarchy(Map.of("admin", List.of("editor"), "editor", List.of("viewer")));
+        RoleMappingIndex inheriting = new RoleMappingIndex(Map.of("adm", List.of("admin"), "staff", List.of("viewer")), principal -> true, roleHierarchy);
+
+        assertEquals(Set.of("admin", "editor", "viewer"), inheriting.getRoleNames(inheriting.getMappedRoles(principals("adm"))));
+        assertEquals(Set.of("viewer"), inheriting.getRoleNames(inheriting.getMappedRoles(principals("staff"))));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Maps each group "gN" to the role "rN", and the group "all" to every role.
+     */
+    private static Map<String, List<String>> groupToRoles() {
+        Map<String, List<String>> groupToRoles = new LinkedHashMap<>();
+        List<String> all = new ArrayList<>();
+        for (int i = 0; i < ROLES; i++) {
+            groupToRoles.put("g" + i, List.of("r" + i));
+            all.add("r" + i);
+        }
+        groupToRoles.put("all", all);
+
+        return groupToRoles;
+    }
+
+    private static List<Group> principals(String... names) {
+        List<Group> principals = new ArrayList<>();
+        for (String name : names) {
+            principals.add(new Group(name));
+        }
+
+        return principals;
+    }
+
+    private static List<Boolean> namesRead(List<Group> principals) {
+        List<Boolean> namesRead = new ArrayList<>();
+        for (Group principal : principals) {
+            namesRead.add(principal.nameRead);
+        }
+
+        return namesRead;
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+
+        return bits;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    /**
+     * Group principal that tells whether its name was read.
+     */
+    private static class Group implements Principal {
+
+        private final String name;
+        boolean nameRead;
+
+        Group(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            nameRead = true;
+            return name;
+        }
+    }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static java.util.Collections.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class SecurityConstraintTranslatorTest {
+
+    /**
+     * The example of the "Translating security-constraint Elements" section of the specification.
+     */
+    @Test
+    void translatesSpecificationExample() throws PolicyContextException {
+        List<SecurityConstraint> constraints = List.of(
+            new SecurityConstraint(
+                List.of(new WebResourceCollection(Set.of("/*", "/acme/wholesale/*", "/acme/retail/*"), Set.of(), Set.of("GET", "POST"))),
+                Set.of(), null),
+            new SecurityConstraint(
+                List.of(new WebResourceCollection(Set.of("/acme/wholesale/*"), Set.of("GET", "PUT"), Set.of())),
+                Set.of("SALESCLERK"), null),
+            new SecurityConstraint(
+                List.of(new WebResourceCollection(Set.of("/acme/wholesale/*"), Set.of("DELETE", "POST"), Set.of())),
+                Set.of("CONTRACTOR"), SecurityConstraint.CONFIDENTIAL),
+            new SecurityConstraint(
+                List.of(new WebResourceCollection(Set.of("/acme/retail/*"), Set.of("GET", "POST"), Set.of())),
+                Set.of("CONTRACTOR", "HOMEOWNER"), null));
+
+        PolicyConfigurationCollector collector = translate(constraints, Set.of(), false);
+
+        assertEquals(Set.of(
+            new WebResourcePermission("/*:/acme/retail/*:/acme/wholesale/*", "!GET,POST"),
+            new WebUserDataPermission("/*:/acme/retail/*:/acme/wholesale/*", "!GET,POST"),
+            new WebResourcePermission("/acme/wholesale/*", "!GET,POST"),
+            new WebUserDataPermission("/acme/wholesale/*", "!GET,POST"),
+            new WebResourcePermission("/acme/retail/*", "!GET,POST"),
+            new WebUserDataPermission("/acme/retail/*", "!GET,POST")),
+            permissions(collector.getExcludedPermissions()));
+
+        assertEquals(Set.of(
+            new WebResourcePermission("/*:/acme/retail/*:/acme/wholesale/*", "GET,POST"),
+            new WebUserDataPermission("/*:/acme/retail/*:/acme/wholesale/*", "GET,POST"),
+            new WebUserDataPermission("/acme/wholesale/*", "GET,PUT"),
+            new WebUserDataPermission("/acme/wholesale/*", "DELETE,POST:CONFIDENTIAL"),
+            new WebUserDataPermission("/acme/retail/*", "GET,POST")),
+            permissions(collector.getUncheckedPermissions()));
+
+        assertEquals(Map.of(
+            "SALESCLERK", Set.of(
+                new WebResourcePermission("/acme/wholesale/*", "GET,PUT")),
+            "CONTRACTOR", Set.of(
+                new WebResourcePermission("/acme/wholesale/*", "DELETE,POST"),
+                new WebResourcePermission("/acme/retail/*", "GET,POST")),
+            "HOMEOWNER", Set.of(
+                new WebResourcePermission("/acme/retail/*", "GET,POST"))),
+            rolePermissions(collector));
+    }
+
+    @Test
+    void qualifiesPatterns() throws PolicyContextException {
+        List<SecurityConstraint> constraints = List.of(new SecurityConstraint(
+            List.of(new WebResourceCollection(Set.of("/a/*", "*.jsp", "/a/x.jsp", "/b.jsp", "/c"), Set.of("GET"), Set.of())),
+            Set.of("R"), null));
+
+        PolicyConfigurationCollector collector = translate(constraints, Set.of(), false);
+
+        Set<Permission> unchecked = new HashSet<>();
+        Set<Permission> role = new HashSet<>();
+        for (String name : List.of("/a/*:/a/x.jsp", "*.jsp:/a/*:/b.jsp", "/a/x.jsp", "/b.jsp", "/c")) {
+            role.add(new WebResourcePermission(name, "GET"));
+            unchecked.add(new WebUserDataPermission(name, "GET"));
+            unchecked.add(new WebResourcePermission(name, "!GET"));
+            unchecked.add(new WebUserDataPermission(name, "!GET"));
+        }
+        // The default pattern is qualified by the other patterns not matched by one of its qualifying patterns
+        unchecked.add(new WebResourcePermission("/:*.jsp:/a/*:/c", (String) null));
+        unchecked.add(new WebUserDataPermission("/:*.jsp:/a/*:/c", null));
+
+        assertEquals(Set.of(), permissions(collector.getExcludedPermissions()));
+        assertEquals(unchecked, permissions(collector.getUncheckedPermissions()));
+        assertEquals(Map.of("R", role), rolePermissions(collector));
+    }
+
+    @Test
+    void combinesMethodsAndOmissions() throws PolicyContextException {
+        List<SecurityConstraint> constraints = List.of(
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/a"), Set.of("GET"), Set.of())), Set.of("R"), null),
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/a"), Set.of(), Set.of("GET", "PUT"))), Set.of("R"), null),
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/b"), Set.of(), Set.of("GET", "PUT"))), Set.of("S"), null),
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/b"), Set.of(), Set.of("GET", "POST"))), Set.of("S"), null));
+
+        PolicyConfigurationCollector collector = translate(constraints, Set.of(), false);
+
+        assertEquals(Map.of(
+            "R", Set.of(new WebResourcePermission("/a", "!PUT")),
+            "S", Set.of(new WebResourcePermission("/b", "!GET"))),
+            rolePermissions(collector));
+
+        assertEquals(Set.of(
+            new WebUserDataPermission("/a", "!PUT"),
+            new WebResourcePermission("/a", "PUT"),
+            new WebUserDataPermission("/a", "PUT"),
+            new WebUserDataPermission("/b", "!GET"),
+            new WebResourcePermission("/b", "GET"),
+            new WebUserDataPermission("/b", "GET"),
+            new WebResourcePermission("/:/a:/b", (String) null),
+            new WebUserDataPermission("/:/a:/b", null)),
+            permissions(collector.getUncheckedPermissions()));
+    }
+
+    @Test
+    void excludesUncoveredMethodsWhenDenied() throws PolicyContextException {
+        List<SecurityConstraint> constraints = List.of(
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/a/*"), Set.of("GET", "POST"), Set.of())), Set.of("R"), null));
+
+        PolicyConfigurationCollector collector = translate(constraints, Set.of(), true);
+
+        assertEquals(Set.of(
+            new WebResourcePermission("/a/*", "!GET,POST"),
+            new WebUserDataPermission("/a/*", "!GET,POST"),
+            new WebResourcePermission("/:/a/*", (String) null),
+            new WebUserDataPermission("/:/a/*", null)),
+            permissions(collector.getExcludedPermissions()));
+
+        assertEquals(Set.of(new WebUserDataPermission("/a/*", "GET,POST")), permissions(collector.getUncheckedPermissions()));
+        assertEquals(Map.of("R", Set.of(new WebResourcePermission("/a/*", "GET,POST"))), rolePermissions(collector));
+    }
+
+    @Test
+    void expandsAnyRoleToDeclaredRolesOnly() throws PolicyContextException {
+        List<SecurityConstraint> constraints = List.of(
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/a"))), Set.of("*"), null),
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/b"))), Set.of("**"), null),
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/*"))), null, null));
+
+        PolicyConfigurationCollector collector = translate(constraints, Set.of("A", "B"), false);
+
+        // The role "**" for any authenticated caller is not expanded, but added as a role of its own
+        assertEquals(Map.of(
+            "A", Set.of(new WebResourcePermission("/a", (String) null)),
+            "B", Set.of(new WebResourcePermission("/a", (String) null)),
+            "**", Set.of(new WebResourcePermission("/b", (String) null))),
+            rolePermissions(collector));
+
+        // "/*" makes the default pattern irrelevant, so it is not translated
+        assertEquals(Set.of(
+            new WebUserDataPermission("/a", null),
+            new WebUserDataPermission("/b", null),
+            new WebResourcePermission("/*:/a:/b", (String) null),
+            new WebUserDataPermission("/*:/a:/b", null)),
+            permissions(collector.getUncheckedPermissions()));
+    }
+
+    @Test
+    void translatesTransportGuarantees() throws PolicyContextException {
+        List<SecurityConstraint> constraints = List.of(
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/*"))), null, SecurityConstraint.CONFIDENTIAL),
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/a"), Set.of("GET"), Set.of())), null, SecurityConstraint.INTEGRAL),
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/a"), Set.of("POST"), Set.of())), null, SecurityConstraint.NONE));
+
+        PolicyConfigurationCollector collector = translate(constraints, Set.of(), false);
+
+        assertEquals(Set.of(
+            new WebResourcePermission("/*:/a", (String) null),
+            new WebUserDataPermission("/*:/a", ":CONFIDENTIAL"),
+            new WebResourcePermission("/a", "GET,POST"),
+            new WebUserDataPermission("/a", "GET:INTEGRAL"),
+            new WebUserDataPermission("/a", "POST"),
+            new WebResourcePermission("/a", "!GET,POST"),
+            new WebUserDataPermission("/a", "!GET,POST")),
+            permissions(collector.getUncheckedPermissions()));
+    }
+
+    @Test
+    void escapesColonsInPatterns() throws PolicyContextException {
+        List<SecurityConstraint> constraints = List.of(
+            new SecurityConstraint(List.of(new WebResourceCollection(Set.of("/x/*", "/x/a:b"))), Set.of(), null));
+
+        PolicyConfigurationCollector collector = translate(constraints, Set.of(), false);
+
+        assertEquals(Set.of(
+            new WebResourcePermission("/x/*:/x/a%3Ab", (String) null),
+            new WebUserDataPermission("/x/*:/x/a%3Ab", null),
+            new WebResourcePermission("/x/a%3Ab", (String) null),
+            new WebUserDataPermission("/x/a%3Ab", null)),
+            permissions(collector.getExcludedPermissions()));
+
+        assertEquals(Set.of(
+            new WebResourcePermission("/:/x/*", (String) null),
+            new WebUserDataPermission("/:/x/*", null)),
+            permissions(collector.getUncheckedPermissions()));
+    }
+
+    @Test
+    void translatesManyPatternsInParallelAsSequentially() throws PolicyContextException {
+        int count = 400;
+
+        List<SecurityConstraint> constraints = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            constraints.add(new SecurityConstraint(
+                List.of(new WebResourceCollection(Set.of("/s" + i + "/*", "/s" + i + "/x.jsp"), Set.of("GET"), Set.of())),
+                Set.of("r" + i % 7), null));
+        }
+        constraints.add(new SecurityConstraint(List.of(new WebResourceCollection(Set.of("*.jsp"))), null, null));
+
+        // The translation of each pattern on its own, which does not depend on how the patterns are distributed
+        Set<Permission> unchecked = new HashSet<>();
+        Map<String, Set<Permission>> roles = new HashMap<>();
+        Set<String> prefixPatterns = new TreeSet<>();
+        for (int i = 0; i < count; i++) {
+            for (String name : List.of("/s" + i + "/*:/s" + i + "/x.jsp", "/s" + i + "/x.jsp")) {
+                roles.computeIfAbsent("r" + i % 7, e -> new HashSet<>()).add(new WebResourcePermission(name, "GET"));
+                unchecked.add(new WebUserDataPermission(name, "GET"));
+                unchecked.add(new WebResourcePermission(name, "!GET"));
+                unchecked.add(new WebUserDataPermission(name, "!GET"));
+            }
+            prefixPatterns.add("/s" + i + "/*");
+        }
+        String extensionName = "*.jsp:" + String.join(":", prefixPatterns);
+        unchecked.add(new WebResourcePermission(extensionName, (String) null));
+        unchecked.add(new WebUserDataPermission(extensionName, null));
+        String defaultName = "/:*.jsp:" + String.join(":", prefixPatterns);
+        unchecked.add(new WebResourcePermission(defaultName, (String) null));
+        unchecked.add(new WebUserDataPermission(defaultName, null));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PolicyConfigurationCollector parallel = new PolicyConfigurationCollector("parallel");
+            new SecurityConstraintTranslator(constraints, Set.of(), false).translate(parallel, pool);
+
+            assertEquals(Set.of(), permissions(parallel.getExcludedPermissions()));
+            assertEquals(unchecked, permissions(parallel.getUncheckedPermissions()));
+            assertEquals(roles, rolePermissions(parallel));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private static PolicyConfigurationCollector translate(List<SecurityConstraint> constraints, Set<String> declaredRoles, boolean denyUncoveredHttpMethods) throws PolicyContextException {
+        PolicyConfigurationCollector collector = new PolicyConfigurationCollector("test");
+        new SecurityConstraintTranslator(constraints, declaredRoles, denyUncoveredHttpMethods).translate(collector);
+
+        return collector;
+    }
+
+    private static Set<Permission> permissions(PermissionCollection permissions) {
+        return new HashSet<>(list(permissions.elements()));
+    }
+
+    private static Map<String, Set<Permission>> rolePermissions(PolicyConfigurationCollector collector) {
+        Map<String, Set<Permission>> rolePermissions = new HashMap<>();
+        for (Map.Entry<String, PermissionCollection> role : collector.getPerRolePermissions().entrySet()) {
+            rolePermissions.put(role.getKey(), permissions(role.getValue()));
+        }
+
+        return rolePermissions;
+    }
+
+}
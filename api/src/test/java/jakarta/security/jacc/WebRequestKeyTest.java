@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.security.jacc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WebRequestKeyTest {
+
+    @Test
+    void stripsContextPath() {
+        assertEquals(
+            WebRequestKey.webResource(request("/shop", "/shop/cart", "GET", false)),
+            WebRequestKey.webResource(request("/other", "/other/cart", "GET", false)));
+        assertEquals(
+            WebRequestKey.webResource(request("", "/cart", "GET", false)),
+            WebRequestKey.webResource(request("/shop", "/shop/cart", "GET", false)));
+        assertNotEquals(
+            WebRequestKey.webResource(request("/shop", "/shop/cart", "GET", false)),
+            WebRequestKey.webResource(request("/shop", "/shop/checkout", "GET", false)));
+
+        // The context root is the empty name, as is the request URI "/"
+        assertEquals(
+            WebRequestKey.webResource(request("/shop", "/shop/", "GET", false)),
+            WebRequestKey.webResource(request("", "/", "GET", false)));
+        assertEquals(
+            WebRequestKey.webResource(request("/shop", "/shop", "GET", false)),
+            WebRequestKey.webResource(request("", "/", "GET", false)));
+    }
+
+    @Test
+    void distinguishesMethodsAndPermissionTypes() {
+        WebRequestKey get = WebRequestKey.webResource(request("/shop", "/shop/cart", "GET", false));
+
+        assertNotEquals(get, WebRequestKey.webResource(request("/shop", "/shop/cart", "POST", false)));
+        assertNotEquals(get, WebRequestKey.webUserData(request("/shop", "/shop/cart", "GET", false)));
+
+        // Whether the request is secure only makes a difference to the WebUserDataPermission
+        assertEquals(get, WebRequestKey.webResource(request("/shop", "/shop/cart", "GET", true)));
+        assertNotEquals(
+            WebRequestKey.webUserData(request("/shop", "/shop/cart", "GET", false)),
+            WebRequestKey.webUserData(request("/shop", "/shop/cart", "GET", true)));
+    }
+
+    @Test
+    void equalKeysStandForEqualPermissions() {
+        List<HttpServletRequest> requests = new ArrayList<>();
+        for (String contextPath : new String[] { "", "/shop" }) {
+            for (String path : new String[] { "/", "/cart", "/cart/a:b", "/cart/a.jsp" }) {
+                for (String method : new String[] { "GET", "POST", "PATCH" }) {
+                    requests.add(request(contextPath, contextPath + path, method, false));
+                    requests.add(request(contextPath, contextPath + path, method, true));
+                }
+            }
+        }
+
+        for (HttpServletRequest request : requests) {
+            WebRequestKey webResource = WebRequestKey.webResource(request);
+            WebRequestKey webUserData = WebRequestKey.webUserData(request);
+
+            assertEquals(new WebResourcePermission(request), webResource.toPermission(request));
+            assertEquals(new WebUserDataPermission(request), webUserData.toPermission(request));
+
+            for (HttpServletRequest other : requests) {
+                assertEquals(
+                    new WebResourcePermission(request).equals(new WebResourcePermission(other)),
+                    webResource.equals(WebRequestKey.webResource(other)));
+                assertEquals(
+                    new WebUserDataPermission(request).equals(new WebUserDataPermission(other)),
+                    webUserData.equals(WebRequestKey.webUserData(other)));
+            }
+        }
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    /**
+     * Returns a request of which only the methods used to construct web permissions are implemented.
+     */
+    private static HttpServletRequest request(String contextPath, String requestURI, String method, boolean secure) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+            WebRequestKeyTest.class.getClassLoader(),
+            new Class<?>[] { HttpServletRequest.class },
+            (proxy, invokedMethod, args) -> {
+                switch (invokedMethod.getName()) {
+                    case "getContextPath":
+                        return contextPath;
+                    case "getRequestURI":
+                        return requestURI;
+                    case "getMethod":
+                        return method;
+                    case "isSecure":
+                        return secure;
+                    default:
+                        throw new UnsupportedOperationException(invokedMethod.getName());
+                }
+            });
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import jakarta.security.jacc.EJBMethodPermission;
+import jakarta.security.jacc.EJBRoleRefPermission;
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.security.jacc.WebRoleRefPermission;
+import jakarta.security.jacc.WebUserDataPermission;
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.security.Permission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of the permission types from Strings, from an HttpServletRequest and from a Method. This covers the
+ * parsing of URLPatternSpec and the HttpMethodSpec.getSpec variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructionBenchmark {
+
+    static final String EXACT_PATTERN = "/shop/cart/checkout";
+    static final String QUALIFIED_PATTERN = "/shop/*:/shop/cart/*:/shop/admin/*:/shop/index.html";
+    static final String DEFAULT_PATTERN = "/:/shop/*:/api/*:*.jsp:*.html:/login";
+
+    private HttpServletRequest request;
+    private HttpServletRequest secureRequest;
+    private Method method;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        request = StubRequests.request("/app", "/app/shop/cart/checkout", "GET", false);
+        secureRequest = StubRequests.request("/app", "/app/shop/cart/checkout", "POST", true);
+        method = String.class.getMethod("regionMatches", boolean.class, int.class, String.class, int.class, int.class);
+    }
+
+    @Benchmark
+    public Permission webResourceExactPattern() {
+        return new WebResourcePermission(EXACT_PATTERN, "GET,POST");
+    }
+
+    @Benchmark
+    public Permission webResourceQualifiedPattern() {
+        return new WebResourcePermission(QUALIFIED_PATTERN, "GET,POST");
+    }
+
+    @Benchmark
+    public Permission webResourceDefaultPattern() {
+        return new WebResourcePermission(DEFAULT_PATTERN, (String) null);
+    }
+
+    @Benchmark
+    public Permission webResourceExceptionList() {
+        return new WebResourcePermission(QUALIFIED_PATTERN, "!DELETE,PUT");
+    }
+
+    @Benchmark
+    public Permission webResourceExtensionMethod() {
+        return new WebResourcePermission(QUALIFIED_PATTERN, "GET,PATCH");
+    }
+
+    @Benchmark
+    public Permission webResourceFromRequest() {
+        return new WebResourcePermission(request);
+    }
+
+    @Benchmark
+    public Permission webUserDataQualifiedPattern() {
+        return new WebUserDataPermission(QUALIFIED_PATTERN, "GET,POST:CONFIDENTIAL");
+    }
+
+    @Benchmark
+    public Permission webUserDataFromRequest() {
+        return new WebUserDataPermission(secureRequest);
+    }
+
+    @Benchmark
+    public Permission ejbMethodFromString() {
+        return new EJBMethodPermission("CartBean", "checkout,Local,java.lang.String,int");
+    }
+
+    @Benchmark
+    public Permission ejbMethodFromParts() {
+        return new EJBMethodPermission("CartBean", "checkout", "Local", new String[] { "java.lang.String", "int" });
+    }
+
+    @Benchmark
+    public Permission ejbMethodFromMethod() {
+        return new EJBMethodPermission("CartBean", "Local", method);
+    }
+
+    @Benchmark
+    public Permission webRoleRef() {
+        return new WebRoleRefPermission("CartServlet", "manager");
+    }
+
+    @Benchmark
+    public Permission ejbRoleRef() {
+        return new EJBRoleRefPermission("CartBean", "manager");
+    }
+
+}
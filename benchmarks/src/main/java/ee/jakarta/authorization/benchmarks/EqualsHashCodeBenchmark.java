@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import jakarta.security.jacc.EJBMethodPermission;
+import jakarta.security.jacc.EJBRoleRefPermission;
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.security.jacc.WebRoleRefPermission;
+import jakarta.security.jacc.WebUserDataPermission;
+import java.security.Permission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * hashCode and equals of the permission types. The hashCode values are cached by the permissions, so the first call
+ * on a fresh permission is measured separately from later calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EqualsHashCodeBenchmark {
+
+    @Param({ "WebResource", "WebUserData", "EJBMethod", "WebRoleRef", "EJBRoleRef" })
+    private String type;
+
+    private Permission permission;
+    private Permission equalPermission;
+    private Permission otherPermission;
+
+    private Permission freshPermission;
+
+    @Setup
+    public void setup() {
+        permission = create(type, false);
+        equalPermission = create(type, false);
+        otherPermission = create(type, true);
+
+        // Compute the cached hash codes before measuring
+        permission.hashCode();
+        equalPermission.hashCode();
+        otherPermission.hashCode();
+    }
+
+    @Setup(Level.Invocation)
+    public void createFreshPermission() {
+        freshPermission = create(type, false);
+    }
+
+    @Benchmark
+    public int hashCodeFirstCall() {
+        return freshPermission.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeCached() {
+        return permission.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsEqual() {
+        return permission.equals(equalPermission);
+    }
+
+    @Benchmark
+    public boolean equalsOther() {
+        return permission.equals(otherPermission);
+    }
+
+    static Permission create(String type, boolean other) {
+        switch (type) {
+        case "WebResource":
+            return new WebResourcePermission(ConstructionBenchmark.QUALIFIED_PATTERN, other ? "GET" : "GET,POST");
+        case "WebUserData":
+            return new WebUserDataPermission(ConstructionBenchmark.QUALIFIED_PATTERN, other ? "GET:INTEGRAL" : "GET:CONFIDENTIAL");
+        case "EJBMethod":
+            return new EJBMethodPermission("CartBean", other ? "checkout,Remote,int" : "checkout,Local,java.lang.String,int");
+        case "WebRoleRef":
+            return new WebRoleRefPermission("CartServlet", other ? "employee" : "manager");
+        case "EJBRoleRef":
+            return new EJBRoleRefPermission("CartBean", other ? "employee" : "manager");
+        default:
+            throw new IllegalArgumentException(type);
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import jakarta.security.jacc.EJBMethodPermission;
+import jakarta.security.jacc.EJBRoleRefPermission;
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.security.jacc.WebRoleRefPermission;
+import jakarta.security.jacc.WebUserDataPermission;
+import java.security.Permission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Permission.implies of the permission types, for a granted permission that implies the checked permission (hit)
+ * and one that does not (miss). The checked permissions are created as a container would create them for a request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ImpliesBenchmark {
+
+    private Permission grantedWebResource;
+    private Permission hitWebResource;
+    private Permission missWebResource;
+
+    private Permission grantedWebUserData;
+    private Permission hitWebUserData;
+    private Permission missWebUserData;
+
+    private Permission grantedEjbMethod;
+    private Permission hitEjbMethod;
+    private Permission missEjbMethod;
+
+    private Permission grantedWebRoleRef;
+    private Permission hitWebRoleRef;
+    private Permission missWebRoleRef;
+
+    private Permission grantedEjbRoleRef;
+    private Permission hitEjbRoleRef;
+    private Permission missEjbRoleRef;
+
+    @Setup
+    public void setup() {
+        grantedWebResource = new WebResourcePermission(ConstructionBenchmark.QUALIFIED_PATTERN, "GET,POST");
+        hitWebResource = new WebResourcePermission(StubRequests.request("/app", "/app/shop/products/42", "GET", false));
+        missWebResource = new WebResourcePermission(StubRequests.request("/app", "/app/shop/cart/checkout", "GET", false));
+
+        grantedWebUserData = new WebUserDataPermission(ConstructionBenchmark.QUALIFIED_PATTERN, "GET,POST:CONFIDENTIAL");
+        hitWebUserData = new WebUserDataPermission(StubRequests.request("/app", "/app/shop/products/42", "POST", true));
+        missWebUserData = new WebUserDataPermission(StubRequests.request("/app", "/app/shop/products/42", "POST", false));
+
+        grantedEjbMethod = new EJBMethodPermission("CartBean", "checkout,Local");
+        hitEjbMethod = new EJBMethodPermission("CartBean", "checkout,Local,java.lang.String,int");
+        missEjbMethod = new EJBMethodPermission("CartBean", "checkout,Remote,java.lang.String,int");
+
+        grantedWebRoleRef = new WebRoleRefPermission("CartServlet", "manager");
+        hitWebRoleRef = new WebRoleRefPermission("CartServlet", "manager");
+        missWebRoleRef = new WebRoleRefPermission("CartServlet", "employee");
+
+        grantedEjbRoleRef = new EJBRoleRefPermission("CartBean", "manager");
+        hitEjbRoleRef = new EJBRoleRefPermission("CartBean", "manager");
+        missEjbRoleRef = new EJBRoleRefPermission("CartBean", "employee");
+    }
+
+    @Benchmark
+    public boolean webResourceHit() {
+        return grantedWebResource.implies(hitWebResource);
+    }
+
+    @Benchmark
+    public boolean webResourceMiss() {
+        return grantedWebResource.implies(missWebResource);
+    }
+
+    @Benchmark
+    public boolean webUserDataHit() {
+        return grantedWebUserData.implies(hitWebUserData);
+    }
+
+    @Benchmark
+    public boolean webUserDataMiss() {
+        return grantedWebUserData.implies(missWebUserData);
+    }
+
+    @Benchmark
+    public boolean ejbMethodHit() {
+        return grantedEjbMethod.implies(hitEjbMethod);
+    }
+
+    @Benchmark
+    public boolean ejbMethodMiss() {
+        return grantedEjbMethod.implies(missEjbMethod);
+    }
+
+    @Benchmark
+    public boolean webRoleRefHit() {
+        return grantedWebRoleRef.implies(hitWebRoleRef);
+    }
+
+    @Benchmark
+    public boolean webRoleRefMiss() {
+        return grantedWebRoleRef.implies(missWebRoleRef);
+    }
+
+    @Benchmark
+    public boolean ejbRoleRefHit() {
+        return grantedEjbRoleRef.implies(hitEjbRoleRef);
+    }
+
+    @Benchmark
+    public boolean ejbRoleRefMiss() {
+        return grantedEjbRoleRef.implies(missEjbRoleRef);
+    }
+
+}
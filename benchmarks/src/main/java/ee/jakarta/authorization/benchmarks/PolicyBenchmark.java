@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import ee.jakarta.authorization.benchmarks.PolicyGenerator.Request;
+import jakarta.security.jacc.Policy;
+import jakarta.security.jacc.PolicyConfiguration;
+import jakarta.security.jacc.PolicyConfigurationFactory;
+import jakarta.security.jacc.PolicyContext;
+import jakarta.security.jacc.PolicyContextException;
+import jakarta.security.jacc.PolicyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * End-to-end Policy.implies against the installed PolicyConfigurationFactory and PolicyFactory, using a policy and
+ * a request trace produced by {@link PolicyGenerator}.
+ *
+ * <p>
+ * The provider is selected by the standard system properties, for instance via
+ * <code>-jvmArgsAppend -Djakarta.security.jacc.PolicyFactory.provider=...</code>; when they are not set the
+ * in-memory reference provider of this module is used. Throughput and the latency distribution (including p99)
+ * are measured; run with <code>-t</code>, or via {@link PolicyBenchmarks}, to vary the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyBenchmark {
+
+    private static final int TRACE_LENGTH = 1 << 16;
+
+    @Param({ "1000", "10000" })
+    private int urlPatterns;
+
+    @Param({ "200" })
+    private int roles;
+
+    @Param({ "100" })
+    private int beans;
+
+    @Param({ "1.0" })
+    private double skew;
+
+    @Param({ "42" })
+    private long seed;
+
+    private String contextID;
+    private Policy policy;
+    private Request[] trace;
+
+    @Setup
+    public void setup() throws PolicyContextException {
+        installReferenceProviderIfUnset();
+
+        contextID = "benchmark-" + seed + "-" + urlPatterns + "-" + roles + "-" + beans;
+
+        PolicyGenerator generator = new PolicyGenerator(seed, urlPatterns, roles, beans);
+
+        PolicyConfiguration policyConfiguration = PolicyConfigurationFactory.get().getPolicyConfiguration(contextID, true);
+        generator.populate(policyConfiguration);
+        policyConfiguration.commit();
+
+        policy = PolicyFactory.getPolicyFactory().getPolicy(contextID);
+        trace = generator.trace(TRACE_LENGTH, skew, seed);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        @Setup
+        public void setup(PolicyBenchmark benchmark, ThreadParams threadParams) {
+            PolicyContext.setContextID(benchmark.contextID);
+
+            // Spread the threads over the trace
+            next = threadParams.getThreadIndex() * (TRACE_LENGTH / Math.max(1, threadParams.getThreadCount()));
+        }
+    }
+
+    @Benchmark
+    public boolean implies(Cursor cursor) {
+        Request request = trace[cursor.next++ & (TRACE_LENGTH - 1)];
+        return policy.implies(request.getPermission(), request.getSubject());
+    }
+
+    static void installReferenceProviderIfUnset() {
+        if (System.getProperty(PolicyConfigurationFactory.FACTORY_NAME) == null) {
+            System.setProperty(PolicyConfigurationFactory.FACTORY_NAME, ReferencePolicyConfigurationFactory.class.getName());
+        }
+
+        if (System.getProperty(PolicyFactory.FACTORY_NAME) == null) {
+            System.setProperty(PolicyFactory.FACTORY_NAME, ReferencePolicyFactory.class.getName());
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link PolicyBenchmark} for an increasing number of threads, and prints a summary of the throughput and the
+ * p99 latency per thread count. Additional JMH command line options, such as <code>-p urlPatterns=5000</code> or
+ * <code>-jvmArgsAppend</code> to select a provider, are passed on.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar ee.jakarta.authorization.benchmarks.PolicyBenchmarks -Dthreads=1,2,4,8
+ * </pre>
+ */
+public final class PolicyBenchmarks {
+
+    private PolicyBenchmarks() {
+    }
+
+    public static void main(String[] arguments) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(arguments);
+
+        List<String> summary = new ArrayList<>();
+        for (String threads : System.getProperty("threads", "1,2,4,8").split(",")) {
+            Collection<RunResult> results = new Runner(
+                new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .include(PolicyBenchmark.class.getName() + ".implies")
+                    .threads(Integer.parseInt(threads.trim()))
+                    .build())
+                .run();
+
+            for (RunResult result : results) {
+                Result<?> primary = result.getPrimaryResult();
+                String parameters = result.getParams().getParam("urlPatterns") + " patterns";
+
+                if (result.getParams().getMode() == Mode.SampleTime) {
+                    summary.add(String.format("%3s threads  %-15s p50 %10.3f  p99 %10.3f  p99.9 %10.3f %s",
+                        threads.trim(), parameters,
+                        primary.getStatistics().getPercentile(50),
+                        primary.getStatistics().getPercentile(99),
+                        primary.getStatistics().getPercentile(99.9),
+                        primary.getScoreUnit()));
+                } else {
+                    summary.add(String.format("%3s threads  %-15s throughput %12.3f %s",
+                        threads.trim(), parameters, primary.getScore(), primary.getScoreUnit()));
+                }
+            }
+        }
+
+        System.out.println();
+        summary.forEach(System.out::println);
+    }
+
+}
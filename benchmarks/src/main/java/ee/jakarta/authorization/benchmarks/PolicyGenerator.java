@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import jakarta.security.jacc.EJBMethodPermission;
+import jakarta.security.jacc.EJBRoleRefPermission;
+import jakarta.security.jacc.PolicyConfiguration;
+import jakarta.security.jacc.PolicyContextException;
+import jakarta.security.jacc.SecurityConstraint;
+import jakarta.security.jacc.SecurityConstraintTranslator;
+import jakarta.security.jacc.WebResourceCollection;
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.security.jacc.WebRoleRefPermission;
+import jakarta.security.jacc.WebUserDataPermission;
+import java.security.Permission;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import javax.security.auth.Subject;
+
+/**
+ * Generates a large, realistic policy and matching request traces from a seed.
+ *
+ * <p>
+ * The policy consists of servlet security constraints over a mix of exact, path prefix and extension URL patterns,
+ * where path prefix patterns are nested so that the translation yields qualifying pattern lists, translated via
+ * {@link SecurityConstraintTranslator}. Added to that are EJB method permissions, and Servlet and EJB role reference
+ * permissions. The same seed always yields the same policy, so results of different providers can be compared.
+ *
+ * <p>
+ * Traces are sequences of permission checks with a Zipf distributed popularity over the resources and the callers,
+ * as typically seen in production traffic.
+ */
+public final class PolicyGenerator {
+
+    private static final String[] EXTENSIONS = { "jsp", "html", "xhtml", "json", "css", "js", "png", "pdf", "xml", "txt" };
+    private static final String[] METHODS = { "GET", "POST", "PUT", "DELETE", "HEAD", "OPTIONS", "PATCH" };
+    private static final String[] INTERFACES = { "Local", "Remote", "LocalHome", "Home", "ServiceEndpoint" };
+
+    private static final int METHODS_PER_BEAN = 8;
+    private static final int REFERENCES_PER_COMPONENT = 4;
+    private static final int SERVLETS = 50;
+
+    private final long seed;
+    private final List<String> roles = new ArrayList<>();
+    private final List<String> urlPatterns = new ArrayList<>();
+    private final List<SecurityConstraint> securityConstraints = new ArrayList<>();
+    private final int beans;
+
+    /**
+     * @param seed the seed from which the policy is generated
+     * @param urlPatternCount the number of distinct URL patterns in the security constraints
+     * @param roleCount the number of roles
+     * @param beanCount the number of enterprise beans with method permissions and role references
+     */
+    public PolicyGenerator(long seed, int urlPatternCount, int roleCount, int beanCount) {
+        this.seed = seed;
+        this.beans = beanCount;
+
+        for (int i = 0; i < roleCount; i++) {
+            roles.add("role" + i);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        generateUrlPatterns(random, urlPatternCount);
+        generateSecurityConstraints(random);
+    }
+
+    /**
+     * Adds the generated policy statements to the given policy configuration, which must be in the "open" state.
+     *
+     * @param policyConfiguration the policy configuration to populate
+     * @throws PolicyContextException if the policy configuration throws a PolicyContextException
+     */
+    public void populate(PolicyConfiguration policyConfiguration) throws PolicyContextException {
+        new SecurityConstraintTranslator(securityConstraints, new LinkedHashSet<>(roles), false).translate(policyConfiguration);
+
+        SplittableRandom random = new SplittableRandom(seed + 1);
+
+        for (int bean = 0; bean < beans; bean++) {
+            for (int method = 0; method < METHODS_PER_BEAN; method++) {
+                EJBMethodPermission permission = new EJBMethodPermission(beanName(bean), methodActions(method, null));
+
+                int kind = random.nextInt(20);
+                if (kind == 0) {
+                    policyConfiguration.addToExcludedPolicy(permission);
+                } else if (kind < 4) {
+                    policyConfiguration.addToUncheckedPolicy(permission);
+                } else {
+                    for (String role : randomRoles(random)) {
+                        policyConfiguration.addToRole(role, permission);
+                    }
+                }
+            }
+
+            for (int reference = 0; reference < REFERENCES_PER_COMPONENT; reference++) {
+                String role = roles.get(random.nextInt(roles.size()));
+                policyConfiguration.addToRole(role, new EJBRoleRefPermission(beanName(bean), role));
+            }
+        }
+
+        for (int servlet = 0; servlet < SERVLETS; servlet++) {
+            for (int reference = 0; reference < REFERENCES_PER_COMPONENT; reference++) {
+                String role = roles.get(random.nextInt(roles.size()));
+                policyConfiguration.addToRole(role, new WebRoleRefPermission(servletName(servlet), role));
+            }
+        }
+    }
+
+    /**
+     * Generates a trace of permission checks.
+     *
+     * @param length the number of checks in the trace
+     * @param skew the exponent of the Zipf distribution of the popularity of resources and callers
+     * @param traceSeed the seed from which the trace is generated
+     * @return the trace
+     */
+    public Request[] trace(int length, double skew, long traceSeed) {
+        SplittableRandom random = new SplittableRandom(traceSeed);
+
+        List<Subject> callers = generateCallers(random, Math.max(16, roles.size() * 4));
+        ZipfDistribution callerPopularity = new ZipfDistribution(callers.size(), skew);
+        ZipfDistribution patternPopularity = new ZipfDistribution(urlPatterns.size(), skew);
+        ZipfDistribution beanPopularity = new ZipfDistribution(Math.max(1, beans), skew);
+
+        Request[] trace = new Request[length];
+        for (int i = 0; i < length; i++) {
+            Subject caller = callers.get(callerPopularity.sample(random));
+
+            Permission permission;
+            int kind = random.nextInt(100);
+            if (kind < 60 || beans == 0 && kind < 80) {
+                permission = new WebResourcePermission(requestPath(random, urlPatterns.get(patternPopularity.sample(random))), METHODS[random.nextInt(3)]);
+            } else if (kind < 80) {
+                String actions = METHODS[random.nextInt(3)] + (random.nextBoolean() ? ":CONFIDENTIAL" : "");
+                permission = new WebUserDataPermission(requestPath(random, urlPatterns.get(patternPopularity.sample(random))), actions);
+            } else if (kind < 95 && beans > 0) {
+                int bean = beanPopularity.sample(random);
+                permission = new EJBMethodPermission(beanName(bean), methodActions(random.nextInt(METHODS_PER_BEAN), random));
+            } else if (beans > 0 && random.nextBoolean()) {
+                permission = new EJBRoleRefPermission(beanName(beanPopularity.sample(random)), roles.get(random.nextInt(roles.size())));
+            } else {
+                permission = new WebRoleRefPermission(servletName(random.nextInt(SERVLETS)), roles.get(random.nextInt(roles.size())));
+            }
+
+            trace[i] = new Request(permission, caller);
+        }
+
+        return trace;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public List<String> getUrlPatterns() {
+        return urlPatterns;
+    }
+
+    public List<SecurityConstraint> getSecurityConstraints() {
+        return securityConstraints;
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private void generateUrlPatterns(SplittableRandom random, int count) {
+        Set<String> patterns = new LinkedHashSet<>();
+        List<String> directories = new ArrayList<>();
+        directories.add("");
+
+        while (patterns.size() < count) {
+            int kind = random.nextInt(100);
+            if (kind < 15) {
+                patterns.add("*." + EXTENSIONS[random.nextInt(EXTENSIONS.length)]);
+                continue;
+            }
+
+            // Nest below an existing directory, so that path prefix patterns qualify each other
+            String directory = directories.get(random.nextInt(directories.size())) + "/" + segment(random);
+            if (kind < 50 && directory.chars().filter(c -> c == '/').count() < 6) {
+                directories.add(directory);
+                patterns.add(directory + "/*");
+            } else {
+                patterns.add(directory + (random.nextInt(4) == 0 ? "." + EXTENSIONS[random.nextInt(EXTENSIONS.length)] : ""));
+            }
+        }
+
+        urlPatterns.addAll(patterns);
+    }
+
+    private void generateSecurityConstraints(SplittableRandom random) {
+        int next = 0;
+        while (next < urlPatterns.size()) {
+            int size = Math.min(1 + random.nextInt(3), urlPatterns.size() - next);
+            Set<String> patterns = new LinkedHashSet<>(urlPatterns.subList(next, next + size));
+            next += size;
+
+            // Occasionally add a pattern of another constraint, so methods get combined
+            if (next > 10 && random.nextInt(5) == 0) {
+                patterns.add(urlPatterns.get(random.nextInt(next)));
+            }
+
+            WebResourceCollection collection;
+            int methods = random.nextInt(100);
+            if (methods < 60) {
+                collection = new WebResourceCollection(patterns);
+            } else if (methods < 85) {
+                collection = new WebResourceCollection(patterns, randomMethods(random), null);
+            } else {
+                collection = new WebResourceCollection(patterns, null, randomMethods(random));
+            }
+
+            Set<String> rolesAllowed;
+            int kind = random.nextInt(100);
+            if (kind < 5) {
+                rolesAllowed = Set.of();
+            } else if (kind < 20) {
+                rolesAllowed = null;
+            } else if (kind < 23) {
+                rolesAllowed = Set.of("*");
+            } else {
+                rolesAllowed = randomRoles(random);
+            }
+
+            securityConstraints.add(new SecurityConstraint(List.of(collection), rolesAllowed, random.nextInt(5) == 0 ? SecurityConstraint.CONFIDENTIAL : null));
+        }
+    }
+
+    private List<Subject> generateCallers(SplittableRandom random, int count) {
+        List<Subject> callers = new ArrayList<>();
+
+        // The unauthenticated caller
+        callers.add(new Subject());
+
+        ZipfDistribution rolePopularity = new ZipfDistribution(roles.size(), 1.0);
+        for (int i = 1; i < count; i++) {
+            Subject subject = new Subject();
+            subject.getPrincipals().add(new BenchmarkPrincipal("user" + i));
+
+            int roleCount = 1 + random.nextInt(5);
+            for (int j = 0; j < roleCount; j++) {
+                subject.getPrincipals().add(new BenchmarkPrincipal(roles.get(rolePopularity.sample(random))));
+            }
+
+            subject.setReadOnly();
+            callers.add(subject);
+        }
+
+        return callers;
+    }
+
+    private Set<String> randomRoles(SplittableRandom random) {
+        Set<String> randomRoles = new LinkedHashSet<>();
+
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            randomRoles.add(roles.get(random.nextInt(roles.size())));
+        }
+
+        return randomRoles;
+    }
+
+    private static Set<String> randomMethods(SplittableRandom random) {
+        Set<String> methods = new LinkedHashSet<>();
+
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            methods.add(METHODS[random.nextInt(METHODS.length)]);
+        }
+
+        return methods;
+    }
+
+    private static String requestPath(SplittableRandom random, String urlPattern) {
+        if (urlPattern.startsWith("*.")) {
+            return "/pages/p" + random.nextInt(1000) + urlPattern.substring(1);
+        }
+
+        if (urlPattern.endsWith("/*")) {
+            return urlPattern.substring(0, urlPattern.length() - 1) + segment(random);
+        }
+
+        return urlPattern;
+    }
+
+    private static String segment(SplittableRandom random) {
+        return Character.toString('a' + random.nextInt(26)) + random.nextInt(100);
+    }
+
+    private static String beanName(int bean) {
+        return "Bean" + bean;
+    }
+
+    private static String servletName(int servlet) {
+        return "Servlet" + servlet;
+    }
+
+    private static String methodActions(int method, SplittableRandom random) {
+        String methodInterface = random == null ? "" : INTERFACES[random.nextInt(2)];
+        return "method" + method + "," + methodInterface + (method % 2 == 0 ? ",java.lang.String,int" : ",long");
+    }
+
+    /**
+     * A single permission check of a trace.
+     */
+    public static final class Request {
+
+        private final Permission permission;
+        private final Subject subject;
+
+        Request(Permission permission, Subject subject) {
+            this.permission = permission;
+            this.subject = subject;
+        }
+
+        public Permission getPermission() {
+            return permission;
+        }
+
+        public Subject getSubject() {
+            return subject;
+        }
+    }
+
+    /**
+     * A principal of a generated caller. Callers have a principal for their name and one for each of their roles.
+     */
+    public static final class BenchmarkPrincipal implements Principal {
+
+        private final String name;
+
+        public BenchmarkPrincipal(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof BenchmarkPrincipal && name.equals(((BenchmarkPrincipal) object).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+}
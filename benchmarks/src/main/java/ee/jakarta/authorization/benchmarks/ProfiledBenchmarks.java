@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by the command line arguments with the GC profiler enabled, so that the allocation
+ * rate and the bytes allocated per operation (gc.alloc.rate.norm) are reported next to the timings.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar ee.jakarta.authorization.benchmarks.ProfiledBenchmarks Construction
+ * </pre>
+ */
+public final class ProfiledBenchmarks {
+
+    private ProfiledBenchmarks() {
+    }
+
+    public static void main(String[] arguments) throws RunnerException, CommandLineOptionException {
+        new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(arguments))
+                .addProfiler(GCProfiler.class)
+                .build())
+            .run();
+    }
+
+}
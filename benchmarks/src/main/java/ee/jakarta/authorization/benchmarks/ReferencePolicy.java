@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import jakarta.security.jacc.Policy;
+import jakarta.security.jacc.PolicyConfiguration;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.security.Principal;
+import java.util.Collections;
+import javax.security.auth.Subject;
+
+/**
+ * Policy of the in-memory reference provider. It evaluates the policy statements of its PolicyConfiguration with the
+ * standard PermissionCollection.implies, and uses the names of the principals of a Subject as its roles, as is the
+ * case for the callers generated by {@link PolicyGenerator}.
+ */
+public class ReferencePolicy implements Policy {
+
+    private final PolicyConfiguration policyConfiguration;
+
+    public ReferencePolicy(PolicyConfiguration policyConfiguration) {
+        this.policyConfiguration = policyConfiguration;
+    }
+
+    @Override
+    public boolean isExcluded(Permission permissionToBeChecked) {
+        return policyConfiguration.getExcludedPermissions().implies(permissionToBeChecked);
+    }
+
+    @Override
+    public boolean isUnchecked(Permission permissionToBeChecked) {
+        return policyConfiguration.getUncheckedPermissions().implies(permissionToBeChecked);
+    }
+
+    @Override
+    public boolean impliesByRole(Permission permissionToBeChecked, Subject subject) {
+        for (Principal principal : subject.getPrincipals()) {
+            PermissionCollection rolePermissions = policyConfiguration.getPerRolePermissions().get(principal.getName());
+            if (rolePermissions != null && rolePermissions.implies(permissionToBeChecked)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public PermissionCollection getPermissionCollection(Subject subject) {
+        Permissions permissions = new Permissions();
+
+        for (Permission permission : Collections.list(policyConfiguration.getUncheckedPermissions().elements())) {
+            permissions.add(permission);
+        }
+
+        for (Principal principal : subject.getPrincipals()) {
+            PermissionCollection rolePermissions = policyConfiguration.getPerRolePermissions().get(principal.getName());
+            if (rolePermissions != null) {
+                for (Permission permission : Collections.list(rolePermissions.elements())) {
+                    permissions.add(permission);
+                }
+            }
+        }
+
+        return permissions;
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import jakarta.security.jacc.PolicyConfiguration;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Straightforward PolicyConfiguration of the reference provider, keeping the policy statements in
+ * java.security.Permissions collections.
+ */
+public class ReferencePolicyConfiguration implements PolicyConfiguration {
+
+    private final String contextID;
+
+    private volatile Permissions excludedPermissions = new Permissions();
+    private volatile Permissions uncheckedPermissions = new Permissions();
+    private final Map<String, PermissionCollection> perRolePermissions = new ConcurrentHashMap<>();
+
+    private volatile boolean inService;
+
+    public ReferencePolicyConfiguration(String contextID) {
+        this.contextID = contextID;
+    }
+
+    @Override
+    public String getContextID() {
+        return contextID;
+    }
+
+    @Override
+    public void addToRole(String roleName, Permission permission) {
+        checkOpen();
+        perRolePermissions.computeIfAbsent(roleName, e -> new Permissions())
+                          .add(permission);
+    }
+
+    @Override
+    public void addToUncheckedPolicy(Permission permission) {
+        checkOpen();
+        uncheckedPermissions.add(permission);
+    }
+
+    @Override
+    public void addToExcludedPolicy(Permission permission) {
+        checkOpen();
+        excludedPermissions.add(permission);
+    }
+
+    @Override
+    public Map<String, PermissionCollection> getPerRolePermissions() {
+        return perRolePermissions;
+    }
+
+    @Override
+    public PermissionCollection getUncheckedPermissions() {
+        return uncheckedPermissions;
+    }
+
+    @Override
+    public PermissionCollection getExcludedPermissions() {
+        return excludedPermissions;
+    }
+
+    @Override
+    public void removeRole(String roleName) {
+        checkOpen();
+        if ("*".equals(roleName)) {
+            perRolePermissions.clear();
+        } else {
+            perRolePermissions.remove(roleName);
+        }
+    }
+
+    @Override
+    public void removeUncheckedPolicy() {
+        checkOpen();
+        uncheckedPermissions = new Permissions();
+    }
+
+    @Override
+    public void removeExcludedPolicy() {
+        checkOpen();
+        excludedPermissions = new Permissions();
+    }
+
+    @Override
+    public void linkConfiguration(PolicyConfiguration link) {
+        checkOpen();
+    }
+
+    @Override
+    public void delete() {
+        inService = false;
+        perRolePermissions.clear();
+        uncheckedPermissions = new Permissions();
+        excludedPermissions = new Permissions();
+    }
+
+    @Override
+    public void commit() {
+        inService = true;
+    }
+
+    @Override
+    public boolean inService() {
+        return inService;
+    }
+
+    void open() {
+        inService = false;
+    }
+
+    private void checkOpen() {
+        if (inService) {
+            throw new UnsupportedOperationException("Policy configuration " + contextID + " is in service");
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import jakarta.security.jacc.Policy;
+import jakarta.security.jacc.PolicyConfigurationFactory;
+import jakarta.security.jacc.PolicyFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PolicyFactory of the in-memory reference provider, which the benchmarks install when no provider has been
+ * configured via the <code>jakarta.security.jacc.PolicyFactory.provider</code> system property.
+ */
+public class ReferencePolicyFactory extends PolicyFactory {
+
+    private final Map<String, Policy> policies = new ConcurrentHashMap<>();
+
+    @Override
+    public Policy getPolicy(String contextId) {
+        return policies.computeIfAbsent(contextId,
+            e -> new ReferencePolicy(PolicyConfigurationFactory.get().getPolicyConfiguration(contextId)));
+    }
+
+    @Override
+    public void setPolicy(String contextId, Policy policy) {
+        policies.put(contextId, policy);
+    }
+
+}
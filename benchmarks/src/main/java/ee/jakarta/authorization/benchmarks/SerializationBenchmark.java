@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import jakarta.security.jacc.EJBMethodPermission;
+import jakarta.security.jacc.EJBRoleRefPermission;
+import jakarta.security.jacc.PolicyCodec;
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.security.jacc.WebRoleRefPermission;
+import jakarta.security.jacc.WebUserDataPermission;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization round trips; of a single permission via Java serialization, and of a collection of permissions via
+ * Java serialization and via PolicyCodec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param({ "WebResource", "WebUserData", "EJBMethod", "WebRoleRef", "EJBRoleRef" })
+    private String type;
+
+    private Permission permission;
+    private PermissionCollection permissions;
+
+    @Setup
+    public void setup() {
+        permission = EqualsHashCodeBenchmark.create(type, false);
+
+        // Permissions must not contain equal but distinct instances, as java.security.Permissions
+        // cannot deserialize those
+        permissions = new Permissions();
+        for (int i = 0; i < 100; i++) {
+            permissions.add(create(type, i));
+        }
+    }
+
+    @Benchmark
+    public Object javaSerializationPermission() throws IOException, ClassNotFoundException {
+        return roundTrip(permission);
+    }
+
+    @Benchmark
+    public Object javaSerializationCollection() throws IOException, ClassNotFoundException {
+        return roundTrip(permissions);
+    }
+
+    @Benchmark
+    public Object policyCodecCollection() {
+        return PolicyCodec.decodePermissions(PolicyCodec.encode(permissions));
+    }
+
+    private static Permission create(String type, int i) {
+        switch (type) {
+        case "WebResource":
+            return new WebResourcePermission("/shop/" + i + "/*:/shop/" + i + "/cart", "GET,POST");
+        case "WebUserData":
+            return new WebUserDataPermission("/shop/" + i + "/*:/shop/" + i + "/cart", "GET:CONFIDENTIAL");
+        case "EJBMethod":
+            return new EJBMethodPermission("CartBean" + i, "checkout,Local,java.lang.String,int");
+        case "WebRoleRef":
+            return new WebRoleRefPermission("CartServlet", "role" + i);
+        case "EJBRoleRef":
+            return new EJBRoleRefPermission("CartBean", "role" + i);
+        default:
+            throw new IllegalArgumentException(type);
+        }
+    }
+
+    private static Object roundTrip(Object object) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(object);
+        }
+
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return inputStream.readObject();
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.benchmarks;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates minimal HttpServletRequest instances, implementing only the methods used by the permission constructors.
+ */
+public final class StubRequests {
+
+    private StubRequests() {
+    }
+
+    public static HttpServletRequest request(String contextPath, String requestURI, String method, boolean secure) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+            StubRequests.class.getClassLoader(),
+            new Class<?>[] { HttpServletRequest.class },
+            (proxy, invokedMethod, arguments) -> {
+                switch (invokedMethod.getName()) {
+                case "getContextPath":
+                    return contextPath;
+                case "getRequestURI":
+                    return requestURI;
+                case "getMethod":
+                    return method;
+                case "isSecure":
+                    return secure;
+                case "toString":
+                    return method + " " + requestURI;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == arguments[0];
+                default:
+                    throw new UnsupportedOperationException(invokedMethod.getName());
+                }
+            });
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.jcstress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import jakarta.security.jacc.WebResourcePermission;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZ_Result;
+
+/**
+ * Threads concurrently obtain the lazily computed actions of shared permissions. The HttpMethodSpec of a permission
+ * with extension methods is created per permission, so every instance races on its first computation.
+ */
+@JCStressTest
+@Description("Concurrent HttpMethodSpec.getActions on a shared spec")
+@Outcome(id = "true, true, true", expect = ACCEPTABLE, desc = "All threads see the complete actions")
+@Outcome(expect = FORBIDDEN, desc = "A thread saw missing or partially computed actions")
+@State
+public class HttpMethodSpecActionsTest {
+
+    private static final String ACTIONS = new WebResourcePermission("/a", "POST,X-ACTIONS,GET").getActions();
+    private static final String EXCEPTION_ACTIONS = new WebResourcePermission("/a", "!X-ACTIONS,GET").getActions();
+
+    private final WebResourcePermission permission = new WebResourcePermission("/a", "POST,X-ACTIONS,GET");
+    private final WebResourcePermission exceptionPermission = new WebResourcePermission("/a", "!X-ACTIONS,GET");
+
+    @Actor
+    public void actor1(ZZZ_Result result) {
+        result.r1 = ACTIONS.equals(permission.getActions());
+    }
+
+    @Actor
+    public void actor2(ZZZ_Result result) {
+        result.r2 = ACTIONS.equals(permission.getActions());
+    }
+
+    @Actor
+    public void actor3(ZZZ_Result result) {
+        result.r3 = EXCEPTION_ACTIONS.equals(exceptionPermission.getActions());
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.jcstress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import jakarta.security.jacc.WebResourcePermission;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * Two threads concurrently create permissions with the same two extension methods, in a different order, which
+ * registers the methods in the static extension method table of HttpMethodSpec.
+ *
+ * <p>
+ * Extension methods are never removed from that table, so the names are taken from a bounded pool. The first
+ * instances race on the registration of each name, later instances on the lookup of names that are registered.
+ */
+@JCStressTest
+@Description("Concurrent HttpMethodSpec.getSpec with new extension methods")
+@Outcome(id = "true, true", expect = ACCEPTABLE, desc = "Both permissions have both extension methods, and only those")
+@Outcome(expect = FORBIDDEN, desc = "An extension method was lost, duplicated or mapped to another method")
+@State
+public class HttpMethodSpecExtensionTest {
+
+    private static final int POOL_SIZE = 512;
+    private static final AtomicInteger next = new AtomicInteger();
+
+    private final String first;
+    private final String second;
+
+    private WebResourcePermission permission1;
+    private WebResourcePermission permission2;
+
+    public HttpMethodSpecExtensionTest() {
+        int index = Math.floorMod(next.getAndIncrement(), POOL_SIZE);
+        first = "X-FIRST-" + index;
+        second = "X-SECOND-" + index;
+    }
+
+    @Actor
+    public void actor1() {
+        permission1 = new WebResourcePermission("/a", "GET," + first + "," + second);
+    }
+
+    @Actor
+    public void actor2() {
+        permission2 = new WebResourcePermission("/a", second + "," + first + ",POST");
+    }
+
+    @Arbiter
+    public void arbiter(ZZ_Result result) {
+        result.r1 = hasExtensionMethods(permission1) && hasExtensionMethods(permission2);
+        result.r2 = roundTrips(permission1) && roundTrips(permission2);
+    }
+
+    private boolean hasExtensionMethods(WebResourcePermission permission) {
+        return permission.implies(new WebResourcePermission("/a", first))
+            && permission.implies(new WebResourcePermission("/a", second))
+            && !permission.implies(new WebResourcePermission("/a", "X-OTHER"));
+    }
+
+    private static boolean roundTrips(WebResourcePermission permission) {
+        return new WebResourcePermission("/a", permission.getActions()).equals(permission);
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.jcstress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import jakarta.security.jacc.PolicyContext;
+import jakarta.security.jacc.PolicyContextException;
+import jakarta.security.jacc.PolicyContextHandler;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * One thread replaces the handler registered for a key while other threads obtain the context object for that key.
+ * A reader must either see the handler of a previous instance or the new handler, and must never see no handler.
+ */
+@JCStressTest
+@Description("Concurrent PolicyContext.registerHandler and getContext")
+@Outcome(id = { "0, 0", "0, 1", "1, 0", "1, 1" }, expect = ACCEPTABLE, desc = "Readers see the previous or the new handler")
+@Outcome(expect = FORBIDDEN, desc = "A reader saw no handler, or a handler that is not registered")
+@State
+public class PolicyContextGetContextTest {
+
+    private static final String KEY = PolicyContextGetContextTest.class.getName();
+
+    static {
+        try {
+            PolicyContext.registerHandler(KEY, new Handler(new Object()), true);
+        } catch (PolicyContextException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final Object context = new Object();
+
+    @Actor
+    public void writer() {
+        try {
+            PolicyContext.registerHandler(KEY, new Handler(context), true);
+        } catch (PolicyContextException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Actor
+    public void reader1(II_Result result) {
+        result.r1 = read();
+    }
+
+    @Actor
+    public void reader2(II_Result result) {
+        result.r2 = read();
+    }
+
+    private int read() {
+        try {
+            Object value = PolicyContext.getContext(KEY);
+            if (value == context) {
+                return 1;
+            }
+
+            return value != null ? 0 : -1;
+        } catch (PolicyContextException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    static class Handler implements PolicyContextHandler {
+
+        private final Object context;
+
+        Handler(Object context) {
+            this.context = context;
+        }
+
+        @Override
+        public boolean supports(String key) {
+            return KEY.equals(key);
+        }
+
+        @Override
+        public String[] getKeys() {
+            return new String[] { KEY };
+        }
+
+        @Override
+        public Object getContext(String key, Object data) {
+            return context;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.jcstress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE_INTERESTING;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import jakarta.security.jacc.PolicyContext;
+import jakarta.security.jacc.PolicyContextException;
+import jakarta.security.jacc.PolicyContextHandler;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * Two threads concurrently register a handler for the same key without replacing an existing registration. At most
+ * one of them may succeed.
+ *
+ * <p>
+ * Handlers cannot be unregistered, so the keys are taken from a bounded pool. Only the first instance using a key
+ * can observe a successful registration; later instances find the key registered and both fail.
+ */
+@JCStressTest
+@Description("Concurrent PolicyContext.registerHandler without replace")
+@Outcome(id = { "true, false", "false, true" }, expect = ACCEPTABLE, desc = "Exactly one registration succeeded")
+@Outcome(id = "false, false", expect = ACCEPTABLE, desc = "The key was registered by an earlier instance")
+@Outcome(id = "true, true", expect = ACCEPTABLE_INTERESTING, desc = "Both registrations succeeded: check-then-act race")
+@Outcome(expect = FORBIDDEN, desc = "Other cases are not expected")
+@State
+public class PolicyContextRegisterHandlerTest {
+
+    private static final int POOL_SIZE = 4096;
+    private static final AtomicInteger next = new AtomicInteger();
+
+    private final String key = PolicyContextRegisterHandlerTest.class.getName() + "." + Math.floorMod(next.getAndIncrement(), POOL_SIZE);
+
+    @Actor
+    public void actor1(ZZ_Result result) {
+        result.r1 = register();
+    }
+
+    @Actor
+    public void actor2(ZZ_Result result) {
+        result.r2 = register();
+    }
+
+    private boolean register() {
+        try {
+            PolicyContext.registerHandler(key, new Handler(key), false);
+            return true;
+        } catch (IllegalArgumentException | PolicyContextException e) {
+            return false;
+        }
+    }
+
+    static class Handler implements PolicyContextHandler {
+
+        private final String key;
+
+        Handler(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean supports(String key) {
+            return this.key.equals(key);
+        }
+
+        @Override
+        public String[] getKeys() {
+            return new String[] { key };
+        }
+
+        @Override
+        public Object getContext(String key, Object data) {
+            return null;
+        }
+    }
+
+}
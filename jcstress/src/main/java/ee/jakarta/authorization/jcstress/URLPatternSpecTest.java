@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.jcstress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.security.jacc.WebUserDataPermission;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZZ_Result;
+
+/**
+ * Threads concurrently use shared permissions, racing on the lazily computed canonical form and hash code of their
+ * URLPatternSpec, on the lazily computed pattern types of its URLPatterns and on the hash code of the permission.
+ */
+@JCStressTest
+@Description("Concurrent hashCode, equals and implies on a shared URLPatternSpec")
+@Outcome(id = "true, true, true, true", expect = ACCEPTABLE, desc = "All threads see consistent values")
+@Outcome(expect = FORBIDDEN, desc = "A thread saw an inconsistent hash code, canonical form or pattern type")
+@State
+public class URLPatternSpecTest {
+
+    private static final String SPEC = "/a/*:/a/c:/a/b/*:/a/b/c";
+    private static final String REORDERED_SPEC = "/a/*:/a/b/*:/a/c";
+
+    private static final int HASH_CODE = new WebResourcePermission(SPEC, "GET").hashCode();
+
+    private final WebResourcePermission permission = new WebResourcePermission(SPEC, "GET");
+    private final WebUserDataPermission dataPermission = new WebUserDataPermission(SPEC, "GET");
+
+    @Actor
+    public void actor1(ZZZZ_Result result) {
+        result.r1 = permission.hashCode() == HASH_CODE;
+    }
+
+    @Actor
+    public void actor2(ZZZZ_Result result) {
+        result.r2 = permission.equals(new WebResourcePermission(REORDERED_SPEC, "GET"));
+    }
+
+    @Actor
+    public void actor3(ZZZZ_Result result) {
+        result.r3 = permission.implies(new WebResourcePermission("/a/d", "GET"))
+            && !permission.implies(new WebResourcePermission("/a/b/d", "GET"));
+    }
+
+    @Actor
+    public void actor4(ZZZZ_Result result) {
+        result.r4 = dataPermission.equals(new WebUserDataPermission(REORDERED_SPEC, "GET"))
+            && dataPermission.hashCode() == new WebUserDataPermission(REORDERED_SPEC, "GET").hashCode();
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.jcstress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.security.jacc.EJBMethodPermission;
+import jakarta.security.jacc.Policy;
+import jakarta.security.jacc.PolicyConfiguration;
+import jakarta.security.jacc.PolicyConfigurationFactory;
+import jakarta.security.jacc.PolicyFactory;
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.security.jacc.WebRoleRefPermission;
+import jakarta.security.jacc.WebUserDataPermission;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.security.Permissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.security.auth.Subject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs authorization checks on virtual threads, and asserts that none of them pins its carrier thread.
+ *
+ * <p>
+ * The factories are instantiated while the threads contend for them, and the factory constructors block, which
+ * pins the carrier when the factory is instantiated while holding a monitor. Pinning is detected both from the
+ * output of <code>-Djdk.tracePinnedThreads</code> and from <code>jdk.VirtualThreadPinned</code> JFR events, since
+ * the former is not available on all Java versions.
+ */
+class VirtualThreadPinningTest {
+
+    private static final int TASKS = 1000;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private PrintStream systemOut;
+    private ByteArrayOutputStream pinnedThreadsTrace;
+
+    @BeforeEach
+    void setUp() {
+        PolicyFactory.setPolicyFactory(null);
+        PolicyConfigurationFactory.setPolicyConfigurationFactory(null);
+        System.setProperty(PolicyFactory.FACTORY_NAME, BlockingPolicyFactory.class.getName());
+        System.setProperty(PolicyConfigurationFactory.FACTORY_NAME, BlockingPolicyConfigurationFactory.class.getName());
+
+        // -Djdk.tracePinnedThreads prints the stack of a pinned thread to System.out
+        systemOut = System.out;
+        pinnedThreadsTrace = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(pinnedThreadsTrace, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(systemOut);
+        System.clearProperty(PolicyFactory.FACTORY_NAME);
+        System.clearProperty(PolicyConfigurationFactory.FACTORY_NAME);
+        PolicyFactory.setPolicyFactory(null);
+        PolicyConfigurationFactory.setPolicyConfigurationFactory(null);
+    }
+
+    @Test
+    void authorizationChecksDoNotPin() throws Exception {
+        Path recordingFile = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            List<Future<Boolean>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < TASKS; i++) {
+                    int task = i;
+                    results.add(executor.submit(() -> check(task)));
+                }
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+
+            recording.stop();
+            recording.dump(recordingFile);
+
+            List<RecordedEvent> pinnedEvents = RecordingFile.readAllEvents(recordingFile)
+                                                            .stream()
+                                                            .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                                                            .toList();
+            assertEquals(List.of(), pinnedEvents, "Virtual threads were pinned");
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+
+        assertEquals("", pinnedThreadsTrace.toString(), "Virtual threads were pinned");
+    }
+
+    private static boolean check(int task) throws Exception {
+        PolicyConfigurationFactory.getPolicyConfigurationFactory();
+        Policy policy = PolicyFactory.getPolicyFactory().getPolicy("pinning");
+
+        // Extension methods are registered and looked up, and the actions of each spec are computed lazily
+        String method = "X-PINNING-" + (task % 16);
+        WebResourcePermission resourcePermission = new WebResourcePermission("/a/" + task, "GET," + method);
+        WebUserDataPermission userDataPermission = new WebUserDataPermission("/a/*:/a/b", "!" + method + ":CONFIDENTIAL");
+        resourcePermission.getActions();
+        userDataPermission.getActions();
+
+        roundTrip(resourcePermission);
+        roundTrip(userDataPermission);
+        roundTrip(new WebRoleRefPermission("servlet", "role"));
+        roundTrip(new EJBMethodPermission("bean", "method,Local,java.lang.String"));
+
+        return policy.implies(resourcePermission, new Subject())
+            && !policy.implies(new WebResourcePermission("/b", "GET"), new Subject());
+    }
+
+    private static void roundTrip(Permission permission) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(permission);
+        }
+
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(permission, inputStream.readObject());
+        }
+    }
+
+    private static void block() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class BlockingPolicyFactory extends PolicyFactory {
+
+        private final Policy policy = new Policy() {
+
+            @Override
+            public boolean implies(Permission permissionToBeChecked, Subject subject) {
+                return getPermissionCollection(subject).implies(permissionToBeChecked);
+            }
+
+            @Override
+            public PermissionCollection getPermissionCollection(Subject subject) {
+                Permissions permissions = new Permissions();
+                permissions.add(new WebResourcePermission("/a/*", (String) null));
+                return permissions;
+            }
+        };
+
+        public BlockingPolicyFactory() {
+            block();
+        }
+
+        @Override
+        public Policy getPolicy(String contextId) {
+            return policy;
+        }
+
+        @Override
+        public void setPolicy(String contextId, Policy policy) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    public static class BlockingPolicyConfigurationFactory extends PolicyConfigurationFactory {
+
+        public BlockingPolicyConfigurationFactory() {
+            block();
+        }
+
+        @Override
+        public PolicyConfiguration getPolicyConfiguration(String contextID, boolean remove) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PolicyConfiguration getPolicyConfiguration(String contextID) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PolicyConfiguration getPolicyConfiguration() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean inService(String contextID) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.processor;
+
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+import jakarta.security.jacc.PolicyCodec;
+import jakarta.security.jacc.PolicyConfigurationCollector;
+import jakarta.security.jacc.PolicyContextException;
+import jakarta.security.jacc.SecurityConstraint;
+import jakarta.security.jacc.SecurityConstraintTranslator;
+import jakarta.security.jacc.WebResourceCollection;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+
+/**
+ * Annotation processor that translates the Jakarta Servlet security constraints of a web module at build time.
+ *
+ * <p>
+ * The constraints are obtained from the <code>@ServletSecurity</code> annotations of the classes annotated with
+ * <code>@WebServlet</code>, and from the <code>security-constraint</code> elements of the deployment descriptor when
+ * its location is passed via the <code>jakarta.authorization.webXml</code> option. As defined by Jakarta Servlet,
+ * an annotation has no effect for URL patterns that also occur in a constraint of the deployment descriptor, and
+ * annotations are ignored entirely for a metadata complete deployment descriptor.
+ *
+ * <p>
+ * The resulting policy statements are written, in the format of {@link PolicyCodec}, to the class output as the
+ * resource named by {@link PolicyCodec#PRECOMPILED_POLICY}. The following options are supported:
+ *
+ * <ul>
+ * <li><code>jakarta.authorization.webXml</code>; the path of the deployment descriptor of the web module
+ * <li><code>jakarta.authorization.denyUncoveredHttpMethods</code>; "true" to exclude rather than permit uncovered
+ * HTTP methods, the default is the value of the <code>deny-uncovered-http-methods</code> element of the deployment
+ * descriptor
+ * <li><code>jakarta.authorization.contextID</code>; the policy context identifier recorded in the resource, the
+ * default is the empty string
+ * </ul>
+ */
+@SupportedAnnotationTypes({
+    PolicyProcessor.SERVLET_SECURITY,
+    PolicyProcessor.WEB_SERVLET,
+    PolicyProcessor.DECLARE_ROLES })
+@SupportedOptions({
+    PolicyProcessor.WEB_XML_OPTION,
+    PolicyProcessor.DENY_UNCOVERED_OPTION,
+    PolicyProcessor.CONTEXT_ID_OPTION })
+public class PolicyProcessor extends AbstractProcessor {
+
+    static final String SERVLET_SECURITY = "jakarta.servlet.annotation.ServletSecurity";
+    static final String WEB_SERVLET = "jakarta.servlet.annotation.WebServlet";
+    static final String DECLARE_ROLES = "jakarta.annotation.security.DeclareRoles";
+
+    static final String WEB_XML_OPTION = "jakarta.authorization.webXml";
+    static final String DENY_UNCOVERED_OPTION = "jakarta.authorization.denyUncoveredHttpMethods";
+    static final String CONTEXT_ID_OPTION = "jakarta.authorization.contextID";
+
+    private final List<SecurityConstraint> annotatedConstraints = new ArrayList<>();
+    private final Set<String> declaredRoles = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                if (annotation.getQualifiedName().contentEquals(SERVLET_SECURITY)) {
+                    addServletSecurity(element);
+                } else if (annotation.getQualifiedName().contentEquals(DECLARE_ROLES)) {
+                    addDeclaredRoles(element);
+                }
+            }
+        }
+
+        if (roundEnvironment.processingOver()) {
+            try {
+                writePolicy();
+            } catch (IOException | PolicyContextException | IllegalArgumentException e) {
+                processingEnv.getMessager().printMessage(ERROR, "Could not precompile the authorization policy: " + e);
+            }
+        }
+
+        return false;
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private void writePolicy() throws IOException, PolicyContextException {
+        Map<String, String> options = processingEnv.getOptions();
+
+        List<SecurityConstraint> constraints = new ArrayList<>();
+        Set<String> roles = new LinkedHashSet<>(declaredRoles);
+        boolean denyUncoveredHttpMethods = false;
+
+        WebXml webXml = null;
+        if (options.containsKey(WEB_XML_OPTION)) {
+            webXml = WebXml.read(Path.of(options.get(WEB_XML_OPTION)));
+            constraints.addAll(webXml.getSecurityConstraints());
+            roles.addAll(webXml.getSecurityRoles());
+            denyUncoveredHttpMethods = webXml.isDenyUncoveredHttpMethods();
+        }
+
+        if (webXml == null || !webXml.isMetadataComplete()) {
+            Set<String> descriptorPatterns = new HashSet<>();
+            for (SecurityConstraint constraint : constraints) {
+                for (WebResourceCollection collection : constraint.getWebResourceCollections()) {
+                    descriptorPatterns.addAll(collection.getUrlPatterns());
+                }
+            }
+
+            for (SecurityConstraint constraint : annotatedConstraints) {
+                SecurityConstraint remaining = withoutPatterns(constraint, descriptorPatterns);
+                if (remaining != null) {
+                    constraints.add(remaining);
+                    if (remaining.getRolesAllowed() != null) {
+                        roles.addAll(remaining.getRolesAllowed());
+                    }
+                }
+            }
+        }
+
+        if (options.containsKey(DENY_UNCOVERED_OPTION)) {
+            denyUncoveredHttpMethods = Boolean.parseBoolean(options.get(DENY_UNCOVERED_OPTION));
+        }
+
+        if (constraints.isEmpty()) {
+            return;
+        }
+
+        roles.remove("*");
+
+        PolicyConfigurationCollector policy = new PolicyConfigurationCollector(options.getOrDefault(CONTEXT_ID_OPTION, ""));
+        new SecurityConstraintTranslator(constraints, roles, denyUncoveredHttpMethods)
+            .translate(policy, ForkJoinPool.commonPool());
+
+        FileObject resource = processingEnv.getFiler().createResource(CLASS_OUTPUT, "", PolicyCodec.PRECOMPILED_POLICY);
+        try (OutputStream outputStream = resource.openOutputStream()) {
+            outputStream.write(PolicyCodec.encode(policy));
+        }
+    }
+
+    private void addDeclaredRoles(Element element) {
+        AnnotationMirror declareRoles = mirror(element, DECLARE_ROLES);
+        if (declareRoles == null) {
+            processingEnv.getMessager().printMessage(ERROR, "Could not read the @DeclareRoles annotation", element);
+            return;
+        }
+
+        declaredRoles.addAll(strings(declareRoles, "value"));
+    }
+
+    /**
+     * Translates a <code>@ServletSecurity</code> annotation into security constraints for the URL patterns of the
+     * <code>@WebServlet</code> annotation on the same class, following the rules of the "Mapping @ServletSecurity to
+     * security-constraint" section of Jakarta Servlet.
+     */
+    private void addServletSecurity(Element element) {
+        AnnotationMirror webServlet = mirror(element, WEB_SERVLET);
+        if (webServlet == null) {
+            // Servlets registered via the deployment descriptor are not known at this point
+            return;
+        }
+
+        Set<String> urlPatterns = new LinkedHashSet<>(strings(webServlet, "value"));
+        urlPatterns.addAll(strings(webServlet, "urlPatterns"));
+        if (urlPatterns.isEmpty()) {
+            return;
+        }
+
+        AnnotationMirror servletSecurity = mirror(element, SERVLET_SECURITY);
+        if (servletSecurity == null) {
+            processingEnv.getMessager().printMessage(ERROR, "Could not read the @ServletSecurity annotation", element);
+            return;
+        }
+
+        Set<String> methods = new LinkedHashSet<>();
+        for (AnnotationMirror methodConstraint : mirrors(servletSecurity, "httpMethodConstraints")) {
+            String method = string(methodConstraint, "value");
+            methods.add(method);
+
+            annotatedConstraints.add(constraint(
+                new WebResourceCollection(urlPatterns, Set.of(method), null),
+                methodConstraint, "emptyRoleSemantic"));
+        }
+
+        AnnotationMirror httpConstraint = (AnnotationMirror) values(servletSecurity).get(member(servletSecurity, "value")).getValue();
+
+        // A default @HttpConstraint combined with method constraints leaves the other methods uncovered
+        if (!methods.isEmpty() && isDefault(httpConstraint)) {
+            return;
+        }
+
+        annotatedConstraints.add(constraint(new WebResourceCollection(urlPatterns, null, methods), httpConstraint, "value"));
+    }
+
+    /**
+     * Translates a <code>@HttpConstraint</code> or <code>@HttpMethodConstraint</code>, which hold their empty role
+     * semantic in differently named members.
+     */
+    private SecurityConstraint constraint(WebResourceCollection collection, AnnotationMirror constraint, String emptyRoleSemantic) {
+        List<String> rolesAllowed = strings(constraint, "rolesAllowed");
+
+        Set<String> roles;
+        if (!rolesAllowed.isEmpty()) {
+            roles = new LinkedHashSet<>(rolesAllowed);
+        } else if ("DENY".equals(enumValue(constraint, emptyRoleSemantic))) {
+            roles = Set.of();
+        } else {
+            roles = null;
+        }
+
+        return new SecurityConstraint(List.of(collection), roles, enumValue(constraint, "transportGuarantee"));
+    }
+
+    private boolean isDefault(AnnotationMirror httpConstraint) {
+        return strings(httpConstraint, "rolesAllowed").isEmpty()
+            && "PERMIT".equals(enumValue(httpConstraint, "value"))
+            && "NONE".equals(enumValue(httpConstraint, "transportGuarantee"));
+    }
+
+    private static SecurityConstraint withoutPatterns(SecurityConstraint constraint, Set<String> excludedPatterns) {
+        if (excludedPatterns.isEmpty()) {
+            return constraint;
+        }
+
+        List<WebResourceCollection> collections = new ArrayList<>();
+        for (WebResourceCollection collection : constraint.getWebResourceCollections()) {
+            Set<String> urlPatterns = new LinkedHashSet<>(collection.getUrlPatterns());
+            urlPatterns.removeAll(excludedPatterns);
+            if (!urlPatterns.isEmpty()) {
+                collections.add(new WebResourceCollection(urlPatterns, collection.getHttpMethods(), collection.getHttpMethodOmissions()));
+            }
+        }
+
+        if (collections.isEmpty()) {
+            return null;
+        }
+
+        return new SecurityConstraint(collections, constraint.getRolesAllowed(), constraint.getTransportGuarantee());
+    }
+
+    /**
+     * Returns the annotation of the given type on the given element, including an annotation inherited from a
+     * superclass, such as <code>@ServletSecurity</code>.
+     */
+    private AnnotationMirror mirror(Element element, String annotationType) {
+        for (AnnotationMirror mirror : processingEnv.getElementUtils().getAllAnnotationMirrors(element)) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+
+        return null;
+    }
+
+    private Map<? extends ExecutableElement, ? extends AnnotationValue> values(AnnotationMirror mirror) {
+        return processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+    }
+
+    private ExecutableElement member(AnnotationMirror mirror, String name) {
+        for (ExecutableElement member : values(mirror).keySet()) {
+            if (member.getSimpleName().contentEquals(name)) {
+                return member;
+            }
+        }
+
+        throw new IllegalArgumentException("no member '" + name + "' in " + mirror);
+    }
+
+    private String string(AnnotationMirror mirror, String name) {
+        return (String) values(mirror).get(member(mirror, name)).getValue();
+    }
+
+    private String enumValue(AnnotationMirror mirror, String name) {
+        return ((Element) values(mirror).get(member(mirror, name)).getValue()).getSimpleName().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> strings(AnnotationMirror mirror, String name) {
+        List<String> strings = new ArrayList<>();
+        for (AnnotationValue value : (List<? extends AnnotationValue>) values(mirror).get(member(mirror, name)).getValue()) {
+            strings.add((String) value.getValue());
+        }
+
+        return strings;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AnnotationMirror> mirrors(AnnotationMirror mirror, String name) {
+        List<AnnotationMirror> mirrors = new ArrayList<>();
+        for (AnnotationValue value : (List<? extends AnnotationValue>) values(mirror).get(member(mirror, name)).getValue()) {
+            mirrors.add((AnnotationMirror) value.getValue());
+        }
+
+        return mirrors;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.processor;
+
+import jakarta.security.jacc.SecurityConstraint;
+import jakarta.security.jacc.WebResourceCollection;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * The parts of a Jakarta Servlet deployment descriptor that are relevant for the translation of its security
+ * constraints.
+ */
+final class WebXml {
+
+    private final List<SecurityConstraint> securityConstraints = new ArrayList<>();
+    private final Set<String> securityRoles = new LinkedHashSet<>();
+    private boolean denyUncoveredHttpMethods;
+    private boolean metadataComplete;
+
+    private WebXml() {
+    }
+
+    static WebXml read(Path path) throws IOException {
+        Element webApp;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            webApp = builder.parse(inputStream).getDocumentElement();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Could not parse " + path, e);
+        }
+
+        WebXml webXml = new WebXml();
+        webXml.metadataComplete = Boolean.parseBoolean(webApp.getAttribute("metadata-complete").trim());
+        webXml.denyUncoveredHttpMethods = !children(webApp, "deny-uncovered-http-methods").isEmpty();
+
+        for (Element securityRole : children(webApp, "security-role")) {
+            webXml.securityRoles.addAll(texts(securityRole, "role-name"));
+        }
+
+        for (Element securityConstraint : children(webApp, "security-constraint")) {
+            webXml.securityConstraints.add(securityConstraint(securityConstraint));
+        }
+
+        return webXml;
+    }
+
+    List<SecurityConstraint> getSecurityConstraints() {
+        return securityConstraints;
+    }
+
+    Set<String> getSecurityRoles() {
+        return securityRoles;
+    }
+
+    boolean isDenyUncoveredHttpMethods() {
+        return denyUncoveredHttpMethods;
+    }
+
+    boolean isMetadataComplete() {
+        return metadataComplete;
+    }
+
+    private static SecurityConstraint securityConstraint(Element securityConstraint) {
+        List<WebResourceCollection> collections = new ArrayList<>();
+        for (Element collection : children(securityConstraint, "web-resource-collection")) {
+            collections.add(new WebResourceCollection(
+                new LinkedHashSet<>(texts(collection, "url-pattern")),
+                new LinkedHashSet<>(texts(collection, "http-method")),
+                new LinkedHashSet<>(texts(collection, "http-method-omission"))));
+        }
+
+        Set<String> roles = null;
+        List<Element> authConstraints = children(securityConstraint, "auth-constraint");
+        if (!authConstraints.isEmpty()) {
+            roles = new LinkedHashSet<>();
+            for (Element authConstraint : authConstraints) {
+                roles.addAll(texts(authConstraint, "role-name"));
+            }
+        }
+
+        String transportGuarantee = null;
+        for (Element userDataConstraint : children(securityConstraint, "user-data-constraint")) {
+            for (String text : texts(userDataConstraint, "transport-guarantee")) {
+                transportGuarantee = text;
+            }
+        }
+
+        return new SecurityConstraint(collections, roles, transportGuarantee);
+    }
+
+    private static List<Element> children(Element parent, String localName) {
+        List<Element> children = new ArrayList<>();
+
+        NodeList nodes = parent.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE && localName.equals(localName(node))) {
+                children.add((Element) node);
+            }
+        }
+
+        return children;
+    }
+
+    private static List<String> texts(Element parent, String localName) {
+        List<String> texts = new ArrayList<>();
+        for (Element child : children(parent, localName)) {
+            texts.add(child.getTextContent().trim());
+        }
+
+        return texts;
+    }
+
+    private static String localName(Node node) {
+        return node.getLocalName() != null ? node.getLocalName() : node.getNodeName();
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.authorization.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.security.jacc.PolicyCodec;
+import jakarta.security.jacc.PolicyConfigurationCollector;
+import jakarta.security.jacc.PolicyContextException;
+import jakarta.security.jacc.WebResourcePermission;
+import jakarta.servlet.annotation.ServletSecurity;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PolicyProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void translatesServletSecurityOfServlet() throws IOException, PolicyContextException, URISyntaxException {
+        compile(Map.of(
+            "app.AdminServlet",
+            "package app;\n" +
+            "@jakarta.servlet.annotation.WebServlet(\"/admin\")\n" +
+            "@jakarta.servlet.annotation.ServletSecurity(@jakarta.servlet.annotation.HttpConstraint(rolesAllowed = \"admin\"))\n" +
+            "public class AdminServlet extends jakarta.servlet.http.HttpServlet {}\n"));
+
+        assertTrue(precompiledPolicy().getPerRolePermissions().get("admin").implies(new WebResourcePermission("/admin", "GET")));
+    }
+
+    @Test
+    void translatesInheritedServletSecurity() throws IOException, PolicyContextException, URISyntaxException {
+        compile(Map.of(
+            "app.SecuredServlet",
+            "package app;\n" +
+            "@jakarta.servlet.annotation.ServletSecurity(@jakarta.servlet.annotation.HttpConstraint(rolesAllowed = \"admin\"))\n" +
+            "public abstract class SecuredServlet extends jakarta.servlet.http.HttpServlet {}\n",
+            "app.AdminServlet",
+            "package app;\n" +
+            "@jakarta.servlet.annotation.WebServlet(\"/admin\")\n" +
+            "public class AdminServlet extends SecuredServlet {}\n"));
+
+        assertTrue(precompiledPolicy().getPerRolePermissions().get("admin").implies(new WebResourcePermission("/admin", "GET")));
+    }
+
+
+    // ----------------- Private Methods ---------------------
+
+    private void compile(Map<String, String> sources) throws IOException, URISyntaxException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, List.of(
+                Path.of(ServletSecurity.class.getProtectionDomain().getCodeSource().getLocation().toURI())));
+
+            List<JavaFileObject> compilationUnits = new ArrayList<>();
+            sources.forEach((className, source) -> compilationUnits.add(new Source(className, source)));
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, List.of("-proc:only"), null, compilationUnits);
+            task.setProcessors(List.of(new PolicyProcessor()));
+
+            boolean success = task.call();
+            List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic);
+                }
+            }
+
+            assertEquals(List.of(), errors);
+            assertTrue(success);
+        }
+    }
+
+    private PolicyConfigurationCollector precompiledPolicy() throws IOException, PolicyContextException {
+        PolicyConfigurationCollector policy = new PolicyConfigurationCollector("");
+        PolicyCodec.decode(ByteBuffer.wrap(Files.readAllBytes(output.resolve(PolicyCodec.PRECOMPILED_POLICY))), policy);
+
+        return policy;
+    }
+
+
+    // ----------------- Private Classes ---------------------
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String source;
+
+        Source(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+}